@@ -0,0 +1,101 @@
+package com.niiamatey.portfolio.catalog;
+
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.repository.PortfolioSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of bringing the portfolio data into service as the catalog grows:
+ * mapping a binary catalog against indexing already materialized beans,
+ * and a lookup by id from each. Catalogs are generated once under
+ * {@code target/catalog-benchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class CatalogStartupBenchmark {
+
+    private static final String[] TYPES = {"Microservice", "Full-Stack", "Backend", "Data"};
+    private static final String[] TECHNOLOGIES = {"Java", "Spring Boot", "AWS", "Python", "React", "Docker"};
+
+    @Param({"10", "10000", "1000000"})
+    public int projectCount;
+
+    private Path file;
+    private List<Project> projects;
+    private PortfolioSnapshot mapped;
+    private PortfolioSnapshot heap;
+    private String id;
+
+    @Setup
+    public void setUp() throws Exception {
+        projects = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            projects.add(Project.builder()
+                    .id("project-" + i)
+                    .title("Project " + i)
+                    .type(TYPES[i % TYPES.length])
+                    .description("Generated project number " + i)
+                    .technologies(List.of(TECHNOLOGIES[i % TECHNOLOGIES.length],
+                            TECHNOLOGIES[(i + 1) % TECHNOLOGIES.length]))
+                    .build());
+        }
+        file = Path.of("target", "catalog-benchmark", projectCount + ".catalog");
+        if (!Files.exists(file)) {
+            CatalogWriter.write(file, List.of(), projects, List.of());
+        }
+        mapped = new PortfolioSnapshot(1, PortfolioCatalog.open(file));
+        heap = new PortfolioSnapshot(1, List.of(), projects, List.of());
+        id = "project-" + projectCount / 2;
+    }
+
+    /**
+     * Maps the catalog and reads its header and index keys.
+     */
+    @Benchmark
+    public PortfolioCatalog openCatalog() throws Exception {
+        return PortfolioCatalog.open(file);
+    }
+
+    /**
+     * Builds the heap indexes over projects that are already in memory; the
+     * cost of materializing them in the first place is not included.
+     */
+    @Benchmark
+    public PortfolioSnapshot indexBeans() {
+        return new PortfolioSnapshot(1, List.of(), projects, List.of());
+    }
+
+    /**
+     * Looks up and decodes one project from the mapped catalog.
+     */
+    @Benchmark
+    public Optional<Project> findByIdMapped() {
+        return mapped.findProjectById(id);
+    }
+
+    @Benchmark
+    public Optional<Project> findByIdHeap() {
+        return heap.findProjectById(id);
+    }
+}
@@ -0,0 +1,69 @@
+package com.niiamatey.portfolio.controller;
+
+import com.niiamatey.portfolio.PortfolioApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Cost of rendering the {@code index} Thymeleaf view through the full
+ * Spring MVC stack (controller, model, view resolution and template).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HomepageRenderBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path dataDirectory = Files.createTempDirectory("portfolio-benchmark");
+        context = SpringApplication.run(PortfolioApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.niiamatey.portfolio=WARN",
+                "--portfolio.images.enabled=false",
+                "--portfolio.assets.output-directory=" + dataDirectory.resolve("assets"),
+                "--portfolio.contact.file=" + dataDirectory.resolve("messages.ndjson"),
+                "--portfolio.contact.dead-letter-file=" + dataDirectory.resolve("dead-letter.ndjson"),
+                "--portfolio.access-log.file=" + dataDirectory.resolve("access.log"),
+                "--portfolio.stats.file=" + dataDirectory.resolve("views.json"));
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String renderIndex() throws Exception {
+        return mockMvc.perform(get("/")).andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,152 @@
+package com.niiamatey.portfolio.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.niiamatey.portfolio.config.ApiProperties;
+import com.niiamatey.portfolio.config.PortfolioDataConfig;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.repository.PortfolioSnapshot;
+import com.niiamatey.portfolio.repository.TechnologyMatch;
+import com.niiamatey.portfolio.search.SearchService;
+import com.niiamatey.portfolio.service.ApiEncoding;
+import com.niiamatey.portfolio.service.ApiResponseCache;
+import com.niiamatey.portfolio.service.FieldProjection;
+import com.niiamatey.portfolio.service.FieldProjections;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering GET /api/v1/portfolio: the one-off Jackson serialization
+ * on a cache miss, and the cached path every later request takes. The
+ * projection benchmarks compare writing the project list in full with a
+ * compiled {@code ?fields=} writer, and the encoding benchmarks compare
+ * writing and parsing the portfolio document as JSON and as CBOR.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PortfolioApiBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper cborMapper;
+    private PortfolioApiController controller;
+    private PortfolioSnapshot snapshot;
+    private FieldProjection projection;
+    private byte[] portfolioJson;
+    private byte[] portfolioCbor;
+
+    @Setup
+    public void setUp() {
+        PortfolioDataConfig data = new PortfolioDataConfig();
+        PortfolioRepository repository = new PortfolioRepository(data.skills(), data.projects(), data.experiences());
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        PortfolioMetrics metrics = new PortfolioMetrics(new SimpleMeterRegistry());
+        cborMapper = CBORMapper.builder().findAndAddModules().build();
+        FieldProjections projections = new FieldProjections(objectMapper, cborMapper, List.of("id,title,icon"));
+        controller = new PortfolioApiController(repository, new ApiResponseCache(projections, metrics),
+                new SearchService(repository, new ApiProperties()), metrics, projections);
+        snapshot = repository.snapshot();
+        projection = projections.resolve("id,title,technologies", Project.class);
+        try {
+            portfolioJson = objectMapper.writeValueAsBytes(controller.buildPortfolio(snapshot));
+            portfolioCbor = cborMapper.writeValueAsBytes(controller.buildPortfolio(snapshot));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        System.out.printf("%nPortfolio document: JSON %d bytes, CBOR %d bytes%n",
+                portfolioJson.length, portfolioCbor.length);
+    }
+
+    /**
+     * Builds and serializes the portfolio document, as on a cache miss.
+     */
+    @Benchmark
+    public byte[] serializePortfolio() throws Exception {
+        Map<String, Object> portfolio = controller.buildPortfolio(snapshot);
+        return objectMapper.writeValueAsBytes(portfolio);
+    }
+
+    /**
+     * The same document written as CBOR.
+     */
+    @Benchmark
+    public byte[] serializePortfolioCbor() throws Exception {
+        Map<String, Object> portfolio = controller.buildPortfolio(snapshot);
+        return cborMapper.writeValueAsBytes(portfolio);
+    }
+
+    /**
+     * Client side: parsing the JSON portfolio document into a tree.
+     */
+    @Benchmark
+    public Object parsePortfolioJson() throws Exception {
+        return objectMapper.readTree(portfolioJson);
+    }
+
+    /**
+     * Client side: parsing the CBOR portfolio document into a tree.
+     */
+    @Benchmark
+    public Object parsePortfolioCbor() throws Exception {
+        return cborMapper.readTree(portfolioCbor);
+    }
+
+    /**
+     * Full controller call served from the pre-serialized response.
+     */
+    @Benchmark
+    public Object getPortfolioCached() {
+        return controller.getPortfolio(null, ApiEncoding.JSON);
+    }
+
+    /**
+     * Full controller call served from the pre-serialized CBOR response.
+     */
+    @Benchmark
+    public Object getPortfolioCborCached() {
+        return controller.getPortfolio(null, ApiEncoding.CBOR);
+    }
+
+    /**
+     * All project properties, as on a cache miss of GET /api/v1/projects.
+     */
+    @Benchmark
+    public byte[] serializeProjectsFull() throws Exception {
+        return objectMapper.writeValueAsBytes(snapshot.getProjects());
+    }
+
+    /**
+     * Only id, title and technologies, with the writer compiled for that fieldset.
+     */
+    @Benchmark
+    public byte[] serializeProjectsProjected() throws Exception {
+        return projection.getWriter(ApiEncoding.JSON).writeValueAsBytes(snapshot.getProjects());
+    }
+
+    /**
+     * GET /api/v1/projects?fields=id,title,icon, preserialized per data version.
+     */
+    @Benchmark
+    public Object getProjectsProjectedCached() {
+        return controller.getProjects(null, null, null, TechnologyMatch.ALL, "id,title,icon", null, null, ApiEncoding.JSON);
+    }
+}
@@ -0,0 +1,83 @@
+package com.niiamatey.portfolio.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.niiamatey.portfolio.config.ApiProperties;
+import com.niiamatey.portfolio.config.PortfolioDataConfig;
+import com.niiamatey.portfolio.controller.PortfolioApiController;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics.RouteMetrics;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.repository.PortfolioSnapshot;
+import com.niiamatey.portfolio.search.SearchService;
+import com.niiamatey.portfolio.service.ApiEncoding;
+import com.niiamatey.portfolio.service.ApiResponseCache;
+import com.niiamatey.portfolio.service.FieldProjections;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the per-route instrumentation on the cached API path. The
+ * {@code noop} registry is an empty composite, whose meters record nothing,
+ * so the difference to {@code simple} is what the metrics add per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    @Param({"noop", "simple"})
+    public String registry;
+
+    private PortfolioMetrics metrics;
+    private PortfolioApiController controller;
+    private PortfolioRepository repository;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = "simple".equals(registry) ? new SimpleMeterRegistry() : new CompositeMeterRegistry();
+        metrics = new PortfolioMetrics(meterRegistry);
+        PortfolioDataConfig data = new PortfolioDataConfig();
+        repository = new PortfolioRepository(data.skills(), data.projects(), data.experiences());
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        FieldProjections writers = new FieldProjections(objectMapper, CBORMapper.builder().build(), List.of());
+        controller = new PortfolioApiController(repository, new ApiResponseCache(writers, metrics),
+                new SearchService(repository, new ApiProperties()), metrics, writers);
+    }
+
+    /**
+     * Route lookup plus a timed fetch, the instrumentation every request pays.
+     */
+    @Benchmark
+    public PortfolioSnapshot timedFetch() {
+        RouteMetrics route = metrics.route("/api/v1/skills");
+        return route.fetch(repository::snapshot);
+    }
+
+    /**
+     * Full cached GET /api/v1/skills: fetch timer, cache hit counter and payload size.
+     */
+    @Benchmark
+    public ResponseEntity<byte[]> getSkillsCached() {
+        return controller.getSkills(null, ApiEncoding.JSON);
+    }
+}
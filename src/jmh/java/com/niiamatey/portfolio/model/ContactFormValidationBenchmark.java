@@ -0,0 +1,69 @@
+package com.niiamatey.portfolio.model;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of Bean Validation on a contact form submission, for valid input and
+ * for input violating every constraint (which also interpolates messages).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContactFormValidationBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private ContactForm valid;
+    private ContactForm invalid;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        valid = new ContactForm();
+        valid.setName("John Doe");
+        valid.setEmail("john@example.com");
+        valid.setSubject("Job Opportunity");
+        valid.setMessage("Hello, I would like to discuss a job opportunity with you.");
+        invalid = new ContactForm();
+        invalid.setName("");
+        invalid.setEmail("invalid-email");
+        invalid.setSubject("Hi");
+        invalid.setMessage("Short");
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ContactForm>> validateValid() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ContactForm>> validateInvalid() {
+        return validator.validate(invalid);
+    }
+}
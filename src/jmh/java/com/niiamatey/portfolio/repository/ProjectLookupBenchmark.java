@@ -0,0 +1,107 @@
+package com.niiamatey.portfolio.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.niiamatey.portfolio.config.ApiProperties;
+import com.niiamatey.portfolio.controller.PortfolioApiController;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.search.SearchService;
+import com.niiamatey.portfolio.service.ApiEncoding;
+import com.niiamatey.portfolio.service.ApiResponseCache;
+import com.niiamatey.portfolio.service.FieldProjections;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Project lookup by id as the catalog grows, against the linear scan the
+ * lookup replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectLookupBenchmark {
+
+    private static final String[] TYPES = {"Microservice", "Full-Stack", "Backend", "Data"};
+    private static final String[] TECHNOLOGIES = {"Java", "Spring Boot", "AWS", "Python", "React", "Docker"};
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int projectCount;
+
+    private PortfolioSnapshot snapshot;
+    private PortfolioApiController controller;
+    private String[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Project> projects = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            projects.add(Project.builder()
+                    .id("project-" + i)
+                    .title("Project " + i)
+                    .type(TYPES[i % TYPES.length])
+                    .description("Generated project number " + i)
+                    .technologies(List.of(TECHNOLOGIES[i % TECHNOLOGIES.length],
+                            TECHNOLOGIES[(i + 1) % TECHNOLOGIES.length]))
+                    .build());
+        }
+        PortfolioRepository repository = new PortfolioRepository(List.of(), projects, List.of());
+        snapshot = repository.snapshot();
+        PortfolioMetrics metrics = new PortfolioMetrics(new SimpleMeterRegistry());
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        FieldProjections writers = new FieldProjections(objectMapper, CBORMapper.builder().build(), List.of());
+        controller = new PortfolioApiController(repository, new ApiResponseCache(writers, metrics),
+                new SearchService(repository, new ApiProperties()), metrics, writers);
+
+        // Spread lookups over the whole catalog, in an order the branch predictor cannot learn
+        ids = new String[1024];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = "project-" + (int) ((i * 2654435761L) % projectCount);
+        }
+    }
+
+    private String nextId() {
+        return ids[next++ & (ids.length - 1)];
+    }
+
+    @Benchmark
+    public Optional<Project> indexedLookup() {
+        return snapshot.findProjectById(nextId());
+    }
+
+    @Benchmark
+    public Optional<Project> linearScanBaseline() {
+        String id = nextId();
+        return snapshot.getProjects().stream()
+                .filter(project -> project.getId().equals(id))
+                .findFirst();
+    }
+
+    /**
+     * Controller call including the per-id response cache and ETag.
+     */
+    @Benchmark
+    public Object getProjectById() {
+        return controller.getProjectById(nextId(), null, ApiEncoding.JSON);
+    }
+}
@@ -0,0 +1,100 @@
+package com.niiamatey.portfolio.repository;
+
+import com.niiamatey.portfolio.model.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.niiamatey.portfolio.repository.PortfolioIndex.normalize;
+
+/**
+ * Filtering projects on two technologies with the dictionary-encoded
+ * bitsets, against comparing each project's technology names. Projects
+ * list five of {@code technologyCount} technologies, drawn with a fixed
+ * seed; the filter names two of the common ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TechnologyFilterBenchmark {
+
+    private static final int TECHNOLOGIES_PER_PROJECT = 5;
+
+    @Param({"1000", "10000"})
+    public int projectCount;
+
+    @Param({"300"})
+    public int technologyCount;
+
+    private List<Project> projects;
+    private PortfolioSnapshot snapshot;
+    private List<String> filter;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        projects = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            List<String> technologies = new ArrayList<>(TECHNOLOGIES_PER_PROJECT);
+            // Skewed towards low ids, like real tags: a few are common, most are rare
+            for (int t = 0; t < TECHNOLOGIES_PER_PROJECT; t++) {
+                double skewed = random.nextDouble() * random.nextDouble();
+                technologies.add("Tech " + (int) (skewed * technologyCount));
+            }
+            projects.add(Project.builder()
+                    .id("project-" + i)
+                    .title("Project " + i)
+                    .type("Microservice")
+                    .technologies(technologies)
+                    .build());
+        }
+        snapshot = new PortfolioSnapshot(1, List.of(), projects, List.of());
+        filter = List.of("Tech 1", "Tech 2");
+    }
+
+    @Benchmark
+    public List<Project> allBitset() {
+        return snapshot.findProjects(null, filter, TechnologyMatch.ALL);
+    }
+
+    @Benchmark
+    public List<Project> anyBitset() {
+        return snapshot.findProjects(null, filter, TechnologyMatch.ANY);
+    }
+
+    /**
+     * Baseline: normalizes and compares every technology of every project.
+     */
+    @Benchmark
+    public List<Project> allStringScan() {
+        List<String> keys = filter.stream().map(PortfolioIndex::normalize).toList();
+        return projects.stream()
+                .filter(p -> keys.stream().allMatch(key -> p.getTechnologies().stream()
+                        .anyMatch(t -> normalize(t).equals(key))))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Project> anyStringScan() {
+        List<String> keys = filter.stream().map(PortfolioIndex::normalize).toList();
+        return projects.stream()
+                .filter(p -> p.getTechnologies().stream().anyMatch(t -> keys.contains(normalize(t))))
+                .toList();
+    }
+}
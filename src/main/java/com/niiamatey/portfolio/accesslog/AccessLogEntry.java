@@ -0,0 +1,75 @@
+package com.niiamatey.portfolio.accesslog;
+
+import lombok.Getter;
+
+/**
+ * One access log record. Instances are preallocated slots of the
+ * {@link AccessLogRingBuffer} and are overwritten in place, so they must not
+ * be retained after the consumer has processed them.
+ */
+@Getter
+public final class AccessLogEntry {
+
+    /**
+     * Request start, in milliseconds since the epoch
+     */
+    private long timestamp;
+
+    /**
+     * Remote address of the connection
+     */
+    private String client;
+
+    private String method;
+
+    /**
+     * Request path without the query string
+     */
+    private String path;
+
+    /**
+     * Query string, or {@code null}
+     */
+    private String query;
+
+    private int status;
+
+    /**
+     * Time from entering the filter chain to the response being complete
+     */
+    private long durationNanos;
+
+    /**
+     * Response Content-Length, or -1 when unknown
+     */
+    private long bytes;
+
+    private String userAgent;
+
+    /**
+     * Fills the slot; called by the producer between claim and publish.
+     */
+    public void set(long timestamp, String client, String method, String path, String query,
+                    int status, long durationNanos, long bytes, String userAgent) {
+        this.timestamp = timestamp;
+        this.client = client;
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.status = status;
+        this.durationNanos = durationNanos;
+        this.bytes = bytes;
+        this.userAgent = userAgent;
+    }
+
+    /**
+     * Drops the references to request strings once the entry has been written.
+     */
+    void clear() {
+        client = null;
+        method = null;
+        path = null;
+        query = null;
+        userAgent = null;
+    }
+}
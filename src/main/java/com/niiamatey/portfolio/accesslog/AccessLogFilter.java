@@ -0,0 +1,121 @@
+package com.niiamatey.portfolio.accesslog;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records every request into the {@link AccessLogRingBuffer}.
+ *
+ * The request thread only claims a slot, copies a few references and
+ * publishes it; formatting and file I/O happen on the {@link AccessLogWriter}
+ * thread. When the buffer is full the entry is dropped rather than delaying
+ * the response.
+ *
+ * Asynchronous requests, such as streamed NDJSON responses, are recorded when
+ * the async cycle completes, so the entry covers writing the body and a
+ * failure while streaming is logged as 500 even though 200 was already sent.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AccessLogRingBuffer buffer;
+
+    public AccessLogFilter(AccessLogRingBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long timestamp = System.currentTimeMillis();
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        boolean deferred = false;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnComplete(request, response, timestamp, start));
+                deferred = true;
+            }
+        } finally {
+            if (!deferred) {
+                record(request, response, timestamp, start, status);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long timestamp, long start,
+                        int status) {
+        long position = buffer.claim();
+        if (position >= 0) {
+            buffer.entry(position).set(timestamp, request.getRemoteAddr(), request.getMethod(),
+                    request.getRequestURI(), request.getQueryString(), status,
+                    System.nanoTime() - start, contentLength(response), request.getHeader(HttpHeaders.USER_AGENT));
+            buffer.publish(position);
+        }
+    }
+
+    private static long contentLength(HttpServletResponse response) {
+        String length = response.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (length == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(length);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private final class RecordOnComplete implements AsyncListener {
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long timestamp;
+        private final long start;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+        private volatile boolean failed;
+
+        RecordOnComplete(HttpServletRequest request, HttpServletResponse response, long timestamp, long start) {
+            this.request = request;
+            this.response = response;
+            this.timestamp = timestamp;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (recorded.compareAndSet(false, true)) {
+                int status = response.getStatus();
+                record(request, response, timestamp, start,
+                        failed && status < HttpServletResponse.SC_BAD_REQUEST
+                                ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : status);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // The container still completes the request afterwards
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Still the same request
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
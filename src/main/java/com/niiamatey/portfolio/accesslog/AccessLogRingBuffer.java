@@ -0,0 +1,134 @@
+package com.niiamatey.portfolio.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free multi-producer single-consumer ring buffer of
+ * preallocated {@link AccessLogEntry} slots.
+ *
+ * Each slot carries a sequence number. A producer claims the next position
+ * with a single CAS, fills the slot in place and publishes it by advancing
+ * the slot's sequence; the consumer reads slots in order once published and
+ * hands them back by advancing the sequence a full lap. Nothing is allocated
+ * per entry and producers never wait: when the buffer is full the entry is
+ * dropped and counted.
+ *
+ * <pre>
+ * long position = buffer.claim();
+ * if (position >= 0) {
+ *     buffer.entry(position).set(...);
+ *     buffer.publish(position);
+ * }
+ * </pre>
+ */
+public class AccessLogRingBuffer {
+
+    private final AccessLogEntry[] entries;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Next position to consume; only touched by the consumer thread.
+     */
+    private long head;
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public AccessLogRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.entries = new AccessLogEntry[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new AccessLogEntry();
+            sequences.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Claims the next free slot without blocking.
+     *
+     * @return the claimed position, or -1 if the buffer is full and the entry was dropped
+     */
+    public long claim() {
+        long position = tail.get();
+        while (true) {
+            long diff = sequences.get((int) position & mask) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // The consumer has not released this slot from the previous lap yet
+                dropped.increment();
+                return -1;
+            } else {
+                // Another producer claimed this position first
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Returns the slot for a position returned by {@link #claim()}.
+     */
+    public AccessLogEntry entry(long position) {
+        return entries[(int) position & mask];
+    }
+
+    /**
+     * Makes a filled slot visible to the consumer.
+     */
+    public void publish(long position) {
+        sequences.setRelease((int) position & mask, position + 1);
+    }
+
+    /**
+     * Passes up to {@code max} published entries to the handler, in claim order,
+     * and releases their slots. Must only be called from the single consumer thread.
+     *
+     * @return the number of entries consumed
+     */
+    public int drain(Consumer<AccessLogEntry> handler, int max) {
+        int consumed = 0;
+        while (consumed < max) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                // Empty, or the next producer has claimed but not yet published
+                break;
+            }
+            AccessLogEntry entry = entries[index];
+            try {
+                handler.accept(entry);
+            } finally {
+                entry.clear();
+                sequences.setRelease(index, head + entries.length);
+                head++;
+                consumed++;
+            }
+        }
+        return consumed;
+    }
+
+    /**
+     * Number of entries dropped because the buffer was full.
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+}
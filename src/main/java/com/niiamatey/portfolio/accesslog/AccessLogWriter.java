@@ -0,0 +1,160 @@
+package com.niiamatey.portfolio.accesslog;
+
+import com.niiamatey.portfolio.config.AccessLogProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Single background consumer of the {@link AccessLogRingBuffer}.
+ *
+ * Drains published entries in batches, formats each as one JSON line and
+ * writes the whole batch to a size-rolled file with a single write call, so
+ * the request threads never touch the file or a logging framework. When the
+ * buffer is empty the writer parks for the poll interval.
+ */
+@Slf4j
+public class AccessLogWriter implements InitializingBean, DisposableBean {
+
+    private final AccessLogRingBuffer buffer;
+    private final AccessLogProperties properties;
+    private final RollingFile file;
+    private final StringBuilder batch = new StringBuilder(16_384);
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public AccessLogWriter(AccessLogRingBuffer buffer, AccessLogProperties properties) {
+        this.buffer = buffer;
+        this.properties = properties;
+        this.file = new RollingFile(Path.of(properties.getFile()),
+                properties.getMaxFileSize().toBytes(), properties.getMaxHistory());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        thread = new Thread(this::run, "access-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Access log writing to {} (buffer {} entries)", file.path(), buffer.capacity());
+    }
+
+    /**
+     * Number of entries written to the file since startup.
+     */
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    /**
+     * Number of entries lost to I/O errors since startup.
+     */
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException, IOException {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        file.close();
+    }
+
+    private void run() {
+        long pollNanos = properties.getPollInterval().toNanos();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        while (true) {
+            boolean stopping = !running;
+            int drained = buffer.drain(this::append, batchSize);
+            if (drained > 0) {
+                flush(drained);
+            } else if (stopping) {
+                // Drained everything published before shutdown was requested
+                return;
+            } else {
+                LockSupport.parkNanos(this, pollNanos);
+            }
+        }
+    }
+
+    private void append(AccessLogEntry entry) {
+        format(entry, batch);
+        batch.append('\n');
+    }
+
+    private void flush(int entries) {
+        try {
+            file.write(ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8)));
+            written.add(entries);
+        } catch (IOException e) {
+            failed.add(entries);
+            log.warn("Failed to write {} access log entries to {}: {}", entries, file.path(), e.toString());
+        } finally {
+            batch.setLength(0);
+        }
+    }
+
+    /**
+     * Formats an entry as a single-line JSON object.
+     */
+    static void format(AccessLogEntry entry, StringBuilder out) {
+        out.append("{\"time\":\"").append(Instant.ofEpochMilli(entry.getTimestamp())).append('"');
+        field(out, "client", entry.getClient());
+        field(out, "method", entry.getMethod());
+        field(out, "path", entry.getPath());
+        if (entry.getQuery() != null) {
+            field(out, "query", entry.getQuery());
+        }
+        out.append(",\"status\":").append(entry.getStatus());
+        out.append(",\"durationMicros\":").append(entry.getDurationNanos() / 1_000);
+        if (entry.getBytes() >= 0) {
+            out.append(",\"bytes\":").append(entry.getBytes());
+        }
+        if (entry.getUserAgent() != null) {
+            field(out, "userAgent", entry.getUserAgent());
+        }
+        out.append('}');
+    }
+
+    private static void field(StringBuilder out, String name, String value) {
+        out.append(",\"").append(name).append("\":");
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+}
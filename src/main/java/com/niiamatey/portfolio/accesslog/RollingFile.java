@@ -0,0 +1,85 @@
+package com.niiamatey.portfolio.accesslog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only file that is rolled over by size: when a write would take it
+ * past the limit, {@code file} becomes {@code file.1}, {@code file.1} becomes
+ * {@code file.2} and so on, and the oldest beyond the history is deleted.
+ * Not thread-safe; used by the single access log writer.
+ */
+class RollingFile implements AutoCloseable {
+
+    private final Path file;
+    private final long maxSize;
+    private final int maxHistory;
+
+    private FileChannel channel;
+    private long size;
+
+    RollingFile(Path file, long maxSize, int maxHistory) {
+        this.file = file.toAbsolutePath();
+        this.maxSize = maxSize;
+        this.maxHistory = maxHistory;
+    }
+
+    Path path() {
+        return file;
+    }
+
+    /**
+     * Appends the buffer's remaining bytes, rolling over first if they do not fit.
+     */
+    void write(ByteBuffer bytes) throws IOException {
+        if (channel == null) {
+            open();
+        }
+        if (size > 0 && size + bytes.remaining() > maxSize) {
+            roll();
+        }
+        while (bytes.hasRemaining()) {
+            size += channel.write(bytes);
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(file.getParent());
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+    }
+
+    private void roll() throws IOException {
+        close();
+        Files.deleteIfExists(rolled(maxHistory));
+        for (int i = maxHistory - 1; i >= 1; i--) {
+            Path older = rolled(i);
+            if (Files.exists(older)) {
+                Files.move(older, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxHistory > 0) {
+            Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+        open();
+    }
+
+    private Path rolled(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.niiamatey.portfolio.assets;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Sets Cache-Control on static assets by URL: a year and immutable for
+ * content-hashed URLs, whose content can never change, and revalidation on
+ * every use for the plain ones, which are rewritten in place by a deploy.
+ *
+ * A hashed URL whose hash no longer matches the file is not resolved at all,
+ * so the long lifetime only ever applies to the content it names.
+ */
+public class AssetCacheControlInterceptor implements HandlerInterceptor {
+
+    private static final Pattern FINGERPRINTED = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$");
+
+    private static final String IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+            .getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        boolean fingerprinted = FINGERPRINTED.matcher(request.getRequestURI()).find();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, fingerprinted ? IMMUTABLE : REVALIDATE);
+        return true;
+    }
+}
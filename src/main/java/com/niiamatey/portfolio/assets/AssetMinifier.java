@@ -0,0 +1,179 @@
+package com.niiamatey.portfolio.assets;
+
+/**
+ * Conservative minifier for the site's hand-written CSS and JavaScript.
+ *
+ * Both minifiers strip comments and redundant whitespace but never rewrite
+ * tokens, and string literals (and JavaScript regex and template literals)
+ * are copied verbatim. JavaScript keeps its line breaks so that automatic
+ * semicolon insertion behaves exactly as in the source.
+ */
+final class AssetMinifier {
+
+    private static final String CSS_PUNCTUATION = "{};,>";
+    private static final String JS_REGEX_PRECEDERS = "(,=:[!&|?{};+-*%<>~^";
+
+    private AssetMinifier() {
+    }
+
+    /**
+     * Removes comments and collapses whitespace around CSS punctuation.
+     */
+    static String css(String source) {
+        StringBuilder out = new StringBuilder(source.length());
+        int length = source.length();
+        boolean pendingSpace = false;
+        for (int i = 0; i < length; i++) {
+            char c = source.charAt(i);
+            if (c == '/' && i + 1 < length && source.charAt(i + 1) == '*') {
+                int end = source.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 1;
+                pendingSpace = true;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace) {
+                pendingSpace = false;
+                char previous = out.length() == 0 ? '{' : out.charAt(out.length() - 1);
+                if (CSS_PUNCTUATION.indexOf(previous) < 0 && previous != ':' && CSS_PUNCTUATION.indexOf(c) < 0) {
+                    out.append(' ');
+                }
+            }
+            if (c == '}' && out.length() > 0 && out.charAt(out.length() - 1) == ';') {
+                out.setLength(out.length() - 1);
+            }
+            if (c == '"' || c == '\'') {
+                i = copyLiteral(source, i, c, out);
+                continue;
+            }
+            out.append(c);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Removes comments, indentation, blank lines and repeated spaces.
+     */
+    static String js(String source) {
+        StringBuilder out = new StringBuilder(source.length());
+        int length = source.length();
+        boolean pendingSpace = false;
+        boolean pendingNewline = false;
+        for (int i = 0; i < length; i++) {
+            char c = source.charAt(i);
+            char next = i + 1 < length ? source.charAt(i + 1) : 0;
+            if (c == '/' && next == '/') {
+                int end = source.indexOf('\n', i);
+                i = (end < 0 ? length : end) - 1;
+                continue;
+            }
+            if (c == '/' && next == '*') {
+                int end = source.indexOf("*/", i + 2);
+                String comment = source.substring(i, end < 0 ? length : end);
+                i = end < 0 ? length : end + 1;
+                // A multi-line comment still separates statements
+                if (comment.indexOf('\n') >= 0) {
+                    pendingNewline = true;
+                } else {
+                    pendingSpace = true;
+                }
+                continue;
+            }
+            if (c == '\n' || c == '\r') {
+                pendingNewline = true;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (out.length() > 0) {
+                if (pendingNewline) {
+                    out.append('\n');
+                } else if (pendingSpace) {
+                    out.append(' ');
+                }
+            }
+            pendingSpace = false;
+            pendingNewline = false;
+
+            if (c == '"' || c == '\'' || c == '`') {
+                i = copyLiteral(source, i, c, out);
+            } else if (c == '/' && startsRegex(out)) {
+                i = copyRegex(source, i, out);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Copies a quoted literal starting at {@code start}; returns the index of its closing quote.
+     */
+    private static int copyLiteral(String source, int start, char quote, StringBuilder out) {
+        out.append(quote);
+        int i = start + 1;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            out.append(c);
+            if (c == '\\' && i + 1 < source.length()) {
+                out.append(source.charAt(++i));
+            } else if (c == quote) {
+                return i;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Copies a regex literal, including character classes that may contain '/'.
+     */
+    private static int copyRegex(String source, int start, StringBuilder out) {
+        out.append('/');
+        boolean inClass = false;
+        int i = start + 1;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            out.append(c);
+            if (c == '\\' && i + 1 < source.length()) {
+                out.append(source.charAt(++i));
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if ((c == '/' && !inClass) || c == '\n') {
+                return i;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * A '/' starts a regex rather than a division when it cannot follow an operand.
+     */
+    private static boolean startsRegex(StringBuilder out) {
+        int i = out.length() - 1;
+        while (i >= 0 && Character.isWhitespace(out.charAt(i))) {
+            i--;
+        }
+        if (i < 0) {
+            return true;
+        }
+        char previous = out.charAt(i);
+        if (JS_REGEX_PRECEDERS.indexOf(previous) >= 0) {
+            return true;
+        }
+        int end = i + 1;
+        while (i >= 0 && Character.isLetter(out.charAt(i))) {
+            i--;
+        }
+        String word = out.substring(i + 1, end);
+        return word.equals("return") || word.equals("typeof") || word.equals("case") || word.equals("in");
+    }
+}
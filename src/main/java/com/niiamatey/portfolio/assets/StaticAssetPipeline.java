@@ -0,0 +1,109 @@
+package com.niiamatey.portfolio.assets;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Minifies and precompresses the stylesheets and scripts under {@code static/}.
+ *
+ * Runs once at startup: each {@code .css} and {@code .js} file is minified and
+ * written to the output directory at the same relative path, along with a
+ * maximally compressed {@code .gz} sibling. The output directory is the first
+ * location of the asset resource handler, so requests are answered with these
+ * files and clients that accept gzip get the precompressed bytes without any
+ * per-request compression.
+ */
+@Slf4j
+public class StaticAssetPipeline implements InitializingBean {
+
+    static final String SOURCE_LOCATION = "classpath:/static/";
+
+    private final String sourceLocation;
+    private final Path outputDirectory;
+
+    public StaticAssetPipeline(Path outputDirectory) {
+        this(SOURCE_LOCATION, outputDirectory);
+    }
+
+    StaticAssetPipeline(String sourceLocation, Path outputDirectory) {
+        this.sourceLocation = sourceLocation;
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Directory the processed assets are written to.
+     */
+    public Path getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        long start = System.nanoTime();
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        int count = 0;
+        long originalBytes = 0;
+        long gzipBytes = 0;
+        for (String extension : new String[] {"css", "js"}) {
+            for (Resource resource : resolver.getResources(sourceLocation + "**/*." + extension)) {
+                String relativePath = relativePath(resource);
+                if (relativePath == null) {
+                    continue;
+                }
+                String source;
+                try (InputStream in = resource.getInputStream()) {
+                    source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+                byte[] minified = ("css".equals(extension) ? AssetMinifier.css(source) : AssetMinifier.js(source))
+                        .getBytes(StandardCharsets.UTF_8);
+                byte[] compressed = gzip(minified);
+
+                Path target = outputDirectory.resolve(relativePath).normalize();
+                Files.createDirectories(target.getParent());
+                Files.write(target, minified);
+                Files.write(target.resolveSibling(target.getFileName() + ".gz"), compressed);
+
+                log.debug("Processed static asset {}: {} -> {} bytes minified, {} gzipped",
+                        relativePath, source.length(), minified.length, compressed.length);
+                count++;
+                originalBytes += source.length();
+                gzipBytes += compressed.length;
+            }
+        }
+        log.info("Prepared {} static assets in {} ms ({} -> {} bytes over the wire)",
+                count, (System.nanoTime() - start) / 1_000_000, originalBytes, gzipBytes);
+    }
+
+    /**
+     * Path of the resource below the static location, e.g. "css/styles.css".
+     */
+    private static String relativePath(Resource resource) throws IOException {
+        String url = resource.getURL().toString();
+        int index = url.lastIndexOf("/static/");
+        return index < 0 ? null : url.substring(index + "/static/".length());
+    }
+
+    static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 3 + 64);
+        try (OutputStream out = new GZIPOutputStream(bytes) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,52 @@
+package com.niiamatey.portfolio.catalog;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.niiamatey.portfolio.config.PortfolioDataConfig;
+import com.niiamatey.portfolio.model.PortfolioData;
+import com.niiamatey.portfolio.repository.PortfolioDataLoader;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+import java.nio.file.Path;
+
+/**
+ * Command-line converter from portfolio data to a binary catalog.
+ *
+ * <pre>
+ * CatalogConverter &lt;output&gt; [data-location]
+ * </pre>
+ *
+ * Without a data location the built-in data from {@link PortfolioDataConfig}
+ * is converted; otherwise the JSON or YAML file or directory is loaded and
+ * validated as for {@code portfolio.data.location}.
+ */
+public final class CatalogConverter {
+
+    private CatalogConverter() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: CatalogConverter <output> [data-location]");
+            System.exit(2);
+        }
+        PortfolioData data = args.length == 2 ? load(Path.of(args[1])) : builtIn();
+        Path output = Path.of(args[0]);
+        long size = CatalogWriter.write(output, data.getSkills(), data.getProjects(), data.getExperiences());
+        System.out.printf("Wrote %d skills, %d projects and %d experiences to %s (%d bytes)%n",
+                data.getSkills().size(), data.getProjects().size(), data.getExperiences().size(), output, size);
+    }
+
+    private static PortfolioData builtIn() {
+        PortfolioDataConfig config = new PortfolioDataConfig();
+        return new PortfolioData(config.skills(), config.projects(), config.experiences());
+    }
+
+    private static PortfolioData load(Path location) throws Exception {
+        try (ValidatorFactory validation = Validation.buildDefaultValidatorFactory()) {
+            PortfolioDataLoader loader = new PortfolioDataLoader(
+                    JsonMapper.builder().findAndAddModules().build(), validation.getValidator());
+            return loader.load(location);
+        }
+    }
+}
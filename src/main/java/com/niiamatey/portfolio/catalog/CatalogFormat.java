@@ -0,0 +1,63 @@
+package com.niiamatey.portfolio.catalog;
+
+/**
+ * Layout of the binary portfolio catalog, version 1. All integers are
+ * big-endian and all offsets are absolute file positions.
+ *
+ * <pre>
+ * header    magic "PFCT", format version, skill / project / experience counts,
+ *           then (offset, length) for each {@link Section}
+ * records   per entry: UTF-8 strings as (int length, bytes), -1 for null;
+ *           string lists as (int count, strings), -1 for null
+ * offsets   per record section: one int per entry, relative to the section start
+ * ids       open-addressing table: int capacity, then (int hash, int entry + 1)
+ *           slots, 0 marking an empty slot
+ * postings  int key count, then per key: string, int count, entry numbers
+ * </pre>
+ *
+ * The whole file is mapped as one buffer, so it is limited to 2 GB.
+ */
+final class CatalogFormat {
+
+    static final int MAGIC = 0x50464354;
+    static final int VERSION = 1;
+
+    static final int NULL_LENGTH = -1;
+
+    /**
+     * Sections in header order.
+     */
+    enum Section {
+        SKILLS,
+        SKILL_OFFSETS,
+        PROJECTS,
+        PROJECT_OFFSETS,
+        EXPERIENCES,
+        EXPERIENCE_OFFSETS,
+        PROJECT_IDS,
+        PROJECT_TYPES,
+        PROJECT_TECHNOLOGIES,
+        EXPERIENCE_TYPES
+    }
+
+    static final int HEADER_SIZE = 5 * Integer.BYTES + Section.values().length * 2 * Integer.BYTES;
+
+    private CatalogFormat() {
+    }
+
+    /**
+     * Hash of a project id, stored in its id table slot.
+     */
+    static int hash(String id) {
+        int h = id.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Capacity of the id table for the given number of projects: a power of
+     * two at most half full.
+     */
+    static int idTableCapacity(int count) {
+        return Math.max(2, Integer.highestOneBit(Math.max(1, count) * 2 - 1) << 1);
+    }
+}
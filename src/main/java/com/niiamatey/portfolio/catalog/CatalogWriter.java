@@ -0,0 +1,269 @@
+package com.niiamatey.portfolio.catalog;
+
+import com.niiamatey.portfolio.catalog.CatalogFormat.Section;
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.niiamatey.portfolio.repository.PortfolioIndex.normalize;
+
+/**
+ * Writes portfolio data as a binary catalog that {@link PortfolioCatalog}
+ * maps into memory. See {@link CatalogFormat} for the layout.
+ *
+ * The file is written next to its destination and moved into place, so a
+ * running application never maps a half-written catalog.
+ */
+public final class CatalogWriter {
+
+    private CatalogWriter() {
+    }
+
+    /**
+     * Writes a catalog holding the given data.
+     *
+     * @return size of the written file in bytes
+     * @throws IllegalArgumentException if a project id is missing or not unique
+     * @throws IOException if the file cannot be written or would exceed 2 GB
+     */
+    public static long write(Path file, List<Skill> skills, List<Project> projects,
+                             List<Experience> experiences) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = directory.resolve(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                int[] sections = new int[Section.values().length * 2];
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+                out.write(new byte[CatalogFormat.HEADER_SIZE]);
+
+                writeRecords(out, sections, Section.SKILLS, Section.SKILL_OFFSETS, skills, CatalogWriter::writeSkill);
+                writeRecords(out, sections, Section.PROJECTS, Section.PROJECT_OFFSETS, projects,
+                        CatalogWriter::writeProject);
+                writeRecords(out, sections, Section.EXPERIENCES, Section.EXPERIENCE_OFFSETS, experiences,
+                        CatalogWriter::writeExperience);
+                writeIdTable(out, sections, projects);
+                writePostings(out, sections, Section.PROJECT_TYPES, projectsByType(projects));
+                writePostings(out, sections, Section.PROJECT_TECHNOLOGIES, projectsByTechnology(projects));
+                writePostings(out, sections, Section.EXPERIENCE_TYPES, experiencesByType(experiences));
+                out.flush();
+
+                ByteBuffer header = ByteBuffer.allocate(CatalogFormat.HEADER_SIZE)
+                        .putInt(CatalogFormat.MAGIC)
+                        .putInt(CatalogFormat.VERSION)
+                        .putInt(skills.size())
+                        .putInt(projects.size())
+                        .putInt(experiences.size());
+                for (int value : sections) {
+                    header.putInt(value);
+                }
+                channel.write(header.flip(), 0);
+                channel.force(false);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return Files.size(file);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static <T> void writeRecords(DataOutputStream out, int[] sections, Section records, Section offsets,
+                                          List<T> items, Encoder<T> encoder) throws IOException {
+        int start = begin(out);
+        int[] positions = new int[items.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = out.size() - start;
+            encoder.write(out, items.get(i));
+        }
+        end(out, sections, records, start);
+
+        start = begin(out);
+        for (int position : positions) {
+            out.writeInt(position);
+        }
+        end(out, sections, offsets, start);
+    }
+
+    private static void writeIdTable(DataOutputStream out, int[] sections, List<Project> projects)
+            throws IOException {
+        int capacity = CatalogFormat.idTableCapacity(projects.size());
+        int mask = capacity - 1;
+        int[] slots = new int[capacity * 2];
+        for (int i = 0; i < projects.size(); i++) {
+            Project project = projects.get(i);
+            String id = project.getId();
+            if (id == null || id.isBlank()) {
+                throw new IllegalArgumentException("Project without id: " + project.getTitle());
+            }
+            int hash = CatalogFormat.hash(id);
+            int slot = hash & mask;
+            while (slots[slot * 2 + 1] != 0) {
+                if (slots[slot * 2] == hash && projects.get(slots[slot * 2 + 1] - 1).getId().equals(id)) {
+                    throw new IllegalArgumentException("Duplicate project id: " + id);
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot * 2] = hash;
+            slots[slot * 2 + 1] = i + 1;
+        }
+
+        int start = begin(out);
+        out.writeInt(capacity);
+        for (int value : slots) {
+            out.writeInt(value);
+        }
+        end(out, sections, Section.PROJECT_IDS, start);
+    }
+
+    private static void writePostings(DataOutputStream out, int[] sections, Section section,
+                                      Map<String, IntList> postings) throws IOException {
+        int start = begin(out);
+        out.writeInt(postings.size());
+        for (Map.Entry<String, IntList> entry : postings.entrySet()) {
+            writeString(out, entry.getKey());
+            IntList entries = entry.getValue();
+            out.writeInt(entries.size);
+            for (int i = 0; i < entries.size; i++) {
+                out.writeInt(entries.values[i]);
+            }
+        }
+        end(out, sections, section, start);
+    }
+
+    private static Map<String, IntList> projectsByType(List<Project> projects) {
+        Map<String, IntList> index = new LinkedHashMap<>();
+        for (int i = 0; i < projects.size(); i++) {
+            String type = projects.get(i).getType();
+            if (type != null) {
+                index.computeIfAbsent(normalize(type), k -> new IntList()).add(i);
+            }
+        }
+        return index;
+    }
+
+    private static Map<String, IntList> projectsByTechnology(List<Project> projects) {
+        Map<String, IntList> index = new LinkedHashMap<>();
+        for (int i = 0; i < projects.size(); i++) {
+            List<String> technologies = projects.get(i).getTechnologies();
+            if (technologies != null) {
+                for (String technology : technologies) {
+                    index.computeIfAbsent(normalize(technology), k -> new IntList()).add(i);
+                }
+            }
+        }
+        return index;
+    }
+
+    private static Map<String, IntList> experiencesByType(List<Experience> experiences) {
+        Map<String, IntList> index = new LinkedHashMap<>();
+        for (int i = 0; i < experiences.size(); i++) {
+            Experience.ExperienceType type = experiences.get(i).getType();
+            if (type != null) {
+                index.computeIfAbsent(type.name(), k -> new IntList()).add(i);
+            }
+        }
+        return index;
+    }
+
+    private static void writeSkill(DataOutputStream out, Skill skill) throws IOException {
+        writeString(out, skill.getCategory());
+        writeString(out, skill.getIcon());
+        writeStrings(out, skill.getTechnologies());
+    }
+
+    /**
+     * The id comes first so that id lookups can compare it in place.
+     */
+    private static void writeProject(DataOutputStream out, Project project) throws IOException {
+        writeString(out, project.getId());
+        writeString(out, project.getTitle());
+        writeString(out, project.getType());
+        writeString(out, project.getDescription());
+        writeStrings(out, project.getTechnologies());
+        writeString(out, project.getGithubUrl());
+        writeString(out, project.getDemoUrl());
+        writeString(out, project.getIcon());
+        writeStrings(out, project.getHighlights());
+    }
+
+    private static void writeExperience(DataOutputStream out, Experience experience) throws IOException {
+        writeString(out, experience.getDateRange());
+        writeString(out, experience.getTitle());
+        writeString(out, experience.getOrganization());
+        writeString(out, experience.getDescription());
+        writeString(out, experience.getType() == null ? null : experience.getType().name());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(CatalogFormat.NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        if (values == null) {
+            out.writeInt(CatalogFormat.NULL_LENGTH);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static int begin(DataOutputStream out) {
+        return out.size();
+    }
+
+    private static void end(DataOutputStream out, int[] sections, Section section, int start) throws IOException {
+        // DataOutputStream.size() stops at Integer.MAX_VALUE instead of overflowing
+        if (out.size() == Integer.MAX_VALUE) {
+            throw new IOException("Portfolio catalog would exceed 2 GB");
+        }
+        sections[section.ordinal() * 2] = start;
+        sections[section.ordinal() * 2 + 1] = out.size() - start;
+    }
+
+    @FunctionalInterface
+    private interface Encoder<T> {
+        void write(DataOutputStream out, T item) throws IOException;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                // A technology listed twice on the same project
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.niiamatey.portfolio.catalog;
+
+import com.niiamatey.portfolio.catalog.CatalogFormat.Section;
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Experience.ExperienceType;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+import com.niiamatey.portfolio.repository.PortfolioIndex;
+import com.niiamatey.portfolio.repository.TechnologyMatch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * Read-only portfolio data served from a memory-mapped binary catalog
+ * written by {@link CatalogWriter}.
+ *
+ * Opening a catalog maps the file and reads its header and the keys of the
+ * type and technology indexes; entries stay on disk and are decoded each
+ * time they are read. Startup time and heap use therefore depend on the
+ * number of distinct keys, not on the number of entries, and the page cache
+ * rather than the heap holds the data. Lists returned from a catalog are
+ * immutable views that decode on {@code get}.
+ */
+public final class PortfolioCatalog implements PortfolioIndex {
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final int[] sections;
+
+    private final List<Skill> skills;
+    private final List<Project> projects;
+    private final List<Experience> experiences;
+
+    private final int idTable;
+    private final int idMask;
+    private final Map<String, Postings> projectsByType;
+    private final Map<String, Postings> projectsByTechnology;
+    private final Map<ExperienceType, Postings> experiencesByType;
+
+    private PortfolioCatalog(Path file, ByteBuffer buffer) throws IOException {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.limit() < CatalogFormat.HEADER_SIZE || buffer.getInt(0) != CatalogFormat.MAGIC) {
+            throw new IOException("Not a portfolio catalog: " + file);
+        }
+        if (buffer.getInt(4) != CatalogFormat.VERSION) {
+            throw new IOException("Unsupported portfolio catalog version " + buffer.getInt(4) + ": " + file);
+        }
+        this.sections = new int[Section.values().length * 2];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = buffer.getInt(20 + i * Integer.BYTES);
+        }
+        for (Section section : Section.values()) {
+            long end = (long) offset(section) + sections[section.ordinal() * 2 + 1];
+            if (offset(section) < CatalogFormat.HEADER_SIZE || end > buffer.limit()) {
+                throw new IOException("Truncated portfolio catalog: " + file);
+            }
+        }
+
+        this.skills = new LazyList<>(buffer.getInt(8), i -> skill(record(Section.SKILLS, i)));
+        this.projects = new LazyList<>(buffer.getInt(12), this::project);
+        this.experiences = new LazyList<>(buffer.getInt(16), i -> experience(record(Section.EXPERIENCES, i)));
+
+        this.idTable = offset(Section.PROJECT_IDS) + Integer.BYTES;
+        this.idMask = buffer.getInt(offset(Section.PROJECT_IDS)) - 1;
+        this.projectsByType = postings(Section.PROJECT_TYPES);
+        this.projectsByTechnology = postings(Section.PROJECT_TECHNOLOGIES);
+        this.experiencesByType = new EnumMap<>(ExperienceType.class);
+        postings(Section.EXPERIENCE_TYPES).forEach((type, postings) ->
+                experiencesByType.put(ExperienceType.valueOf(type), postings));
+    }
+
+    /**
+     * Maps a catalog file. The mapping stays valid after the file is replaced
+     * or deleted, until the catalog is garbage collected.
+     *
+     * @throws IOException if the file cannot be read or is not a valid catalog
+     */
+    public static PortfolioCatalog open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Portfolio catalog larger than 2 GB: " + file);
+            }
+            return new PortfolioCatalog(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public List<Skill> skills() {
+        return skills;
+    }
+
+    @Override
+    public List<Project> projects() {
+        return projects;
+    }
+
+    @Override
+    public List<Experience> experiences() {
+        return experiences;
+    }
+
+    @Override
+    public Optional<Project> findProjectById(String id) {
+        if (id == null || projects.isEmpty()) {
+            return Optional.empty();
+        }
+        int hash = CatalogFormat.hash(id);
+        byte[] key = null;
+        for (int slot = hash & idMask; ; slot = (slot + 1) & idMask) {
+            int position = idTable + slot * 2 * Integer.BYTES;
+            int entry = buffer.getInt(position + Integer.BYTES) - 1;
+            if (entry < 0) {
+                return Optional.empty();
+            }
+            if (buffer.getInt(position) == hash) {
+                if (key == null) {
+                    key = id.getBytes(StandardCharsets.UTF_8);
+                }
+                if (idEquals(record(Section.PROJECTS, entry), key)) {
+                    return Optional.of(project(entry));
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<Project> findProjectsByType(String type) {
+        return list(projectsByType.get(type), this::project);
+    }
+
+    @Override
+    public List<Project> findProjectsByTechnology(String technology) {
+        return list(projectsByTechnology.get(technology), this::project);
+    }
+
+    /**
+     * Loads the postings of each technology into a bitset over project
+     * numbers and combines them with AND or OR.
+     */
+    @Override
+    public List<Project> findProjectsByTechnologies(List<String> technologies, TechnologyMatch match) {
+        BitSet result = null;
+        for (String technology : technologies) {
+            Postings postings = projectsByTechnology.get(technology);
+            if (postings == null) {
+                if (match == TechnologyMatch.ALL) {
+                    return List.of();
+                }
+                continue;
+            }
+            BitSet set = bits(postings);
+            if (result == null) {
+                result = set;
+            } else if (match == TechnologyMatch.ALL) {
+                result.and(set);
+            } else {
+                result.or(set);
+            }
+        }
+        if (result == null) {
+            return List.of();
+        }
+        int[] positions = result.stream().toArray();
+        return new LazyList<>(positions.length, i -> project(positions[i]));
+    }
+
+    @Override
+    public List<Experience> findExperiencesByType(ExperienceType type) {
+        return list(experiencesByType.get(type), i -> experience(record(Section.EXPERIENCES, i)));
+    }
+
+    @Override
+    public int typeCount() {
+        return projectsByType.size();
+    }
+
+    @Override
+    public int technologyCount() {
+        return projectsByTechnology.size();
+    }
+
+    @Override
+    public String toString() {
+        return file + " (" + buffer.limit() + " bytes)";
+    }
+
+    private int offset(Section section) {
+        return sections[section.ordinal() * 2];
+    }
+
+    /**
+     * Position of the given entry of a record section.
+     */
+    private int record(Section records, int entry) {
+        Section offsets = Section.values()[records.ordinal() + 1];
+        return offset(records) + buffer.getInt(offset(offsets) + entry * Integer.BYTES);
+    }
+
+    private boolean idEquals(int position, byte[] key) {
+        if (buffer.getInt(position) != key.length) {
+            return false;
+        }
+        position += Integer.BYTES;
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(position + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Skill skill(int position) {
+        Reader in = new Reader(position);
+        return Skill.builder()
+                .category(in.string())
+                .icon(in.string())
+                .technologies(in.strings())
+                .build();
+    }
+
+    private Project project(int entry) {
+        Reader in = new Reader(record(Section.PROJECTS, entry));
+        return Project.builder()
+                .id(in.string())
+                .title(in.string())
+                .type(in.string())
+                .description(in.string())
+                .technologies(in.strings())
+                .githubUrl(in.string())
+                .demoUrl(in.string())
+                .icon(in.string())
+                .highlights(in.strings())
+                .build();
+    }
+
+    private Experience experience(int position) {
+        Reader in = new Reader(position);
+        Experience.ExperienceBuilder builder = Experience.builder()
+                .dateRange(in.string())
+                .title(in.string())
+                .organization(in.string())
+                .description(in.string());
+        String type = in.string();
+        return builder.type(type == null ? null : ExperienceType.valueOf(type)).build();
+    }
+
+    /**
+     * Reads the keys of a postings section; the entry numbers stay on disk.
+     */
+    private Map<String, Postings> postings(Section section) {
+        Reader in = new Reader(offset(section));
+        int keys = in.integer();
+        Map<String, Postings> index = new HashMap<>(keys * 2);
+        for (int i = 0; i < keys; i++) {
+            String key = in.string();
+            int count = in.integer();
+            index.put(key, new Postings(in.position, count));
+            in.position += count * Integer.BYTES;
+        }
+        return index;
+    }
+
+    private <T> List<T> list(Postings postings, IntFunction<T> decoder) {
+        if (postings == null) {
+            return List.of();
+        }
+        return new LazyList<>(postings.count,
+                i -> decoder.apply(buffer.getInt(postings.position + i * Integer.BYTES)));
+    }
+
+    private BitSet bits(Postings postings) {
+        BitSet set = new BitSet(projects.size());
+        for (int i = 0; i < postings.count; i++) {
+            set.set(buffer.getInt(postings.position + i * Integer.BYTES));
+        }
+        return set;
+    }
+
+    private record Postings(int position, int count) {
+    }
+
+    /**
+     * Sequential decoder over the mapped buffer. Uses absolute reads only,
+     * so concurrent readers do not interfere.
+     */
+    private final class Reader {
+        private int position;
+
+        Reader(int position) {
+            this.position = position;
+        }
+
+        int integer() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        String string() {
+            int length = integer();
+            if (length == CatalogFormat.NULL_LENGTH) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(position, bytes);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        List<String> strings() {
+            int count = integer();
+            if (count == CatalogFormat.NULL_LENGTH) {
+                return null;
+            }
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(string());
+            }
+            return Collections.unmodifiableList(values);
+        }
+    }
+
+    /**
+     * Immutable list that decodes its elements on access.
+     */
+    private static final class LazyList<T> extends AbstractList<T> implements RandomAccess {
+        private final int size;
+        private final IntFunction<T> decoder;
+
+        LazyList(int size, IntFunction<T> decoder) {
+            this.size = size;
+            this.decoder = decoder;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return decoder.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
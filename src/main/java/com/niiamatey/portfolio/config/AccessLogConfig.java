@@ -0,0 +1,56 @@
+package com.niiamatey.portfolio.config;
+
+import com.niiamatey.portfolio.accesslog.AccessLogFilter;
+import com.niiamatey.portfolio.accesslog.AccessLogRingBuffer;
+import com.niiamatey.portfolio.accesslog.AccessLogWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires the asynchronous access log: a filter ahead of the rate limiter (so
+ * 429s are logged too) feeding a ring buffer drained by a single writer thread.
+ */
+@Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
+@ConditionalOnProperty(prefix = "portfolio.access-log", name = "enabled", matchIfMissing = true)
+public class AccessLogConfig {
+
+    /**
+     * Nothing depends on the writer, so under lazy initialization it would never start draining the buffer.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerAccessLogWriter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(AccessLogWriter.class);
+    }
+
+    @Bean
+    public AccessLogRingBuffer accessLogRingBuffer(AccessLogProperties properties,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(properties.getBufferSize());
+        meterRegistry.ifAvailable(registry -> FunctionCounter
+                .builder("portfolio.access-log.dropped", buffer, AccessLogRingBuffer::droppedCount)
+                .description("Access log entries dropped because the buffer was full")
+                .register(registry));
+        return buffer;
+    }
+
+    @Bean
+    public AccessLogWriter accessLogWriter(AccessLogRingBuffer buffer, AccessLogProperties properties) {
+        return new AccessLogWriter(buffer, properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogRingBuffer buffer) {
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(new AccessLogFilter(buffer));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,50 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the asynchronous access log.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.access-log")
+public class AccessLogProperties {
+
+    /**
+     * Whether every request is recorded in the access log
+     */
+    private boolean enabled = true;
+
+    /**
+     * Newline-delimited JSON file the access log is written to
+     */
+    private String file = "data/logs/access.log";
+
+    /**
+     * Number of entries buffered for the writer (rounded up to a power of two); further entries are dropped
+     */
+    private int bufferSize = 8_192;
+
+    /**
+     * Maximum number of entries written to the file in one batch
+     */
+    private int batchSize = 512;
+
+    /**
+     * How long the writer sleeps when the buffer is empty
+     */
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    /**
+     * Size at which the file is rolled over to file.1
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+
+    /**
+     * Number of rolled-over files kept
+     */
+    private int maxHistory = 5;
+}
@@ -0,0 +1,22 @@
+package com.niiamatey.portfolio.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niiamatey.portfolio.importer.PortfolioImporter;
+import jakarta.validation.Validator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the NDJSON import behind the admin API.
+ */
+@Configuration
+@EnableConfigurationProperties(AdminProperties.class)
+public class AdminConfig {
+
+    @Bean
+    public PortfolioImporter portfolioImporter(ObjectMapper objectMapper, Validator validator,
+                                               AdminProperties properties) {
+        return new PortfolioImporter(objectMapper, validator, properties.getMaxImportRecords());
+    }
+}
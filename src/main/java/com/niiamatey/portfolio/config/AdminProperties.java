@@ -0,0 +1,22 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the admin API that imports portfolio content at runtime.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.admin")
+public class AdminProperties {
+
+    /**
+     * Bearer token admin requests must present; empty disables the admin API
+     */
+    private String token = "";
+
+    /**
+     * Most records accepted in one import, bounding the memory a single request can take
+     */
+    private int maxImportRecords = 1_000_000;
+}
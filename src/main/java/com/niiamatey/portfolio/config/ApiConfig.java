@@ -0,0 +1,56 @@
+package com.niiamatey.portfolio.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.niiamatey.portfolio.controller.ApiEncodingArgumentResolver;
+import com.niiamatey.portfolio.repository.TechnologyMatch;
+import com.niiamatey.portfolio.service.FieldProjections;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Wires the response encodings and sparse fieldset support of the REST API.
+ */
+@Configuration
+@EnableConfigurationProperties(ApiProperties.class)
+public class ApiConfig {
+
+    /**
+     * Writers for JSON and CBOR. The CBOR mapper comes from the same
+     * auto-configured builder as the JSON one, so both encode the same document.
+     */
+    @Bean
+    public FieldProjections fieldProjections(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder,
+                                             ApiProperties properties) {
+        ObjectMapper cborMapper = builder.createXmlMapper(false).factory(new CBORFactory()).build();
+        return new FieldProjections(objectMapper, cborMapper, properties.getPreserializedProjections());
+    }
+
+    /**
+     * Resolves the response encoding from the Accept header, and lets
+     * {@code ?mode=all|any} name a {@link TechnologyMatch} in any case.
+     */
+    @Bean
+    public WebMvcConfigurer apiEncodingConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+                resolvers.add(new ApiEncodingArgumentResolver());
+            }
+
+            @Override
+            public void addFormatters(FormatterRegistry registry) {
+                registry.addConverter(String.class, TechnologyMatch.class,
+                        mode -> TechnologyMatch.valueOf(mode.trim().toUpperCase(Locale.ROOT)));
+            }
+        };
+    }
+}
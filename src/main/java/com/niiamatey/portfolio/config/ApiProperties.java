@@ -0,0 +1,27 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for the REST API responses.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.api")
+public class ApiProperties {
+
+    /**
+     * Field projections (values of {@code ?fields=}) whose responses are serialized once per data
+     * version and cached; other projections are serialized on each request
+     */
+    private List<String> preserializedProjections = new ArrayList<>(List.of("id,title,icon", "id,title,technologies"));
+
+    /**
+     * Largest number of projects, skills and experiences that full-text search indexes; above it
+     * {@code /api/v1/search} answers 404, since the index keeps every document on the heap
+     */
+    private int searchMaxDocuments = 100_000;
+}
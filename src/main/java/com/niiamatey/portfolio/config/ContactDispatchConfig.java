@@ -0,0 +1,56 @@
+package com.niiamatey.portfolio.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niiamatey.portfolio.contact.ContactDispatcher;
+import com.niiamatey.portfolio.contact.ContactSink;
+import com.niiamatey.portfolio.contact.FileContactSink;
+import com.niiamatey.portfolio.contact.SmtpContactSink;
+import com.niiamatey.portfolio.contact.WebhookContactSink;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Wires the asynchronous contact submission pipeline.
+ *
+ * Every {@link ContactSink} bean receives each batch of submissions; define
+ * another {@code ContactSink} bean to plug in an additional destination.
+ */
+@Configuration
+@EnableConfigurationProperties(ContactDispatchProperties.class)
+public class ContactDispatchConfig {
+
+    /**
+     * Digest email notification (local stand-in that logs instead of sending).
+     */
+    @Bean
+    public SmtpContactSink smtpContactSink(ContactDispatchProperties properties) {
+        return new SmtpContactSink(properties.getNotifyEmail());
+    }
+
+    /**
+     * Durable local record of every submission.
+     */
+    @Bean
+    public FileContactSink fileContactSink(ContactDispatchProperties properties, ObjectMapper objectMapper) {
+        return new FileContactSink(Path.of(properties.getFile()), objectMapper);
+    }
+
+    /**
+     * CRM/chat webhook; only logs when no URL is configured.
+     */
+    @Bean
+    public WebhookContactSink webhookContactSink(ContactDispatchProperties properties, ObjectMapper objectMapper) {
+        return new WebhookContactSink(properties.getWebhookUrl(), objectMapper);
+    }
+
+    @Bean
+    public ContactDispatcher contactDispatcher(List<ContactSink> sinks,
+                                               ContactDispatchProperties properties,
+                                               ObjectMapper objectMapper) {
+        return new ContactDispatcher(sinks, properties, objectMapper);
+    }
+}
@@ -0,0 +1,74 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the asynchronous contact submission pipeline.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.contact")
+public class ContactDispatchProperties {
+
+    /**
+     * Maximum number of submissions waiting for delivery; further submissions are rejected
+     */
+    private int queueCapacity = 1_000;
+
+    /**
+     * Number of worker threads draining the queue
+     */
+    private int workers = 2;
+
+    /**
+     * Maximum number of messages delivered to a sink in one batch
+     */
+    private int batchSize = 50;
+
+    /**
+     * How long a worker waits to gather more messages into one digest after the first arrives
+     */
+    private Duration digestWindow = Duration.ofSeconds(5);
+
+    /**
+     * Delivery attempts per sink before a batch is dead-lettered
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Backoff before the first retry; doubled on each further attempt
+     */
+    private Duration initialBackoff = Duration.ofMillis(500);
+
+    /**
+     * Upper bound for the retry backoff
+     */
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    /**
+     * How long shutdown waits for queued messages to be delivered
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Recipient of the notification digest emails
+     */
+    private String notifyEmail = "armahtey@gmail.com";
+
+    /**
+     * Newline-delimited JSON file every submission is appended to
+     */
+    private String file = "data/contact/messages.ndjson";
+
+    /**
+     * Newline-delimited JSON file for batches that could not be delivered
+     */
+    private String deadLetterFile = "data/contact/dead-letter.ndjson";
+
+    /**
+     * Webhook URL receiving each batch as JSON; when empty the webhook sink only logs
+     */
+    private String webhookUrl;
+}
@@ -0,0 +1,32 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * One-shot messages shown after a redirect, carried in a signed cookie
+ * instead of the HTTP session.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.flash")
+public class FlashProperties {
+
+    /**
+     * Name of the cookie carrying the message
+     */
+    private String cookieName = "portfolio_flash";
+
+    /**
+     * HMAC key signing the cookie; must be the same on every instance behind a load balancer.
+     * Empty generates a random key per instance, so a message only shows if the redirect
+     * lands on the instance that set it
+     */
+    private String secret = "";
+
+    /**
+     * How long a message stays valid if the redirect is not followed
+     */
+    private Duration ttl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,36 @@
+package com.niiamatey.portfolio.config;
+
+import com.niiamatey.portfolio.view.FlashCookies;
+import com.niiamatey.portfolio.view.FlushDialect;
+import com.niiamatey.portfolio.view.PreloadLinks;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+/**
+ * Wires progressive rendering, preload hints and session-free flash
+ * messages for the homepage.
+ */
+@Configuration
+@EnableConfigurationProperties({HomepageProperties.class, FlashProperties.class})
+public class HomepageConfig {
+
+    /**
+     * Picked up by the auto-configured Thymeleaf template engine.
+     */
+    @Bean
+    public FlushDialect flushDialect(HomepageProperties properties) {
+        return new FlushDialect(properties.isStreaming());
+    }
+
+    @Bean
+    public PreloadLinks preloadLinks(ResourceUrlProvider mvcResourceUrlProvider, HomepageProperties properties) {
+        return new PreloadLinks(mvcResourceUrlProvider, properties.isEarlyHints());
+    }
+
+    @Bean
+    public FlashCookies flashCookies(FlashProperties properties) {
+        return new FlashCookies(properties);
+    }
+}
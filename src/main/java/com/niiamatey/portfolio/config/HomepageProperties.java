@@ -0,0 +1,24 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Delivery of the homepage: progressive flushing and preload hints.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.homepage")
+public class HomepageProperties {
+
+    /**
+     * Whether the page is sent in chunks as it renders, starting with the document head,
+     * instead of once the whole page is rendered
+     */
+    private boolean streaming = true;
+
+    /**
+     * Whether the preload Link headers are also sent as a 103 Early Hints response
+     * when the servlet container supports it
+     */
+    private boolean earlyHints = true;
+}
@@ -0,0 +1,55 @@
+package com.niiamatey.portfolio.config;
+
+import com.niiamatey.portfolio.loadshedding.LoadSheddingFilter;
+import com.niiamatey.portfolio.loadshedding.RequestPriority;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Locale;
+
+/**
+ * Registers the adaptive load shedding filter behind the access log and
+ * rate limiter, so shed requests are logged and rate-limited clients do not
+ * take up the concurrency limit.
+ */
+@Configuration
+@EnableConfigurationProperties(LoadSheddingProperties.class)
+@ConditionalOnProperty(prefix = "portfolio.load-shedding", name = "enabled", matchIfMissing = true)
+public class LoadSheddingConfig {
+
+    @Bean
+    public LoadSheddingFilter loadSheddingFilter(LoadSheddingProperties properties,
+                                                ObjectProvider<MeterRegistry> meterRegistry) {
+        LoadSheddingFilter filter = new LoadSheddingFilter(properties);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("portfolio.load-shedding.limit", filter, LoadSheddingFilter::limit)
+                    .description("Current adaptive concurrency limit")
+                    .register(registry);
+            Gauge.builder("portfolio.load-shedding.in-flight", filter, LoadSheddingFilter::inFlight)
+                    .description("Requests currently admitted")
+                    .register(registry);
+            for (RequestPriority priority : RequestPriority.values()) {
+                FunctionCounter.builder("portfolio.load-shedding.shed", filter, f -> f.shedCount(priority))
+                        .description("Requests rejected with 503 to keep latency within the limit")
+                        .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+        });
+        return filter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilterRegistration(LoadSheddingFilter filter) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 15);
+        return registration;
+    }
+}
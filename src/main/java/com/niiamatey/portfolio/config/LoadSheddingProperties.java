@@ -0,0 +1,105 @@
+package com.niiamatey.portfolio.config;
+
+import com.niiamatey.portfolio.loadshedding.RequestPriority;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limit shared by all requests, with priority classes.
+ *
+ * The limit follows the observed latency: it grows while latency stays near
+ * its long-term average and shrinks as requests start to queue. Each class
+ * may use a share of the limit, so lower classes are turned away with 503
+ * first while the higher ones still get through. Rules are matched in order
+ * against the request method and path; the first matching rule sets the
+ * class and requests matching no rule get the default class.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.load-shedding")
+public class LoadSheddingProperties {
+
+    /**
+     * Whether requests are limited and shed at all
+     */
+    private boolean enabled = true;
+
+    /**
+     * Concurrency limit before any latency has been observed
+     */
+    private int initialLimit = 20;
+
+    /**
+     * The limit never drops below this many concurrent requests
+     */
+    private int minLimit = 8;
+
+    /**
+     * The limit never grows beyond this; keep it at or below the server's worker threads
+     */
+    private int maxLimit = 200;
+
+    /**
+     * How much slower than its long-term baseline latency may get before the limit shrinks, e.g. 1.5 for 50%
+     */
+    private double tolerance = 1.5;
+
+    /**
+     * Weight of each new estimate in the limit, from 0 (never changes) to 1 (no smoothing)
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Period over which latency is averaged before the limit is updated
+     */
+    private Duration window = Duration.ofMillis(100);
+
+    /**
+     * Fewest completed requests in a window for it to update the limit
+     */
+    private int minWindowSamples = 10;
+
+    /**
+     * Retry-After sent with shed requests
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Class of requests matching no rule
+     */
+    private RequestPriority defaultPriority = RequestPriority.PAGE;
+
+    /**
+     * Fraction of the limit each class may fill; critical requests are never limited
+     */
+    private Map<RequestPriority, Double> shares = new EnumMap<>(Map.of(
+            RequestPriority.PAGE, 1.0,
+            RequestPriority.API, 0.75,
+            RequestPriority.SUBMISSION, 0.5));
+
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * Assigns a priority class to the requests matching a path pattern.
+     */
+    @Data
+    public static class Rule {
+
+        /**
+         * Path pattern, e.g. "/contact" or "/api/v1/**"
+         */
+        private String path;
+
+        /**
+         * HTTP methods the rule applies to; empty means all methods
+         */
+        private List<String> methods = new ArrayList<>();
+
+        private RequestPriority priority = RequestPriority.PAGE;
+    }
+}
@@ -0,0 +1,25 @@
+package com.niiamatey.portfolio.config;
+
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
+import com.niiamatey.portfolio.metrics.RenderTimingInterceptor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the view render timing of {@link PortfolioMetrics}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public WebMvcConfigurer renderTimingConfigurer(PortfolioMetrics metrics) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new RenderTimingInterceptor(metrics));
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.niiamatey.portfolio.config;
+
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
+import com.niiamatey.portfolio.microcache.MicroCacheFilter;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.view.FlashCookies;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Registers the full-response micro-cache behind the access log and rate
+ * limiter, so cached responses are still logged and limited.
+ */
+@Configuration
+@EnableConfigurationProperties(MicroCacheProperties.class)
+@ConditionalOnProperty(prefix = "portfolio.micro-cache", name = "enabled", matchIfMissing = true)
+public class MicroCacheConfig {
+
+    @Bean
+    public MicroCacheFilter microCacheFilter(MicroCacheProperties properties, PortfolioRepository repository,
+                                            PortfolioMetrics metrics, ObjectProvider<FlashCookies> flashCookies,
+                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        // A page showing a flash message is for that visitor only
+        Set<String> bypassCookies = flashCookies.stream().map(FlashCookies::cookieName).collect(Collectors.toSet());
+        MicroCacheFilter filter = new MicroCacheFilter(properties, bypassCookies, repository::version,
+                metrics.cache("response"));
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("portfolio.micro-cache.size", filter, MicroCacheFilter::cachedBytes)
+                    .description("Size of the cached responses")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("portfolio.micro-cache.entries", filter, MicroCacheFilter::cachedCount)
+                    .description("Number of cached responses")
+                    .register(registry);
+            FunctionCounter.builder("portfolio.micro-cache.coalesced", filter, MicroCacheFilter::coalescedCount)
+                    .description("Requests served from a render started by a concurrent request")
+                    .register(registry);
+        });
+        return filter;
+    }
+
+    @Bean
+    public FilterRegistrationBean<MicroCacheFilter> microCacheFilterRegistration(MicroCacheFilter filter) {
+        FilterRegistrationBean<MicroCacheFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,52 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Full-response micro-cache for idempotent GET requests.
+ *
+ * Whole responses of the configured paths are kept for a short time, keyed
+ * by path, query string and negotiated encoding, and dropped as soon as new
+ * portfolio data is published.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.micro-cache")
+public class MicroCacheProperties {
+
+    /**
+     * Whether responses are cached at all
+     */
+    private boolean enabled = true;
+
+    /**
+     * Path patterns whose GET responses are cached, e.g. "/" or "/api/v1/**"
+     */
+    private List<String> paths = new ArrayList<>(List.of("/", "/projects", "/about", "/api/v1/**"));
+
+    /**
+     * How long a cached response is served before it is rendered again
+     */
+    private Duration ttl = Duration.ofSeconds(10);
+
+    /**
+     * Total size of the cached bodies; least recently used responses are evicted beyond it
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(16);
+
+    /**
+     * Largest single response that is cached
+     */
+    private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+
+    /**
+     * How long concurrent requests for a response being rendered wait for it
+     * before rendering it themselves
+     */
+    private Duration lockTimeout = Duration.ofSeconds(5);
+}
@@ -1,11 +1,22 @@
 package com.niiamatey.portfolio.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niiamatey.portfolio.catalog.PortfolioCatalog;
 import com.niiamatey.portfolio.model.Experience;
 import com.niiamatey.portfolio.model.Project;
 import com.niiamatey.portfolio.model.Skill;
+import com.niiamatey.portfolio.repository.PortfolioDataLoader;
+import com.niiamatey.portfolio.repository.PortfolioDataWatcher;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import jakarta.validation.Validator;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 
@@ -13,10 +24,13 @@ import java.util.List;
  * Configuration class that provides portfolio data as Spring beans.
  * 
  * This centralizes all portfolio content, making it easy to update
- * and maintain. In a production environment, this data could come
- * from a database or external configuration.
+ * and maintain. These beans are the built-in defaults; setting
+ * {@code portfolio.data.location} replaces them with an external JSON or
+ * YAML file (or directory) that is hot-reloaded when it changes, and
+ * {@code portfolio.data.catalog} with a memory-mapped binary catalog.
  */
 @Configuration
+@EnableConfigurationProperties(PortfolioDataProperties.class)
 public class PortfolioDataConfig {
 
     /**
@@ -163,4 +177,41 @@ public class PortfolioDataConfig {
                 .build()
         );
     }
+
+    /**
+     * Keeps external data loading eager under {@code spring.main.lazy-initialization},
+     * so requests are never answered from the built-in data while it loads.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerPortfolioData() {
+        return LazyInitializationExcludeFilter.forBeanTypes(PortfolioDataWatcher.class, PortfolioCatalog.class);
+    }
+
+    /**
+     * Loads and watches external portfolio data when {@code portfolio.data.location} is set.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "portfolio.data", name = "location")
+    public PortfolioDataWatcher portfolioDataWatcher(PortfolioRepository repository,
+                                                     ObjectMapper objectMapper,
+                                                     Validator validator,
+                                                     PortfolioDataProperties properties) {
+        return new PortfolioDataWatcher(repository, new PortfolioDataLoader(objectMapper, validator), properties);
+    }
+
+    /**
+     * Serves the binary catalog at {@code portfolio.data.catalog} from a memory
+     * mapping instead of the built-in data.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "portfolio.data", name = "catalog")
+    public PortfolioCatalog portfolioCatalog(PortfolioRepository repository,
+                                             PortfolioDataProperties properties) throws IOException {
+        if (properties.getLocation() != null) {
+            throw new IllegalStateException("Set either portfolio.data.location or portfolio.data.catalog, not both");
+        }
+        PortfolioCatalog catalog = PortfolioCatalog.open(Path.of(properties.getCatalog()));
+        repository.publish(catalog);
+        return catalog;
+    }
 }
@@ -0,0 +1,37 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for loading portfolio content from outside the application.
+ *
+ * When neither a location nor a catalog is set, the built-in data from {@link PortfolioDataConfig} is used.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.data")
+public class PortfolioDataProperties {
+
+    /**
+     * JSON or YAML file, or a directory of such files, holding skills, projects and experiences
+     */
+    private String location;
+
+    /**
+     * Binary catalog file written by CatalogConverter, memory-mapped and decoded on access;
+     * suited to very large portfolios. Cannot be combined with location
+     */
+    private String catalog;
+
+    /**
+     * Whether to watch the location and reload the data when it changes
+     */
+    private boolean watch = true;
+
+    /**
+     * Quiet period after a change before reloading, so multi-step writes are picked up once
+     */
+    private Duration reloadDelay = Duration.ofMillis(500);
+}
@@ -0,0 +1,27 @@
+package com.niiamatey.portfolio.config;
+
+import com.niiamatey.portfolio.ratelimit.RateLimitFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the per-client rate limiting filter ahead of all other filters,
+ * so throttled requests are rejected before any other work is done.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "portfolio.rate-limit", name = "enabled", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
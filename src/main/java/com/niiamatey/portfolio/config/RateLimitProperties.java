@@ -0,0 +1,69 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-client rate limits, configured per endpoint.
+ *
+ * Rules are matched in order against the request method and path; the first
+ * matching rule applies and requests matching no rule are not limited.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether rate limiting is applied at all
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of client buckets kept per rule; bounds memory regardless of client count
+     */
+    private int tableSize = 65_536;
+
+    /**
+     * Number of reverse proxies in front of the app whose X-Forwarded-For entries are trusted.
+     * 0 ignores the header and uses the connection's remote address.
+     */
+    private int trustedProxies = 0;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * A token bucket applied to the requests matching a path pattern.
+     */
+    @Data
+    public static class Rule {
+
+        /**
+         * Path pattern, e.g. "/contact" or "/api/v1/**"
+         */
+        private String path;
+
+        /**
+         * HTTP methods the rule applies to; empty means all methods
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * Maximum burst of requests a single client can make
+         */
+        private int capacity = 10;
+
+        /**
+         * Tokens returned to each bucket per refill period
+         */
+        private int refillTokens = 10;
+
+        /**
+         * Period over which refill-tokens are returned
+         */
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,19 @@
+package com.niiamatey.portfolio.config;
+
+import com.niiamatey.portfolio.image.ImageDerivativeService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires generation of the responsive image derivatives.
+ */
+@Configuration
+@EnableConfigurationProperties(ResponsiveImageProperties.class)
+public class ResponsiveImageConfig {
+
+    @Bean
+    public ImageDerivativeService imageDerivativeService(ResponsiveImageProperties properties) {
+        return new ImageDerivativeService(properties);
+    }
+}
@@ -0,0 +1,40 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for the resized image derivatives generated from {@code static/images}.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.images")
+public class ResponsiveImageProperties {
+
+    /**
+     * Whether derivatives are generated; when false pages reference the originals only
+     */
+    private boolean enabled = true;
+
+    /**
+     * Derivative widths in pixels; widths not smaller than the original are skipped
+     */
+    private List<Integer> widths = new ArrayList<>(List.of(320, 640, 960, 1280));
+
+    /**
+     * JPEG compression quality between 0 and 1
+     */
+    private float quality = 0.8f;
+
+    /**
+     * Directory the generated derivatives are cached in, keyed by content hash
+     */
+    private String cacheDirectory = "data/image-cache";
+
+    /**
+     * Originals with more pixels than this are served as-is rather than decoded
+     */
+    private long maxSourcePixels = 40_000_000L;
+}
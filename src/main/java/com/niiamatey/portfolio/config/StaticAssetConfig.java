@@ -0,0 +1,80 @@
+package com.niiamatey.portfolio.config;
+
+import com.niiamatey.portfolio.assets.AssetCacheControlInterceptor;
+import com.niiamatey.portfolio.assets.StaticAssetPipeline;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Serves stylesheets and scripts under content-hashed URLs.
+ *
+ * Links written as {@code @{/css/styles.css}} in templates are rewritten to
+ * {@code /css/styles-<md5>.css}, so the responses can be cached for a year as
+ * immutable: any change to a file changes its URL. The plain URLs still
+ * resolve but must be revalidated (see {@link AssetCacheControlInterceptor}).
+ * Precompressed {@code .gz} variants from {@link StaticAssetPipeline} are
+ * picked by Accept-Encoding.
+ */
+@Configuration
+@EnableConfigurationProperties(StaticAssetProperties.class)
+public class StaticAssetConfig {
+
+    private static final String CLASSPATH_LOCATION = "classpath:/static/";
+    private static final String[] ASSET_DIRECTORIES = {"css", "js"};
+
+    @Bean
+    @ConditionalOnProperty(prefix = "portfolio.assets", name = "minify", matchIfMissing = true)
+    public StaticAssetPipeline staticAssetPipeline(StaticAssetProperties properties) {
+        return new StaticAssetPipeline(Path.of(properties.getOutputDirectory()));
+    }
+
+    @Bean
+    public WebMvcConfigurer staticAssetResourceHandlers(ObjectProvider<StaticAssetPipeline> pipeline) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addResourceHandlers(ResourceHandlerRegistry registry) {
+                StaticAssetPipeline processed = pipeline.getIfAvailable();
+                for (String directory : ASSET_DIRECTORIES) {
+                    String classpathLocation = CLASSPATH_LOCATION + directory + "/";
+                    String[] locations = processed == null
+                            ? new String[] {classpathLocation}
+                            : new String[] {"file:" + processed.getOutputDirectory().resolve(directory).toAbsolutePath() + "/",
+                                            classpathLocation};
+                    registry.addResourceHandler("/" + directory + "/**")
+                            .addResourceLocations(locations)
+                            .resourceChain(true)
+                            .addResolver(new EncodedResourceResolver())
+                            .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+                }
+            }
+
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                // The handlers set no Cache-Control of their own, so this one stands
+                registry.addInterceptor(new AssetCacheControlInterceptor())
+                        .addPathPatterns(Arrays.stream(ASSET_DIRECTORIES).map(d -> "/" + d + "/**").toArray(String[]::new));
+            }
+        };
+    }
+
+    /**
+     * Rewrites static resource links rendered by Thymeleaf to their fingerprinted URLs.
+     */
+    @Bean
+    public FilterRegistrationBean<ResourceUrlEncodingFilter> resourceUrlEncodingFilter() {
+        return new FilterRegistrationBean<>(new ResourceUrlEncodingFilter());
+    }
+}
@@ -0,0 +1,22 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the fingerprinted, precompressed stylesheet and script pipeline.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.assets")
+public class StaticAssetProperties {
+
+    /**
+     * Whether CSS and JS are minified and precompressed at startup; when false the originals are served
+     */
+    private boolean minify = true;
+
+    /**
+     * Directory the minified and gzipped assets are written to
+     */
+    private String outputDirectory = "data/static-assets";
+}
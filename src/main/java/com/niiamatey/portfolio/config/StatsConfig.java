@@ -0,0 +1,64 @@
+package com.niiamatey.portfolio.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.stats.ViewStats;
+import com.niiamatey.portfolio.stats.ViewStatsWriter;
+import com.niiamatey.portfolio.stats.ViewTrackingFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.nio.file.Path;
+
+/**
+ * Wires the view statistics: a filter behind load shedding and in front of
+ * the micro-cache, so cached views count and shed ones do not, and the
+ * writer saving them to disk.
+ */
+@Configuration
+@EnableConfigurationProperties(StatsProperties.class)
+public class StatsConfig {
+
+    /**
+     * The writer restores saved statistics at startup, so it must not wait for first use.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerViewStatsWriter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(ViewStatsWriter.class);
+    }
+
+    @Bean
+    public ViewStats viewStats(StatsProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        ViewStats stats = new ViewStats(properties.getPages(), properties.getMaxProjects(), properties.getTopK(),
+                properties.getVisitorDays());
+        meterRegistry.ifAvailable(registry -> FunctionCounter
+                .builder("portfolio.stats.untracked", stats, ViewStats::untrackedViews)
+                .description("Project views not counted because max-projects was reached")
+                .register(registry));
+        return stats;
+    }
+
+    @Bean
+    public ViewStatsWriter viewStatsWriter(ViewStats stats, ObjectMapper objectMapper, StatsProperties properties,
+                                           PortfolioRepository repository) {
+        Path file = properties.getFile() == null || properties.getFile().isBlank()
+                ? null : Path.of(properties.getFile());
+        return new ViewStatsWriter(stats, objectMapper, file, properties.getFlushInterval(),
+                id -> repository.findProjectById(id).isPresent());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ViewTrackingFilter> viewTrackingFilter(ViewStats stats, StatsProperties properties) {
+        FilterRegistrationBean<ViewTrackingFilter> registration = new FilterRegistrationBean<>(
+                new ViewTrackingFilter(stats, properties.getTrustedProxies()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 17);
+        return registration;
+    }
+}
@@ -0,0 +1,51 @@
+package com.niiamatey.portfolio.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for the project and page view statistics.
+ */
+@Data
+@ConfigurationProperties(prefix = "portfolio.stats")
+public class StatsProperties {
+
+    /**
+     * JSON file the statistics are saved to and restored from; empty keeps them in memory only
+     */
+    private String file = "data/stats/views.json";
+
+    /**
+     * How often views are folded into today's ranking and the file is written
+     */
+    private Duration flushInterval = Duration.ofMinutes(1);
+
+    /**
+     * Pages whose views and unique visitors are counted
+     */
+    private List<String> pages = new ArrayList<>(List.of("/", "/projects", "/about"));
+
+    /**
+     * Most projects with a view counter; views of further projects are not counted
+     */
+    private int maxProjects = 100_000;
+
+    /**
+     * Projects counted in today's ranking; a project with more than 1/top-k of the day's views is sure to be in it
+     */
+    private int topK = 100;
+
+    /**
+     * Days of unique visitor estimates kept, at 16 KB per day
+     */
+    private int visitorDays = 30;
+
+    /**
+     * Number of reverse proxies in front of the app whose X-Forwarded-For entries identify visitors
+     */
+    private int trustedProxies = 0;
+}
@@ -0,0 +1,244 @@
+package com.niiamatey.portfolio.contact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niiamatey.portfolio.config.ContactDispatchProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous, batched delivery of contact submissions to {@link ContactSink}s.
+ *
+ * Submissions go into a bounded in-memory queue and {@link #submit} returns
+ * immediately, so request latency does not depend on downstream latency.
+ * When the queue is full the submission is rejected rather than blocking the
+ * request thread. Worker threads drain the queue in batches, waiting up to the
+ * digest window to fold bursts into a single delivery, and hand each batch to
+ * every sink. A failed delivery is retried with exponential backoff and jitter;
+ * once the attempts are exhausted the batch is appended to the dead-letter file.
+ * A batch still in flight when shutdown interrupts its worker is dead-lettered
+ * once, by the worker, under each sink that has not yet received it, so a
+ * replay does not deliver it twice. The queued remainder is dead-lettered
+ * for every sink by {@link #destroy}.
+ */
+@Slf4j
+public class ContactDispatcher implements InitializingBean, DisposableBean {
+
+    private static final long INTERRUPT_GRACE_MILLIS = 1_000;
+
+    private final List<ContactSink> sinks;
+    private final ContactDispatchProperties properties;
+    private final JsonLinesFile deadLetters;
+    private final BlockingQueue<ContactMessage> queue;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    private volatile boolean running;
+
+    public ContactDispatcher(List<ContactSink> sinks, ContactDispatchProperties properties, ObjectMapper objectMapper) {
+        this.sinks = List.copyOf(sinks);
+        this.properties = properties;
+        this.deadLetters = new JsonLinesFile(Path.of(properties.getDeadLetterFile()), objectMapper);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            Thread worker = new Thread(this::drain, "contact-dispatch-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Contact dispatcher started: {} workers, queue capacity {}, sinks {}",
+                workers.size(), properties.getQueueCapacity(), sinks.stream().map(ContactSink::name).toList());
+    }
+
+    /**
+     * Queues a message for delivery without blocking.
+     *
+     * @return {@code true} if queued, {@code false} if the queue is full or the dispatcher is stopping
+     */
+    public boolean submit(ContactMessage message) {
+        if (running && queue.offer(message)) {
+            accepted.incrementAndGet();
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Number of messages currently waiting for delivery.
+     */
+    public int queued() {
+        return queue.size();
+    }
+
+    public long acceptedCount() {
+        return accepted.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    public long deadLetteredCount() {
+        return deadLettered.get();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        }
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        // Let interrupted workers dead-letter the batch they were delivering
+        for (Thread worker : workers) {
+            worker.join(INTERRUPT_GRACE_MILLIS);
+        }
+        List<ContactMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            deadLetter(sinks, remaining, "Not delivered before shutdown");
+        }
+    }
+
+    private void drain() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<ContactMessage> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                ContactMessage first = queue.poll(250, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectDigest(batch, batchSize);
+                List<ContactMessage> collected = List.copyOf(batch);
+                batch.clear();
+                dispatch(collected);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!batch.isEmpty()) {
+                deadLetter(sinks, batch, "Interrupted during shutdown");
+            }
+        }
+    }
+
+    /**
+     * Gathers further messages into the batch until it is full or the digest window closes.
+     */
+    private void collectDigest(List<ContactMessage> batch, int batchSize) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.getDigestWindow().toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            ContactMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Delivers the batch to every sink in turn. When interrupted, dead-letters
+     * it for the sinks that have not received it yet.
+     */
+    private void dispatch(List<ContactMessage> batch) throws InterruptedException {
+        for (int i = 0; i < sinks.size(); i++) {
+            try {
+                deliverWithRetry(sinks.get(i), batch);
+            } catch (InterruptedException e) {
+                deadLetter(sinks.subList(i, sinks.size()), batch, "Interrupted during shutdown");
+                throw e;
+            }
+        }
+    }
+
+    private void deliverWithRetry(ContactSink sink, List<ContactMessage> batch) throws InterruptedException {
+        long backoff = properties.getInitialBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                sink.deliver(batch);
+                log.debug("Delivered {} contact message(s) to {} on attempt {}", batch.size(), sink.name(), attempt);
+                return;
+            } catch (InterruptedException e) {
+                // Dead-lettered by dispatch(), which knows the sinks still pending
+                throw e;
+            } catch (Exception e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    log.error("Giving up delivering {} contact message(s) to {} after {} attempts: {}",
+                            batch.size(), sink.name(), attempt, e.toString());
+                    deadLetter(sink.name(), batch, e.toString());
+                    return;
+                }
+                long delay = backoff + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+                log.warn("Delivery to {} failed (attempt {}), retrying in {} ms: {}",
+                        sink.name(), attempt, delay, e.toString());
+                Thread.sleep(delay);
+                backoff = Math.min(backoff * 2, properties.getMaxBackoff().toMillis());
+            }
+        }
+    }
+
+    private void deadLetter(String sink, List<ContactMessage> batch, String error) {
+        append(List.of(new DeadLetter(Instant.now(), sink, error, batch)), batch);
+    }
+
+    /**
+     * Writes one record per sink, counting the messages once.
+     */
+    private void deadLetter(List<ContactSink> pending, List<ContactMessage> batch, String error) {
+        Instant now = Instant.now();
+        append(pending.stream().map(sink -> new DeadLetter(now, sink.name(), error, batch)).toList(), batch);
+    }
+
+    private void append(List<DeadLetter> records, List<ContactMessage> batch) {
+        try {
+            deadLetters.append(records);
+            deadLettered.addAndGet(batch.size());
+        } catch (IOException e) {
+            log.error("Failed to write {} contact message(s) to dead-letter file {}: {}",
+                    batch.size(), deadLetters.path(), e.toString());
+        }
+    }
+
+    /**
+     * A batch that could not be delivered to a sink, as written to the dead-letter file.
+     */
+    @Data
+    @AllArgsConstructor
+    static class DeadLetter {
+        private Instant failedAt;
+        private String sink;
+        private String error;
+        private List<ContactMessage> messages;
+    }
+}
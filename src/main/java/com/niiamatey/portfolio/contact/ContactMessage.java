@@ -0,0 +1,49 @@
+package com.niiamatey.portfolio.contact;
+
+import com.niiamatey.portfolio.model.ContactForm;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A validated contact form submission queued for delivery.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactMessage {
+
+    /**
+     * Unique identifier, used to de-duplicate retried deliveries downstream
+     */
+    private String id;
+
+    /**
+     * Time the submission was accepted
+     */
+    private Instant receivedAt;
+
+    private String name;
+    private String email;
+    private String subject;
+    private String message;
+
+    /**
+     * Creates a message from a submitted (and already validated) contact form.
+     */
+    public static ContactMessage from(ContactForm form) {
+        return ContactMessage.builder()
+                .id(UUID.randomUUID().toString())
+                .receivedAt(Instant.now())
+                .name(form.getName())
+                .email(form.getEmail())
+                .subject(form.getSubject())
+                .message(form.getMessage())
+                .build();
+    }
+}
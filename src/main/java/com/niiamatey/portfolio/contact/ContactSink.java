@@ -0,0 +1,27 @@
+package com.niiamatey.portfolio.contact;
+
+import java.util.List;
+
+/**
+ * A downstream destination for contact submissions (email, file, webhook, ...).
+ *
+ * Sinks receive messages in batches from {@link ContactDispatcher}'s worker
+ * threads, never on a request thread. A delivery that throws is retried with
+ * exponential backoff and finally written to the dead-letter file.
+ * Implementations must be thread-safe.
+ */
+public interface ContactSink {
+
+    /**
+     * Short name used in logs and dead-letter records.
+     */
+    String name();
+
+    /**
+     * Delivers a batch of messages.
+     *
+     * @param batch one or more messages, oldest first
+     * @throws Exception if the delivery failed and should be retried
+     */
+    void deliver(List<ContactMessage> batch) throws Exception;
+}
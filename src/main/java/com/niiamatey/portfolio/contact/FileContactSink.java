@@ -0,0 +1,29 @@
+package com.niiamatey.portfolio.contact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Appends contact messages to a local newline-delimited JSON file.
+ */
+public class FileContactSink implements ContactSink {
+
+    private final JsonLinesFile file;
+
+    public FileContactSink(Path file, ObjectMapper objectMapper) {
+        this.file = new JsonLinesFile(file, objectMapper);
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void deliver(List<ContactMessage> batch) throws IOException {
+        file.append(batch);
+    }
+}
@@ -0,0 +1,45 @@
+package com.niiamatey.portfolio.contact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Append-only newline-delimited JSON file, safe for concurrent writers.
+ */
+class JsonLinesFile {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    JsonLinesFile(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    Path path() {
+        return file;
+    }
+
+    /**
+     * Appends each value as one JSON line, writing the whole list with a single file open.
+     */
+    synchronized void append(List<?> values) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            for (Object value : values) {
+                out.write(objectMapper.writeValueAsBytes(value));
+                out.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.niiamatey.portfolio.contact;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Local stand-in for an SMTP notification sink.
+ *
+ * Formats each batch as a single digest email to the site owner and logs
+ * it instead of connecting to a mail server.
+ */
+@Slf4j
+public class SmtpContactSink implements ContactSink {
+
+    private final String recipient;
+
+    public SmtpContactSink(String recipient) {
+        this.recipient = recipient;
+    }
+
+    @Override
+    public String name() {
+        return "smtp";
+    }
+
+    @Override
+    public void deliver(List<ContactMessage> batch) {
+        StringBuilder body = new StringBuilder();
+        for (ContactMessage message : batch) {
+            body.append("\n--- ").append(message.getReceivedAt())
+                .append(" | ").append(message.getName()).append(" <").append(message.getEmail()).append(">")
+                .append("\nSubject: ").append(message.getSubject())
+                .append("\n").append(message.getMessage()).append("\n");
+        }
+        log.info("[smtp stand-in] To: {} | Subject: {} new contact message(s){}", recipient, batch.size(), body);
+    }
+}
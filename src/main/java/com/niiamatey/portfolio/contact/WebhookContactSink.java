@@ -0,0 +1,55 @@
+package com.niiamatey.portfolio.contact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Posts each batch as a JSON array to a webhook (e.g. a CRM or chat integration).
+ *
+ * When no URL is configured the sink acts as a stub and only logs the batch.
+ */
+@Slf4j
+public class WebhookContactSink implements ContactSink {
+
+    private final URI url;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public WebhookContactSink(String url, ObjectMapper objectMapper) {
+        this.url = url == null || url.isBlank() ? null : URI.create(url);
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public void deliver(List<ContactMessage> batch) throws IOException, InterruptedException {
+        if (url == null) {
+            log.info("[webhook stub] Would post {} contact message(s)", batch.size());
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 300) {
+            throw new IOException("Webhook returned HTTP " + response.statusCode());
+        }
+    }
+}
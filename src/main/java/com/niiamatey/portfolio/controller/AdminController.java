@@ -0,0 +1,108 @@
+package com.niiamatey.portfolio.controller;
+
+import com.niiamatey.portfolio.config.AdminProperties;
+import com.niiamatey.portfolio.importer.ImportRejectedException;
+import com.niiamatey.portfolio.importer.PortfolioImporter;
+import com.niiamatey.portfolio.repository.PortfolioChanges;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.repository.PortfolioSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Admin API for changing the portfolio content at runtime.
+ *
+ * Requests must carry {@code Authorization: Bearer <portfolio.admin.token>};
+ * while no token is configured the API answers 404 Not Found.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private static final String BEARER = "Bearer ";
+
+    private final PortfolioRepository repository;
+    private final PortfolioImporter importer;
+    private final AdminProperties properties;
+
+    /**
+     * Applies a stream of upserts and deletes as one new data version.
+     *
+     * POST /api/v1/admin/import
+     * Content-Type: application/x-ndjson
+     *
+     * The body is read and validated record by record (see
+     * {@link PortfolioImporter}), then applied with
+     * {@link PortfolioRepository#apply}: readers keep the current version
+     * until the new one is published, and an invalid record leaves the data
+     * unchanged.
+     *
+     * @return the new data version and the number of entries changed
+     */
+    @PostMapping(path = "/import", consumes = PortfolioApiController.NDJSON)
+    public ResponseEntity<Map<String, Object>> importChanges(
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            InputStream body) throws IOException {
+        ResponseEntity<Map<String, Object>> denied = authorize(authorization);
+        if (denied != null) {
+            return denied;
+        }
+        long start = System.nanoTime();
+        PortfolioChanges changes = importer.read(body);
+        PortfolioSnapshot snapshot = repository.apply(changes);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("version", snapshot.getVersion());
+        result.put("changes", changes.size());
+        result.put("projects", snapshot.getProjects().size());
+        result.put("skills", snapshot.getSkills().size());
+        result.put("experiences", snapshot.getExperiences().size());
+        result.put("elapsedMs", (System.nanoTime() - start) / 1_000_000);
+        return ResponseEntity.ok(result);
+    }
+
+    @ExceptionHandler(ImportRejectedException.class)
+    public ResponseEntity<Map<String, Object>> rejected(ImportRejectedException e) {
+        log.info("Rejected portfolio import: {} errors", e.getErrors().size());
+        return ResponseEntity.badRequest().body(Map.of("errors", e.getErrors()));
+    }
+
+    /**
+     * Checks the bearer token in constant time.
+     *
+     * @return the response refusing the request, or {@code null} if it may proceed
+     */
+    private ResponseEntity<Map<String, Object>> authorize(String authorization) {
+        String token = properties.getToken();
+        if (token == null || token.isBlank()) {
+            return ResponseEntity.notFound().build();
+        }
+        byte[] presented = authorization != null && authorization.startsWith(BEARER)
+                ? authorization.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8)
+                : new byte[0];
+        if (!MessageDigest.isEqual(presented, token.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("Rejected admin request without a valid token");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                    .build();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.niiamatey.portfolio.controller;
+
+import com.niiamatey.portfolio.service.ApiEncoding;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link ApiEncoding} handler parameters from the request's Accept header.
+ */
+public class ApiEncodingArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == ApiEncoding.class;
+    }
+
+    @Override
+    public ApiEncoding resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                       NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return ApiEncoding.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+    }
+}
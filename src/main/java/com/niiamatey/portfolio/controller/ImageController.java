@@ -0,0 +1,54 @@
+package com.niiamatey.portfolio.controller;
+
+import com.niiamatey.portfolio.image.ImageDerivativeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the resized image derivatives referenced from {@code srcset}.
+ *
+ * Derivative URLs embed the original's content hash, so a response can be
+ * cached by browsers and CDNs forever. A derivative that is still being
+ * generated redirects to the original without being cached.
+ */
+@Controller
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageDerivativeService images;
+
+    /**
+     * GET /images/r/{hash}/{width}.{format} - Resized image derivative
+     */
+    @GetMapping("/images/r/{hash:[0-9a-f]+}/{width:\\d+}.{format:jpg|png}")
+    public ResponseEntity<Resource> derivative(@PathVariable String hash,
+                                               @PathVariable int width,
+                                               @PathVariable String format) {
+        Optional<Path> file = images.findDerivative(hash, width)
+                .filter(path -> path.getFileName().toString().endsWith("." + format));
+        if (file.isPresent()) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                    .contentType("png".equals(format) ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG)
+                    .body(new FileSystemResource(file.get()));
+        }
+        return images.findOriginalUrl(hash, width)
+                .map(url -> ResponseEntity.status(307)
+                        .cacheControl(CacheControl.noStore())
+                        .location(URI.create(url))
+                        .<Resource>build())
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
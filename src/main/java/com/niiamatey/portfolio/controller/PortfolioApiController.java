@@ -1,17 +1,40 @@
 package com.niiamatey.portfolio.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Experience.ExperienceType;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics.RouteMetrics;
 import com.niiamatey.portfolio.model.Project;
 import com.niiamatey.portfolio.model.Skill;
+import com.niiamatey.portfolio.pagination.Pagination;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.repository.PortfolioSnapshot;
+import com.niiamatey.portfolio.repository.TechnologyMatch;
+import com.niiamatey.portfolio.search.SearchHit;
+import com.niiamatey.portfolio.search.SearchService;
+import com.niiamatey.portfolio.service.ApiEncoding;
+import com.niiamatey.portfolio.service.ApiResponseCache;
+import com.niiamatey.portfolio.service.FieldProjection;
+import com.niiamatey.portfolio.service.FieldProjections;
+import com.niiamatey.portfolio.service.SerializedResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * REST API controller providing programmatic access to portfolio data.
@@ -22,7 +45,19 @@ import java.util.Optional;
  * - Mobile applications
  * - Integration with other services
  * 
- * All endpoints return JSON responses.
+ * All endpoints return JSON responses, or CBOR to clients that send
+ * {@code Accept: application/cbor} (see {@link ApiEncoding}). Data endpoints
+ * serve bodies that are serialized once per data version and encoding by
+ * {@link ApiResponseCache} and carry a strong ETag, so
+ * conditional requests with If-None-Match are answered with 304 Not Modified.
+ * Each route records its fetch and serialization time and payload size in
+ * {@link PortfolioMetrics}.
+ *
+ * Data endpoints accept {@code ?fields=id,title} to return only the named
+ * properties of each project, skill and experience; see {@link FieldProjections}.
+ * The project and experience lists are paged with {@code limit} and an opaque
+ * {@code cursor} (see {@link Pagination}), or streamed one JSON object per
+ * line when the client accepts {@code application/x-ndjson}.
  */
 @Slf4j
 @RestController
@@ -30,59 +65,146 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class PortfolioApiController {
 
-    private final List<Skill> skills;
-    private final List<Project> projects;
-    private final List<Experience> experiences;
+    static final String NDJSON = "application/x-ndjson";
+
+    /**
+     * Streamed entries between explicit flushes, so the first bytes leave early
+     */
+    private static final int STREAM_FLUSH_INTERVAL = 64;
+
+    private final PortfolioRepository repository;
+    private final ApiResponseCache responseCache;
+    private final SearchService searchService;
+    private final PortfolioMetrics metrics;
+    private final FieldProjections projections;
 
     /**
      * Returns all portfolio data in a single response.
      * 
      * GET /api/v1/portfolio
+     * GET /api/v1/portfolio?fields=id,title,icon
      * 
+     * @param fields optional comma-separated properties to include for each skill, project and experience
      * @return complete portfolio data including skills, projects, and experiences
      */
     @GetMapping("/portfolio")
-    public ResponseEntity<Map<String, Object>> getPortfolio() {
-        log.info("API request: GET /api/v1/portfolio");
-        
-        Map<String, Object> portfolio = new HashMap<>();
-        portfolio.put("name", "Nii Amatey Tagoe");
-        portfolio.put("title", "Software Engineer");
-        portfolio.put("email", "armahtey@gmail.com");
-        portfolio.put("github", "https://github.com/mrNiiAmatey");
-        portfolio.put("linkedin", "https://www.linkedin.com/in/mrarmahtey/");
-        portfolio.put("location", "Dallas-Fort Worth, TX");
-        portfolio.put("skills", skills);
-        portfolio.put("projects", projects);
-        portfolio.put("experiences", experiences);
-        
-        return ResponseEntity.ok(portfolio);
+    public ResponseEntity<byte[]> getPortfolio(@RequestParam(required = false) String fields,
+                                               ApiEncoding encoding) {
+        log.debug("API request: GET /api/v1/portfolio fields={}", fields);
+        FieldProjection projection = projections.resolve(fields, Skill.class, Project.class, Experience.class);
+        RouteMetrics route = metrics.route("/api/v1/portfolio");
+        PortfolioSnapshot snapshot = route.fetch(repository::snapshot);
+        return respond(route, responseCache.get(route, snapshot.getVersion(), "portfolio", encoding, projection,
+                () -> buildPortfolio(snapshot)));
     }
 
     /**
      * Returns all skills.
      * 
      * GET /api/v1/skills
+     * GET /api/v1/skills?fields=category
      * 
+     * @param fields optional comma-separated skill properties to include
      * @return list of skill categories with technologies
      */
     @GetMapping("/skills")
-    public ResponseEntity<List<Skill>> getSkills() {
-        log.info("API request: GET /api/v1/skills");
-        return ResponseEntity.ok(skills);
+    public ResponseEntity<byte[]> getSkills(@RequestParam(required = false) String fields, ApiEncoding encoding) {
+        log.debug("API request: GET /api/v1/skills fields={}", fields);
+        FieldProjection projection = projections.resolve(fields, Skill.class);
+        RouteMetrics route = metrics.route("/api/v1/skills");
+        PortfolioSnapshot snapshot = route.fetch(repository::snapshot);
+        return respond(route, responseCache.get(route, snapshot.getVersion(), "skills", encoding, projection,
+                snapshot::getSkills));
     }
 
     /**
-     * Returns all projects.
+     * Returns all projects, optionally filtered by type and/or technology.
      * 
      * GET /api/v1/projects
+     * GET /api/v1/projects?type=Microservice&technology=Spring Boot
+     * GET /api/v1/projects?tech=Java&tech=Spring Boot&mode=all
+     * GET /api/v1/projects?fields=id,title,icon
+     * GET /api/v1/projects?limit=20&cursor=...
      * 
-     * @return list of portfolio projects
+     * Results for a single technology are cached per data version. Filters on
+     * several technologies are served without caching: they are evaluated as
+     * a bitwise AND or OR over per-technology project sets, and caching every
+     * combination clients can ask for would not stay bounded.
+     * 
+     * @param type optional project type filter (case-insensitive)
+     * @param technology optional technology filter (case-insensitive); same as one {@code tech}
+     * @param tech optional technologies to filter by (case-insensitive, repeatable)
+     * @param mode whether projects must use ALL (default) or ANY of the technologies
+     * @param fields optional comma-separated project properties to include
+     * @param limit optional page size (1-100); returns a page with a next cursor instead of the whole list
+     * @param cursor optional cursor from the previous page
+     * @return list of matching portfolio projects, or one page of them
      */
     @GetMapping("/projects")
-    public ResponseEntity<List<Project>> getProjects() {
-        log.info("API request: GET /api/v1/projects");
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<byte[]> getProjects(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String technology,
+            @RequestParam(required = false) List<String> tech,
+            @RequestParam(defaultValue = "ALL") TechnologyMatch mode,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            ApiEncoding encoding) {
+        log.debug("API request: GET /api/v1/projects type={} technology={} tech={} mode={} fields={} limit={} cursor={}",
+                type, technology, tech, mode, fields, limit, cursor);
+        
+        FieldProjection projection = projections.resolve(fields, Project.class);
+        RouteMetrics route = metrics.route("/api/v1/projects");
+        PortfolioSnapshot snapshot = route.fetch(repository::snapshot);
+        List<String> technologies = technologies(technology, tech);
+        if (limit != null || cursor != null) {
+            List<Project> matches = route.fetch(() -> snapshot.findProjects(type, technologies, mode));
+            return respond(route, responseCache.serialize(route, encoding, projection,
+                    Pagination.page(matches, snapshot.getVersion(), projectFilters(type, technologies, mode), cursor,
+                            limit, Project::getId)));
+        }
+        if (type == null && technologies.isEmpty()) {
+            return respond(route, responseCache.get(route, snapshot.getVersion(), "projects", encoding, projection,
+                    snapshot::getProjects));
+        }
+        if (technologies.size() > 1) {
+            List<Project> matches = route.fetch(() -> snapshot.findProjects(type, technologies, mode));
+            return respond(route, responseCache.serialize(route, encoding, projection, matches));
+        }
+        
+        String single = technologies.isEmpty() ? null : technologies.get(0);
+        List<Project> matches = route.fetch(() -> snapshot.findProjects(type, single));
+        return respondList(route, snapshot,
+                "projects?type=" + normalize(type) + "&technology=" + normalize(single), encoding, projection,
+                matches);
+    }
+
+    /**
+     * Streams all matching projects as newline-delimited JSON.
+     * 
+     * GET /api/v1/projects (Accept: application/x-ndjson)
+     * 
+     * @param type optional project type filter (case-insensitive)
+     * @param technology optional technology filter (case-insensitive); same as one {@code tech}
+     * @param tech optional technologies to filter by (case-insensitive, repeatable)
+     * @param mode whether projects must use ALL (default) or ANY of the technologies
+     * @param fields optional comma-separated project properties to include
+     * @return one project per line, written as the response is sent
+     */
+    @GetMapping(value = "/projects", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamProjects(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String technology,
+            @RequestParam(required = false) List<String> tech,
+            @RequestParam(defaultValue = "ALL") TechnologyMatch mode,
+            @RequestParam(required = false) String fields) {
+        log.debug("API request: GET /api/v1/projects (ndjson) type={} technology={} tech={} mode={} fields={}",
+                type, technology, tech, mode, fields);
+        FieldProjection projection = projections.resolve(fields, Project.class);
+        RouteMetrics route = metrics.route("/api/v1/projects");
+        PortfolioSnapshot snapshot = route.fetch(repository::snapshot);
+        List<String> technologies = technologies(technology, tech);
+        return stream(projection, route.fetch(() -> snapshot.findProjects(type, technologies, mode)));
     }
 
     /**
@@ -91,31 +213,103 @@ public class PortfolioApiController {
      * GET /api/v1/projects/{id}
      * 
      * @param id the project identifier
+     * @param fields optional comma-separated project properties to include
      * @return the project if found, 404 otherwise
      */
     @GetMapping("/projects/{id}")
-    public ResponseEntity<Project> getProjectById(@PathVariable String id) {
-        log.info("API request: GET /api/v1/projects/{}", id);
+    public ResponseEntity<byte[]> getProjectById(@PathVariable String id,
+                                                 @RequestParam(required = false) String fields,
+                                                 ApiEncoding encoding) {
+        log.debug("API request: GET /api/v1/projects/{} fields={}", id, fields);
         
-        Optional<Project> project = projects.stream()
-                .filter(p -> p.getId().equals(id))
-                .findFirst();
-        
-        return project.map(ResponseEntity::ok)
+        FieldProjection projection = projections.resolve(fields, Project.class);
+        RouteMetrics route = metrics.route("/api/v1/projects/{id}");
+        PortfolioSnapshot snapshot = route.fetch(repository::snapshot);
+        return route.fetch(() -> snapshot.findProjectById(id))
+                .map(p -> respond(route, responseCache.get(route, snapshot.getVersion(), "projects/" + p.getId(),
+                        encoding, projection, () -> p)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
-     * Returns all experiences.
+     * Returns all experiences, optionally filtered by type.
      * 
      * GET /api/v1/experiences
+     * GET /api/v1/experiences?type=WORK
      * 
-     * @return list of work and education experiences
+     * @param type optional experience type filter (WORK, EDUCATION or OTHER)
+     * @param fields optional comma-separated experience properties to include
+     * @param limit optional page size (1-100); returns a page with a next cursor instead of the whole list
+     * @param cursor optional cursor from the previous page
+     * @return list of work and education experiences, or one page of them
      */
     @GetMapping("/experiences")
-    public ResponseEntity<List<Experience>> getExperiences() {
-        log.info("API request: GET /api/v1/experiences");
-        return ResponseEntity.ok(experiences);
+    public ResponseEntity<byte[]> getExperiences(@RequestParam(required = false) ExperienceType type,
+                                                 @RequestParam(required = false) String fields,
+                                                 @RequestParam(required = false) Integer limit,
+                                                 @RequestParam(required = false) String cursor,
+                                                 ApiEncoding encoding) {
+        log.debug("API request: GET /api/v1/experiences type={} fields={} limit={} cursor={}",
+                type, fields, limit, cursor);
+        
+        FieldProjection projection = projections.resolve(fields, Experience.class);
+        RouteMetrics route = metrics.route("/api/v1/experiences");
+        PortfolioSnapshot snapshot = route.fetch(repository::snapshot);
+        if (limit != null || cursor != null) {
+            List<Experience> matches = route.fetch(() -> experiences(snapshot, type));
+            return respond(route, responseCache.serialize(route, encoding, projection,
+                    Pagination.page(matches, snapshot.getVersion(), "type=" + (type == null ? "" : type.name()),
+                            cursor, limit, null)));
+        }
+        if (type == null) {
+            return respond(route, responseCache.get(route, snapshot.getVersion(), "experiences", encoding, projection,
+                    snapshot::getExperiences));
+        }
+        return respondList(route, snapshot, "experiences?type=" + type, encoding, projection,
+                route.fetch(() -> snapshot.findExperiencesByType(type)));
+    }
+
+    /**
+     * Streams all matching experiences as newline-delimited JSON.
+     * 
+     * GET /api/v1/experiences (Accept: application/x-ndjson)
+     * 
+     * @param type optional experience type filter (WORK, EDUCATION or OTHER)
+     * @param fields optional comma-separated experience properties to include
+     * @return one experience per line, written as the response is sent
+     */
+    @GetMapping(value = "/experiences", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamExperiences(
+            @RequestParam(required = false) ExperienceType type,
+            @RequestParam(required = false) String fields) {
+        log.debug("API request: GET /api/v1/experiences (ndjson) type={} fields={}", type, fields);
+        FieldProjection projection = projections.resolve(fields, Experience.class);
+        RouteMetrics route = metrics.route("/api/v1/experiences");
+        PortfolioSnapshot snapshot = route.fetch(repository::snapshot);
+        return stream(projection, route.fetch(() -> experiences(snapshot, type)));
+    }
+
+    /**
+     * Full-text search across projects, skills and experiences.
+     * 
+     * GET /api/v1/search?q=spring aws&limit=10
+     * 
+     * @param q free-text query
+     * @param limit maximum number of results (1-50, default 10)
+     * @param fields optional comma-separated properties to include for each matched item
+     * @return hits ranked by relevance, best first
+     */
+    @GetMapping("/search")
+    public ResponseEntity<byte[]> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String fields,
+            ApiEncoding encoding) {
+        log.debug("API request: GET /api/v1/search q={} fields={}", q, fields);
+        FieldProjection projection = projections.resolve(fields, Skill.class, Project.class, Experience.class);
+        RouteMetrics route = metrics.route("/api/v1/search");
+        List<SearchHit> hits = route.fetch(() -> searchService.search(q, limit));
+        return respond(route, responseCache.serialize(route, encoding, projection, hits));
     }
 
     /**
@@ -133,4 +327,115 @@ public class PortfolioApiController {
         status.put("version", "1.0.0");
         return ResponseEntity.ok(status);
     }
+
+    /**
+     * Assembles the complete portfolio document. Only invoked on a cache miss.
+     */
+    Map<String, Object> buildPortfolio(PortfolioSnapshot snapshot) {
+        Map<String, Object> portfolio = new LinkedHashMap<>();
+        portfolio.put("name", "Nii Amatey Tagoe");
+        portfolio.put("title", "Software Engineer");
+        portfolio.put("email", "armahtey@gmail.com");
+        portfolio.put("github", "https://github.com/mrNiiAmatey");
+        portfolio.put("linkedin", "https://www.linkedin.com/in/mrarmahtey/");
+        portfolio.put("location", "Dallas-Fort Worth, TX");
+        portfolio.put("skills", snapshot.getSkills());
+        portfolio.put("projects", snapshot.getProjects());
+        portfolio.put("experiences", snapshot.getExperiences());
+        return portfolio;
+    }
+
+    /**
+     * Wraps a pre-serialized body in a 200 response with its ETag. Spring answers
+     * matching If-None-Match requests with 304 and no body. The body depends on
+     * the Accept header, so shared caches are told to vary on it.
+     */
+    private ResponseEntity<byte[]> respond(RouteMetrics route, SerializedResponse response) {
+        route.recordResponseSize(response.getBody().length);
+        return ResponseEntity.ok()
+                .contentType(response.getEncoding().getMediaType())
+                .varyBy(HttpHeaders.ACCEPT)
+                .eTag(response.getEtag())
+                .body(response.getBody());
+    }
+
+    /**
+     * Responds with a filtered list. Only non-empty results are cached, so the
+     * number of cache entries stays bounded by the distinct values in the data
+     * rather than by whatever clients put in the query string.
+     */
+    private ResponseEntity<byte[]> respondList(RouteMetrics route, PortfolioSnapshot snapshot, String key,
+                                              ApiEncoding encoding, FieldProjection projection, List<?> matches) {
+        if (matches.isEmpty()) {
+            return respond(route, responseCache.get(route, snapshot.getVersion(), "[]", encoding, null, List::of));
+        }
+        return respond(route, responseCache.get(route, snapshot.getVersion(), key, encoding, projection,
+                () -> matches));
+    }
+
+    /**
+     * Writes each entry to the response as it is serialized, so memory use does
+     * not grow with the list and the first entries are sent before the last is written.
+     */
+    private ResponseEntity<StreamingResponseBody> stream(FieldProjection projection, List<?> entries) {
+        StreamingResponseBody body = out -> {
+            int written = 0;
+            try (SequenceWriter sequence = projections.writer(projection, ApiEncoding.JSON)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out)) {
+                for (Object entry : entries) {
+                    sequence.write(entry);
+                    if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                        sequence.flush();
+                    }
+                }
+            }
+            if (written > 0) {
+                out.write('\n');
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    private static List<Experience> experiences(PortfolioSnapshot snapshot, ExperienceType type) {
+        return type == null ? snapshot.getExperiences() : snapshot.findExperiencesByType(type);
+    }
+
+    /**
+     * Merges the single {@code technology} filter with the repeatable {@code tech}
+     * filter, dropping blanks and case-insensitive duplicates.
+     */
+    private static List<String> technologies(String technology, List<String> tech) {
+        List<String> all = new ArrayList<>();
+        if (technology != null) {
+            all.add(technology);
+        }
+        if (tech != null) {
+            all.addAll(tech);
+        }
+        Map<String, String> distinct = new LinkedHashMap<>();
+        for (String value : all) {
+            if (!value.isBlank()) {
+                distinct.putIfAbsent(normalize(value), value);
+            }
+        }
+        return List.copyOf(distinct.values());
+    }
+
+    /**
+     * Describes project filters independently of spelling and order, for page cursors.
+     */
+    private static String projectFilters(String type, List<String> technologies, TechnologyMatch mode) {
+        Set<String> normalized = new TreeSet<>();
+        technologies.forEach(value -> normalized.add(normalize(value)));
+        return "type=" + normalize(type) + "&tech=" + String.join(",", normalized)
+                + (normalized.size() > 1 ? "&mode=" + mode : "");
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -1,59 +1,78 @@
 package com.niiamatey.portfolio.controller;
 
+import com.niiamatey.portfolio.contact.ContactDispatcher;
+import com.niiamatey.portfolio.contact.ContactMessage;
+import com.niiamatey.portfolio.image.ImageDerivativeService;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
 import com.niiamatey.portfolio.model.ContactForm;
-import com.niiamatey.portfolio.model.Experience;
-import com.niiamatey.portfolio.model.Project;
-import com.niiamatey.portfolio.model.Skill;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.repository.PortfolioSnapshot;
+import com.niiamatey.portfolio.service.HomepageRenderCache;
+import com.niiamatey.portfolio.service.HomepageRenderCache.RenderedSections;
+import com.niiamatey.portfolio.view.FlashCookies;
+import com.niiamatey.portfolio.view.FlashMessage;
+import com.niiamatey.portfolio.view.PreloadLinks;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.thymeleaf.context.LazyContextVariable;
 
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Main controller for the portfolio website.
  * 
  * Handles all page requests and populates the model with
- * portfolio data for Thymeleaf template rendering.
+ * portfolio data for Thymeleaf template rendering. The static homepage
+ * sections are served pre-rendered from {@link HomepageRenderCache}.
+ * The homepage is sent progressively: {@code index.html} flushes the head
+ * and each section as soon as it is written, and {@link PreloadLinks}
+ * announces the stylesheet and hero image before any markup.
+ * Messages after a contact form redirect travel in a signed cookie
+ * ({@link FlashCookies}), so no request creates an HTTP session.
  */
 @Slf4j
 @Controller
 @RequiredArgsConstructor
 public class PortfolioController {
 
-    private final List<Skill> skills;
-    private final List<Project> projects;
-    private final List<Experience> experiences;
+    private static final String PROFILE_PHOTO = "IMG_2361.jpeg";
+
+    private final PortfolioRepository repository;
+    private final HomepageRenderCache renderCache;
+    private final ContactDispatcher contactDispatcher;
+    private final ImageDerivativeService images;
+    private final PortfolioMetrics metrics;
+    private final PreloadLinks preloadLinks;
+    private final FlashCookies flashCookies;
 
     /**
      * Displays the main portfolio homepage.
      * 
      * @param model Spring MVC model for passing data to the view
+     * @param request the current request, for resolving asset URLs and reading the flash cookie
+     * @param response the response the preload hints are added to and the flash cookie is cleared on
      * @return the index template name
      */
     @GetMapping("/")
-    public String home(Model model) {
-        log.info("Loading portfolio homepage");
+    public String home(Model model, HttpServletRequest request, HttpServletResponse response) {
+        log.debug("Loading portfolio homepage");
         
-        model.addAttribute("skills", skills);
-        model.addAttribute("projects", projects);
-        model.addAttribute("experiences", experiences);
+        preloadLinks.send(request, response, images.image(PROFILE_PHOTO));
+        addPortfolioData(model);
         model.addAttribute("contactForm", new ContactForm());
-        
-        // Personal information
-        model.addAttribute("name", "Nii Amatey Tagoe");
-        model.addAttribute("title", "Software Engineer");
-        model.addAttribute("email", "armahtey@gmail.com");
-        model.addAttribute("linkedin", "https://www.linkedin.com/in/mrarmahtey/");
-        model.addAttribute("github", "https://github.com/mrNiiAmatey");
-        model.addAttribute("location", "Dallas-Fort Worth, TX");
+        flashCookies.take(request, response)
+                .ifPresent(message -> model.addAttribute(message.attribute(), message.text()));
         
         return "index";
     }
@@ -63,44 +82,44 @@ public class PortfolioController {
      * 
      * @param contactForm the submitted contact form data
      * @param bindingResult validation results
-     * @param redirectAttributes attributes for flash messages
+     * @param request the current request
+     * @param response the response the flash cookie is set on
      * @return redirect to homepage with success/error message
      */
     @PostMapping("/contact")
     public String submitContact(
             @Valid @ModelAttribute("contactForm") ContactForm contactForm,
             BindingResult bindingResult,
-            RedirectAttributes redirectAttributes,
-            Model model) {
+            Model model,
+            HttpServletRequest request,
+            HttpServletResponse response) {
         
         if (bindingResult.hasErrors()) {
             log.warn("Contact form validation failed: {}", bindingResult.getAllErrors());
+            bindingResult.getAllErrors().forEach(error -> metrics.contactValidationError(
+                    error instanceof FieldError fieldError ? fieldError.getField() : "form"));
+            metrics.contactSubmission("invalid");
             
             // The model for re-rendering the page
-            model.addAttribute("skills", skills);
-            model.addAttribute("projects", projects);
-            model.addAttribute("experiences", experiences);
-            model.addAttribute("name", "Nii Amatey Tagoe");
-            model.addAttribute("title", "Software Engineer");
-            model.addAttribute("email", "armahtey@gmail.com.com");
-            model.addAttribute("linkedin", "https://www.linkedin.com/in/mrarmahtey/");
-            model.addAttribute("github", "https://github.com/mrNiiAmatey");
-            model.addAttribute("location", "Dallas-Fort Worth, TX");
+            addPortfolioData(model);
             
             return "index";
         }
         
-        // Log the contact submission (in production, send email or save to database)
-        log.info("Contact form submitted - Name: {}, Email: {}, Subject: {}", 
+        log.debug("Contact form submitted - Name: {}, Email: {}, Subject: {}", 
                 contactForm.getName(), contactForm.getEmail(), contactForm.getSubject());
 
-        // In a real application, this would:
-        // 1. Send an email notification
-        // 2. Save to a database
-        // 3. Integrate with a CRM
+        // Email, file and webhook delivery happen on the dispatcher's workers,
+        // so this returns in constant time regardless of downstream latency
+        if (!contactDispatcher.submit(ContactMessage.from(contactForm))) {
+            log.warn("Contact dispatch queue full, rejecting submission from {}", contactForm.getEmail());
+            metrics.contactSubmission("rejected");
+            flashCookies.set(request, response, FlashMessage.CONTACT_REJECTED);
+            return "redirect:/#contact";
+        }
+        metrics.contactSubmission("accepted");
         
-        redirectAttributes.addFlashAttribute("successMessage", 
-                "Thank you for your message! I'll get back to you soon.");
+        flashCookies.set(request, response, FlashMessage.CONTACT_SENT);
         
         return "redirect:/#contact";
     }
@@ -113,8 +132,8 @@ public class PortfolioController {
      */
     @GetMapping("/projects")
     public String projectsPage(Model model) {
-        log.info("Loading projects page");
-        model.addAttribute("projects", projects);
+        log.debug("Loading projects page");
+        model.addAttribute("projects", repository.findAllProjects());
         return "projects";
     }
 
@@ -126,9 +145,42 @@ public class PortfolioController {
      */
     @GetMapping("/about")
     public String aboutPage(Model model) {
-        log.info("Loading about page");
-        model.addAttribute("skills", skills);
-        model.addAttribute("experiences", experiences);
+        log.debug("Loading about page");
+        model.addAttribute("skills", repository.findAllSkills());
+        model.addAttribute("experiences", repository.findAllExperiences());
         return "about";
     }
+
+    /**
+     * Adds portfolio data, personal information and the pre-rendered
+     * static sections to the model for the index template.
+     *
+     * @param model Spring MVC model
+     */
+    private void addPortfolioData(Model model) {
+        PortfolioSnapshot snapshot = metrics.route("/").fetch(repository::snapshot);
+        model.addAttribute("skills", snapshot.getSkills());
+        model.addAttribute("projects", snapshot.getProjects());
+        model.addAttribute("experiences", snapshot.getExperiences());
+        
+        // Personal information
+        model.addAttribute("name", "Nii Amatey Tagoe");
+        model.addAttribute("title", "Software Engineer");
+        model.addAttribute("email", "armahtey@gmail.com");
+        model.addAttribute("linkedin", "https://www.linkedin.com/in/mrarmahtey/");
+        model.addAttribute("github", "https://github.com/mrNiiAmatey");
+        model.addAttribute("location", "Dallas-Fort Worth, TX");
+        
+        // Rendered once per data version from the data above, not per request. Resolved
+        // lazily, so a streamed page has already sent its head when a render is needed
+        Map<String, Object> variables = new HashMap<>(model.asMap());
+        model.addAttribute("sections", new LazyContextVariable<RenderedSections>() {
+            @Override
+            protected RenderedSections loadValue() {
+                return renderCache.get(snapshot.getVersion(), variables);
+            }
+        });
+        model.addAttribute("profilePhoto", images.image(PROFILE_PHOTO));
+        model.addAttribute("profilePhotoSizes", PreloadLinks.PROFILE_PHOTO_SIZES);
+    }
 }
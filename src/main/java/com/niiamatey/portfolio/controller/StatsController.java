@@ -0,0 +1,90 @@
+package com.niiamatey.portfolio.controller;
+
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.repository.PortfolioSnapshot;
+import com.niiamatey.portfolio.stats.SpaceSaving;
+import com.niiamatey.portfolio.stats.ViewStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-only API over the view statistics collected by {@link ViewStats}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    static final int MAX_LIMIT = 100;
+
+    private final ViewStats stats;
+    private final PortfolioRepository repository;
+
+    /**
+     * Returns the most viewed projects today and since counting started,
+     * page views, and unique visitors per day.
+     *
+     * GET /api/v1/stats/popular
+     * GET /api/v1/stats/popular?limit=5
+     *
+     * Today's counts come from a fixed-size sketch and may overestimate by up
+     * to their {@code maxError}; the all-time counts are exact. Unique
+     * visitors are estimates within about 1%. Projects that no longer exist
+     * are left out.
+     *
+     * @param limit most projects per list (1-100, default 10)
+     */
+    @GetMapping("/popular")
+    public Map<String, Object> popular(@RequestParam(defaultValue = "10") int limit) {
+        log.debug("API request: GET /api/v1/stats/popular limit={}", limit);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+        }
+        PortfolioSnapshot snapshot = repository.snapshot();
+        Map<String, Object> popular = new LinkedHashMap<>();
+        popular.put("date", stats.today());
+        popular.put("today", projects(snapshot, stats.popularToday(limit)));
+        popular.put("allTime", projects(snapshot, stats.popularAllTime(limit)));
+        popular.put("pageViews", stats.pageViews());
+        List<Map<String, Object>> visitors = new ArrayList<>();
+        stats.uniqueVisitors().forEach((date, estimate) -> {
+            Map<String, Object> day = new LinkedHashMap<>();
+            day.put("date", date);
+            day.put("uniqueVisitors", estimate);
+            visitors.add(day);
+        });
+        popular.put("visitors", visitors);
+        return popular;
+    }
+
+    private List<Map<String, Object>> projects(PortfolioSnapshot snapshot, List<SpaceSaving.Counter> counters) {
+        List<Map<String, Object>> projects = new ArrayList<>(counters.size());
+        for (SpaceSaving.Counter counter : counters) {
+            Optional<Project> project = snapshot.findProjectById(counter.key());
+            if (project.isEmpty()) {
+                continue;
+            }
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("id", counter.key());
+            entry.put("title", project.get().getTitle());
+            entry.put("views", counter.count());
+            entry.put("maxError", counter.error());
+            projects.add(entry);
+        }
+        return projects;
+    }
+}
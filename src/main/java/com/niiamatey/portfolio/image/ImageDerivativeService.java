@@ -0,0 +1,380 @@
+package com.niiamatey.portfolio.image;
+
+import com.niiamatey.portfolio.config.ResponsiveImageProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.DigestUtils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Generates resized, recompressed derivatives of the images in {@code static/images}.
+ *
+ * At startup only the image headers are read, to learn each original's
+ * dimensions and content hash, so the {@code srcset} of every image is known
+ * immediately. The derivatives themselves are decoded, scaled and encoded on
+ * a single background thread and written to the cache directory under
+ * content-hashed names, so they survive restarts and are regenerated only when
+ * the original changes. Until a derivative is ready its URL redirects to the
+ * original, which keeps image processing off the request path entirely.
+ */
+@Slf4j
+public class ImageDerivativeService implements InitializingBean, DisposableBean {
+
+    /**
+     * URL prefix derivatives are served under.
+     */
+    public static final String DERIVATIVE_PATH = "/images/r/";
+
+    static final String SOURCE_LOCATION = "classpath:/static/images/";
+
+    private static final String ORIGINAL_PATH = "/images/";
+
+    private final ResponsiveImageProperties properties;
+    private final String sourceLocation;
+    private final Path cacheDirectory;
+
+    private final Map<String, SourceImage> sourcesByName = new HashMap<>();
+    private final Map<String, SourceImage> sourcesByHash = new HashMap<>();
+    private final Map<String, Path> ready = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+    private CompletableFuture<Void> generation = CompletableFuture.completedFuture(null);
+
+    public ImageDerivativeService(ResponsiveImageProperties properties) {
+        this(properties, SOURCE_LOCATION);
+    }
+
+    ImageDerivativeService(ResponsiveImageProperties properties, String sourceLocation) {
+        this.properties = properties;
+        this.sourceLocation = sourceLocation;
+        this.cacheDirectory = Path.of(properties.getCacheDirectory());
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!properties.isEnabled()) {
+            log.info("Responsive image derivatives disabled; serving originals only");
+            return;
+        }
+        Files.createDirectories(cacheDirectory);
+
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(sourceLocation + "*");
+        for (Resource resource : resources) {
+            String name = resource.getFilename();
+            if (name == null || formatOf(name) == null) {
+                continue;
+            }
+            try {
+                SourceImage source = inspect(name, resource);
+                sourcesByName.put(name, source);
+                sourcesByHash.put(source.hash, source);
+            } catch (IOException e) {
+                log.warn("Skipping image {}: {}", name, e.getMessage());
+            }
+        }
+
+        List<SourceImage> pending = sourcesByName.values().stream()
+                .filter(source -> !pendingWidths(source).isEmpty())
+                .sorted(Comparator.comparing(source -> source.name))
+                .collect(Collectors.toList());
+        log.info("Found {} images ({} with derivatives to generate) in {}",
+                sourcesByName.size(), pending.size(), cacheDirectory.toAbsolutePath());
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // One daemon thread: generation can neither hold up startup nor compete
+        // with request threads for more than a single core
+        executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "image-derivatives");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        generation = CompletableFuture.allOf(pending.stream()
+                .map(source -> CompletableFuture.runAsync(() -> generate(source), executor))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the responsive image attributes for an image in {@code static/images}.
+     *
+     * @param name file name of the original, e.g. "IMG_2361.jpeg"
+     * @return the src and srcset to render; just the original if it has no derivatives
+     */
+    public ResponsiveImage image(String name) {
+        SourceImage source = sourcesByName.get(name);
+        if (source == null) {
+            return ResponsiveImage.original(ORIGINAL_PATH + name);
+        }
+        return source.responsive;
+    }
+
+    /**
+     * Returns the cached derivative file, if it has been generated.
+     *
+     * @param hash content hash of the original
+     * @param width derivative width in pixels
+     */
+    public Optional<Path> findDerivative(String hash, int width) {
+        return Optional.ofNullable(ready.get(key(hash, width)));
+    }
+
+    /**
+     * Returns the URL of the original for a derivative that is known but may
+     * not be generated yet.
+     *
+     * @param hash content hash of the original
+     * @param width derivative width in pixels
+     * @return the original's URL, or empty if no such derivative exists
+     */
+    public Optional<String> findOriginalUrl(String hash, int width) {
+        SourceImage source = sourcesByHash.get(hash);
+        if (source == null || !source.widths.contains(width)) {
+            return Optional.empty();
+        }
+        return Optional.of(source.responsive.getSrc());
+    }
+
+    /**
+     * Completes once all derivatives scheduled at startup have been generated.
+     */
+    CompletableFuture<Void> generation() {
+        return generation;
+    }
+
+    /**
+     * Reads the original's content hash and dimensions without decoding its pixels.
+     */
+    private SourceImage inspect(String name, Resource resource) throws IOException {
+        byte[] bytes;
+        try (InputStream in = resource.getInputStream()) {
+            bytes = in.readAllBytes();
+        }
+        String hash = DigestUtils.md5DigestAsHex(bytes).substring(0, 16);
+
+        int width;
+        int height;
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                width = reader.getWidth(0);
+                height = reader.getHeight(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        String format = formatOf(name);
+        List<Integer> widths = properties.getWidths().stream()
+                .filter(w -> w > 0 && w < width)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        if ((long) width * height > properties.getMaxSourcePixels()) {
+            log.warn("Image {} is {}x{}, over the {} pixel limit; serving the original only",
+                    name, width, height, properties.getMaxSourcePixels());
+            widths = List.of();
+        }
+
+        for (int w : widths) {
+            Path file = cacheDirectory.resolve(fileName(hash, w, format));
+            if (Files.isRegularFile(file)) {
+                ready.put(key(hash, w), file);
+            }
+        }
+
+        String src = ORIGINAL_PATH + name;
+        List<String> candidates = new ArrayList<>();
+        for (int w : widths) {
+            candidates.add(DERIVATIVE_PATH + hash + "/" + w + "." + format + " " + w + "w");
+        }
+        if (!candidates.isEmpty()) {
+            candidates.add(src + " " + width + "w");
+        }
+        ResponsiveImage responsive = new ResponsiveImage(src, String.join(", ", candidates), width, height);
+        return new SourceImage(name, hash, format, resource, widths, responsive);
+    }
+
+    private List<Integer> pendingWidths(SourceImage source) {
+        return source.widths.stream()
+                .filter(w -> !ready.containsKey(key(source.hash, w)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Decodes the original once and writes every missing derivative, largest
+     * first, each scaled down from the previous one.
+     */
+    private void generate(SourceImage source) {
+        List<Integer> widths = new ArrayList<>(pendingWidths(source));
+        widths.sort(Comparator.reverseOrder());
+        long start = System.nanoTime();
+        try {
+            BufferedImage current;
+            try (InputStream in = source.resource.getInputStream()) {
+                current = ImageIO.read(in);
+            }
+            if (current == null) {
+                log.warn("Could not decode image {}", source.name);
+                return;
+            }
+            for (int width : widths) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                current = resize(current, width, "png".equals(source.format));
+                Path file = cacheDirectory.resolve(fileName(source.hash, width, source.format));
+                write(current, source.format, file);
+                ready.put(key(source.hash, width), file);
+            }
+            log.info("Generated {} derivatives of {} in {} ms",
+                    widths.size(), source.name, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to generate derivatives of {}; serving the original", source.name, e);
+        }
+    }
+
+    /**
+     * Scales down in steps of at most one half, which keeps bilinear
+     * filtering from skipping source pixels and aliasing.
+     */
+    static BufferedImage resize(BufferedImage image, int targetWidth, boolean alpha) {
+        int targetHeight = Math.max(1, Math.round(image.getHeight() * (float) targetWidth / image.getWidth()));
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+            BufferedImage scaled = new BufferedImage(width, height, type);
+            Graphics2D g = scaled.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = scaled;
+        } while (width != targetWidth);
+        return current;
+    }
+
+    /**
+     * Encodes to a temporary file and moves it into place, so a derivative is
+     * never visible half-written.
+     */
+    private void write(BufferedImage image, String format, Path file) throws IOException {
+        Path temp = Files.createTempFile(cacheDirectory, file.getFileName().toString(), ".tmp");
+        try {
+            if ("jpg".equals(format)) {
+                ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+                try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                    ImageWriteParam param = writer.getDefaultWriteParam();
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(properties.getQuality());
+                    param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                    writer.setOutput(out);
+                    writer.write(null, new IIOImage(image, null, null), param);
+                } finally {
+                    writer.dispose();
+                }
+            } else if (!ImageIO.write(image, format, temp.toFile())) {
+                throw new IOException("No image writer for " + format);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Output format for an original: PNG keeps transparency, everything else becomes JPEG.
+     */
+    private static String formatOf(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".png")) {
+            return "png";
+        }
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) {
+            return "jpg";
+        }
+        return null;
+    }
+
+    private static String fileName(String hash, int width, String format) {
+        return hash + "-" + width + "." + format;
+    }
+
+    private static String key(String hash, int width) {
+        return hash + "/" + width;
+    }
+
+    /**
+     * An original image and the derivative widths generated for it.
+     */
+    private static final class SourceImage {
+        final String name;
+        final String hash;
+        final String format;
+        final Resource resource;
+        final List<Integer> widths;
+        final ResponsiveImage responsive;
+
+        SourceImage(String name, String hash, String format, Resource resource,
+                    List<Integer> widths, ResponsiveImage responsive) {
+            this.name = name;
+            this.hash = hash;
+            this.format = format;
+            this.resource = resource;
+            this.widths = List.copyOf(widths);
+            this.responsive = responsive;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.niiamatey.portfolio.image;
+
+import lombok.Getter;
+
+/**
+ * Markup attributes for a responsive {@code <img>}: the fallback source and
+ * the {@code srcset} candidates the browser picks the smallest adequate one from.
+ */
+@Getter
+public final class ResponsiveImage {
+
+    /**
+     * URL of the original image, used by browsers without srcset support
+     */
+    private final String src;
+
+    /**
+     * Comma-separated width descriptors, empty when no derivatives exist
+     */
+    private final String srcset;
+
+    /**
+     * Intrinsic width of the original in pixels, or 0 if unknown
+     */
+    private final int width;
+
+    /**
+     * Intrinsic height of the original in pixels, or 0 if unknown
+     */
+    private final int height;
+
+    public ResponsiveImage(String src, String srcset, int width, int height) {
+        this.src = src;
+        this.srcset = srcset;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * An image served only from its original URL.
+     */
+    public static ResponsiveImage original(String src) {
+        return new ResponsiveImage(src, "", 0, 0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.niiamatey.portfolio.importer;
+
+import java.util.List;
+
+/**
+ * Thrown when an import contains invalid records; nothing of it is applied.
+ */
+public class ImportRejectedException extends IllegalArgumentException {
+
+    private final List<String> errors;
+
+    public ImportRejectedException(List<String> errors) {
+        super("Invalid import: " + String.join("; ", errors));
+        this.errors = List.copyOf(errors);
+    }
+
+    /**
+     * One message per invalid record, prefixed with its line number.
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,183 @@
+package com.niiamatey.portfolio.importer;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+import com.niiamatey.portfolio.repository.PortfolioChanges;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.Data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads portfolio changes from NDJSON, one record per line:
+ *
+ * <pre>
+ * {"op":"upsert","project":{"id":"qr-code-generator","title":"QR Code Generator API","type":"Microservice"}}
+ * {"op":"upsert","skill":{"category":"Languages","technologies":["Java","Python"]}}
+ * {"op":"delete","experience":{"title":"Software Engineer","organization":"Example Corp"}}
+ * </pre>
+ *
+ * Each record has an {@code op} of {@code upsert} or {@code delete} and
+ * exactly one project, skill or experience. Upserts are validated like data
+ * files: the model's constraints apply and unknown properties are rejected.
+ * Deletes only need the fields identifying the entry (see
+ * {@link PortfolioChanges}).
+ *
+ * Records are parsed one at a time from the stream, so the request body is
+ * never held in memory as a whole, only the changes read from it. Invalid
+ * records are reported by line number and reading goes on to report more,
+ * up to {@value #MAX_ERRORS}; malformed JSON stops the read. A stream with
+ * any error is rejected as a whole.
+ */
+public class PortfolioImporter {
+
+    /**
+     * Errors collected before the rest of the stream is skipped
+     */
+    static final int MAX_ERRORS = 20;
+
+    private final ObjectReader reader;
+    private final Validator validator;
+    private final int maxRecords;
+
+    public PortfolioImporter(ObjectMapper objectMapper, Validator validator, int maxRecords) {
+        this.reader = objectMapper.readerFor(ImportRecord.class)
+                .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.validator = validator;
+        this.maxRecords = maxRecords;
+    }
+
+    /**
+     * Reads and validates all records from the stream.
+     *
+     * @return the changes, in the order they were read
+     * @throws ImportRejectedException if the stream is empty or any record is invalid
+     * @throws IOException if the stream cannot be read
+     */
+    public PortfolioChanges read(InputStream in) throws IOException {
+        PortfolioChanges changes = new PortfolioChanges();
+        List<String> errors = new ArrayList<>();
+        int records = 0;
+        try (MappingIterator<ImportRecord> iterator = reader.readValues(in)) {
+            while (errors.size() < MAX_ERRORS && iterator.hasNextValue()) {
+                ImportRecord record = iterator.nextValue();
+                int line = iterator.getCurrentLocation().getLineNr();
+                if (++records > maxRecords) {
+                    errors.add("line " + line + ": more than " + maxRecords + " records");
+                    break;
+                }
+                String error = apply(record, changes);
+                if (error != null) {
+                    errors.add("line " + line + ": " + error);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            JsonLocation location = e.getLocation();
+            errors.add((location == null ? "" : "line " + location.getLineNr() + ": ") + e.getOriginalMessage());
+        }
+        if (records == 0 && errors.isEmpty()) {
+            errors.add("no records");
+        }
+        if (!errors.isEmpty()) {
+            throw new ImportRejectedException(errors);
+        }
+        return changes;
+    }
+
+    /**
+     * Validates a record and adds it to the changes.
+     *
+     * @return the error, or {@code null} if the record is valid
+     */
+    private String apply(ImportRecord record, PortfolioChanges changes) {
+        long entries = Stream.of(record.getProject(), record.getSkill(), record.getExperience())
+                .filter(Objects::nonNull)
+                .count();
+        if (entries != 1) {
+            return "a record needs exactly one of project, skill or experience";
+        }
+        String op = record.getOp() == null ? "" : record.getOp().toLowerCase(Locale.ROOT);
+        boolean upsert = op.equals("upsert");
+        if (!upsert && !op.equals("delete")) {
+            return "op must be upsert or delete";
+        }
+
+        if (record.getProject() != null) {
+            Project project = record.getProject();
+            String error = validate("project", project, upsert, "id");
+            if (error == null) {
+                if (upsert) {
+                    changes.upsertProject(project);
+                } else {
+                    changes.deleteProject(project.getId());
+                }
+            }
+            return error;
+        }
+        if (record.getSkill() != null) {
+            Skill skill = record.getSkill();
+            String error = validate("skill", skill, upsert, "category");
+            if (error == null) {
+                if (upsert) {
+                    changes.upsertSkill(skill);
+                } else {
+                    changes.deleteSkill(skill.getCategory());
+                }
+            }
+            return error;
+        }
+        Experience experience = record.getExperience();
+        String error = validate("experience", experience, upsert, "title");
+        if (error == null) {
+            if (upsert) {
+                changes.upsertExperience(experience);
+            } else {
+                changes.deleteExperience(experience.getTitle(), experience.getOrganization());
+            }
+        }
+        return error;
+    }
+
+    /**
+     * Validates a whole entry for an upsert, or only its key for a delete.
+     */
+    private <T> String validate(String kind, T entry, boolean upsert, String key) {
+        Set<ConstraintViolation<T>> violations = upsert
+                ? validator.validate(entry)
+                : validator.validateProperty(entry, key);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> kind + "." + v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * One line of an import.
+     */
+    @Data
+    static class ImportRecord {
+        private String op;
+        private Project project;
+        private Skill skill;
+        private Experience experience;
+    }
+}
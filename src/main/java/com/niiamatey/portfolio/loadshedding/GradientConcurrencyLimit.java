@@ -0,0 +1,218 @@
+package com.niiamatey.portfolio.loadshedding;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to observed latency with a gradient.
+ *
+ * Completed requests are averaged over short windows. After each window the
+ * average is compared with a long-term baseline: while the two are within the
+ * tolerance the limit grows by about its square root, and once the recent
+ * latency is higher the limit is scaled down by the ratio (at most halved per
+ * window). The baseline follows faster windows within a few windows but
+ * slower ones only over about a thousand, so a sustained overload does not
+ * become the new normal while a lasting change in the workload eventually
+ * does. New estimates are smoothed into the limit, so a single slow window
+ * does not collapse it. Windows in which fewer than half of the allowed
+ * requests were in flight say nothing about the limit and leave it unchanged.
+ *
+ * Acquiring and releasing a permit is a compare-and-set on the in-flight
+ * count, and recording a completed request adds to the current window's
+ * {@link LongAdder}s, so neither takes a lock. Once a window is due, the one
+ * request that wins a {@code tryLock} swaps in a fresh window and updates the
+ * limit; requests finishing meanwhile carry on without waiting, and the few
+ * that still land in the old window are left out of its average.
+ */
+public class GradientConcurrencyLimit {
+
+    /**
+     * Number of windows over which the baseline follows rising latency
+     */
+    private static final int RISE_WINDOWS = 1_000;
+
+    /**
+     * Number of windows over which the baseline follows falling latency
+     */
+    private static final int FALL_WINDOWS = 10;
+
+    /**
+     * Smallest factor the limit is scaled by in one window
+     */
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final LongSupplier clockNanos;
+
+    private volatile int limit;
+    private volatile Window window;
+
+    private final ReentrantLock updating = new ReentrantLock();
+
+    // Guarded by updating
+    private double estimate;
+    private double longRttNanos;
+
+    /**
+     * @param initialLimit limit before any latency has been observed
+     * @param minLimit lowest limit
+     * @param maxLimit highest limit
+     * @param tolerance how much slower than the baseline latency may get before the limit shrinks
+     * @param smoothing weight of each new estimate, from 0 exclusive to 1
+     * @param window period over which latency is averaged
+     * @param minWindowSamples fewest completed requests for a window to count
+     */
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                    double smoothing, Duration window, int minWindowSamples) {
+        this(initialLimit, minLimit, maxLimit, tolerance, smoothing, window, minWindowSamples, System::nanoTime);
+    }
+
+    GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing,
+                             Duration window, int minWindowSamples, LongSupplier clockNanos) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max: "
+                    + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("Tolerance must be at least 1: " + tolerance);
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Smoothing must be in (0, 1]: " + smoothing);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.windowNanos = window.toNanos();
+        this.minWindowSamples = Math.max(1, minWindowSamples);
+        this.clockNanos = clockNanos;
+        this.limit = initialLimit;
+        this.estimate = initialLimit;
+        this.window = new Window(clockNanos.getAsLong());
+    }
+
+    /**
+     * Current concurrency limit.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Number of requests holding a permit.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Takes a permit if fewer than the given share of the limit are in flight.
+     *
+     * @param share fraction of the limit the caller's class may fill
+     * @return whether a permit was taken; it must then be {@linkplain #release released}
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) Math.ceil(limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Takes a permit regardless of the limit, so the request still counts as in flight.
+     */
+    public void acquire() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Returns a permit and records how long the request took.
+     *
+     * @param latencyNanos time the request held the permit, or a negative value
+     *        if it is not representative (e.g. a long-lived stream)
+     */
+    public void release(long latencyNanos) {
+        int current = inFlight.getAndDecrement();
+        if (latencyNanos >= 0) {
+            sample(latencyNanos, current);
+        }
+    }
+
+    private void sample(long latencyNanos, int inFlightAtCompletion) {
+        Window current = window;
+        current.record(latencyNanos, inFlightAtCompletion);
+
+        long now = clockNanos.getAsLong();
+        if (now - current.start < windowNanos || current.samples.sum() < minWindowSamples) {
+            return;
+        }
+        if (!updating.tryLock()) {
+            // Another request is closing the window
+            return;
+        }
+        try {
+            if (window != current) {
+                return;
+            }
+            window = new Window(now);
+            update((double) current.rttSum.sum() / current.samples.sum(), current.maxInFlight.get());
+        } finally {
+            updating.unlock();
+        }
+    }
+
+    private void update(double shortRttNanos, int maxInFlight) {
+        if (longRttNanos == 0) {
+            longRttNanos = shortRttNanos;
+        } else {
+            int windows = shortRttNanos < longRttNanos ? FALL_WINDOWS : RISE_WINDOWS;
+            longRttNanos += (shortRttNanos - longRttNanos) / windows;
+        }
+        if (maxInFlight < estimate / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double next = estimate * gradient + Math.sqrt(estimate);
+        next = estimate * (1 - smoothing) + next * smoothing;
+        estimate = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimate;
+    }
+
+    /**
+     * Latency totals of the requests completed in one window.
+     */
+    private static final class Window {
+
+        final long start;
+        final LongAdder rttSum = new LongAdder();
+        final LongAdder samples = new LongAdder();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        Window(long start) {
+            this.start = start;
+        }
+
+        void record(long latencyNanos, int inFlight) {
+            rttSum.add(latencyNanos);
+            samples.increment();
+            if (inFlight > maxInFlight.get()) {
+                maxInFlight.accumulateAndGet(inFlight, Math::max);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.niiamatey.portfolio.loadshedding;
+
+import com.niiamatey.portfolio.config.LoadSheddingProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Servlet filter admitting requests against a {@link GradientConcurrencyLimit}
+ * by priority class.
+ *
+ * Every request is classified by the configured rules. Critical requests
+ * always pass; the others pass only while fewer than their class's share of
+ * the limit are in flight, so as the server slows down the limit shrinks and
+ * submissions, then API calls, are answered with 503 Service Unavailable and
+ * a Retry-After header before pages are. A shed request costs a classifier
+ * lookup and a short response instead of a worker thread queued behind the
+ * overload.
+ *
+ * Asynchronous requests, such as streamed NDJSON responses, hold their permit
+ * until they complete but are not used as latency samples.
+ */
+@Slf4j
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+
+    private final GradientConcurrencyLimit limit;
+    private final List<ClassifiedRoute> routes;
+    private final RequestPriority defaultPriority;
+    private final double[] shares = new double[PRIORITIES.length];
+    private final LongAdder[] shed = new LongAdder[PRIORITIES.length];
+    private final String retryAfterSeconds;
+
+    public LoadSheddingFilter(LoadSheddingProperties properties) {
+        this(properties, new GradientConcurrencyLimit(properties.getInitialLimit(), properties.getMinLimit(),
+                properties.getMaxLimit(), properties.getTolerance(), properties.getSmoothing(),
+                properties.getWindow(), properties.getMinWindowSamples()));
+    }
+
+    LoadSheddingFilter(LoadSheddingProperties properties, GradientConcurrencyLimit limit) {
+        this.limit = limit;
+        this.routes = new ArrayList<>();
+        for (LoadSheddingProperties.Rule rule : properties.getRules()) {
+            routes.add(new ClassifiedRoute(rule));
+        }
+        this.defaultPriority = properties.getDefaultPriority();
+        for (RequestPriority priority : PRIORITIES) {
+            shares[priority.ordinal()] = properties.getShares().getOrDefault(priority, 1.0);
+            shed[priority.ordinal()] = new LongAdder();
+        }
+        this.retryAfterSeconds = Long.toString(Math.max(1, properties.getRetryAfter().toSeconds()));
+    }
+
+    /**
+     * Current concurrency limit.
+     */
+    public int limit() {
+        return limit.limit();
+    }
+
+    /**
+     * Number of requests currently admitted.
+     */
+    public int inFlight() {
+        return limit.inFlight();
+    }
+
+    /**
+     * Requests of the given class rejected with 503 since startup.
+     */
+    public long shedCount(RequestPriority priority) {
+        return shed[priority.ordinal()].sum();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestPriority priority = classify(request);
+        if (priority == RequestPriority.CRITICAL) {
+            limit.acquire();
+        } else if (!limit.tryAcquire(shares[priority.ordinal()])) {
+            reject(request, response, priority);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean released = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                released = true;
+            }
+        } finally {
+            if (!released) {
+                limit.release(priority == RequestPriority.CRITICAL ? -1 : System.nanoTime() - start);
+            }
+        }
+    }
+
+    RequestPriority classify(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return defaultPriority;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (ClassifiedRoute route : routes) {
+            if (route.matches(request.getMethod(), path)) {
+                return route.priority;
+            }
+        }
+        return defaultPriority;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RequestPriority priority)
+            throws IOException {
+        shed[priority.ordinal()].increment();
+        log.debug("Shed {} {} ({}, limit {})", request.getMethod(), request.getRequestURI(), priority, limit.limit());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("The server is busy, please retry in " + retryAfterSeconds + " seconds.\n");
+    }
+
+    /**
+     * Returns the permit of an asynchronous request once, whichever way it ends.
+     */
+    private final class ReleaseOnComplete implements AsyncListener {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Still the same request
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limit.release(-1);
+            }
+        }
+    }
+
+    /**
+     * A configured rule compiled to a path pattern.
+     */
+    private static final class ClassifiedRoute {
+        private final PathPattern pattern;
+        private final Set<String> methods;
+        private final RequestPriority priority;
+
+        ClassifiedRoute(LoadSheddingProperties.Rule rule) {
+            this.pattern = PathPatternParser.defaultInstance.parse(rule.getPath());
+            this.methods = rule.getMethods().stream()
+                    .map(m -> m.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.priority = rule.getPriority();
+        }
+
+        boolean matches(String method, PathContainer path) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.niiamatey.portfolio.loadshedding;
+
+/**
+ * Classes of requests, from the last to be shed to the first.
+ */
+public enum RequestPriority {
+
+    /**
+     * Never limited, e.g. health checks that decide whether the instance is restarted
+     */
+    CRITICAL,
+
+    /**
+     * Pages rendered for visitors
+     */
+    PAGE,
+
+    /**
+     * JSON API calls, usually from scripts and integrations that can retry
+     */
+    API,
+
+    /**
+     * Form submissions and other writes that can wait, e.g. the contact form
+     */
+    SUBMISSION
+}
@@ -0,0 +1,161 @@
+package com.niiamatey.portfolio.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Application metrics for the portfolio controllers, published to Micrometer
+ * and visible under {@code /actuator/metrics}.
+ *
+ * <ul>
+ *   <li>{@code portfolio.request.phase} - timer per route and phase
+ *       ({@code fetch}, {@code serialize}, {@code render})</li>
+ *   <li>{@code portfolio.response.size} - JSON payload size per route, in bytes</li>
+ *   <li>{@code portfolio.cache} - hits and misses of the API response and
+ *       homepage section caches</li>
+ *   <li>{@code portfolio.contact.submissions} - contact form submissions by outcome</li>
+ *   <li>{@code portfolio.contact.validation.errors} - validation errors by form field</li>
+ * </ul>
+ *
+ * Meters are registered once and cached, so recording on the request path is
+ * a map lookup plus the meter update itself.
+ */
+@Component
+public class PortfolioMetrics {
+
+    public static final String PHASE_TIMER = "portfolio.request.phase";
+    public static final String RESPONSE_SIZE = "portfolio.response.size";
+    public static final String CACHE = "portfolio.cache";
+    public static final String CONTACT_SUBMISSIONS = "portfolio.contact.submissions";
+    public static final String CONTACT_VALIDATION_ERRORS = "portfolio.contact.validation.errors";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CacheMetrics> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public PortfolioMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the meters for a route, e.g. "/api/v1/projects/{id}".
+     */
+    public RouteMetrics route(String route) {
+        RouteMetrics metrics = routes.get(route);
+        return metrics != null ? metrics : routes.computeIfAbsent(route, r -> new RouteMetrics(registry, r));
+    }
+
+    /**
+     * Returns the hit and miss counters for a cache, e.g. "api".
+     */
+    public CacheMetrics cache(String cache) {
+        CacheMetrics metrics = caches.get(cache);
+        return metrics != null ? metrics : caches.computeIfAbsent(cache, c -> new CacheMetrics(registry, c));
+    }
+
+    /**
+     * Counts a contact form submission.
+     *
+     * @param outcome "accepted", "invalid" or "rejected" (queue full)
+     */
+    public void contactSubmission(String outcome) {
+        counter(CONTACT_SUBMISSIONS, "outcome", outcome).increment();
+    }
+
+    /**
+     * Counts a contact form validation error on the given field.
+     */
+    public void contactValidationError(String field) {
+        counter(CONTACT_VALIDATION_ERRORS, "field", field).increment();
+    }
+
+    private Counter counter(String name, String tag, String value) {
+        String key = name + '|' + value;
+        Counter counter = counters.get(key);
+        return counter != null ? counter : counters.computeIfAbsent(key,
+                k -> Counter.builder(name).tag(tag, value).register(registry));
+    }
+
+    /**
+     * Phase timers and payload size summary for one route.
+     */
+    public static final class RouteMetrics {
+        private final Timer fetch;
+        private final Timer serialize;
+        private final Timer render;
+        private final DistributionSummary responseSize;
+
+        RouteMetrics(MeterRegistry registry, String route) {
+            this.fetch = phaseTimer(registry, route, "fetch");
+            this.serialize = phaseTimer(registry, route, "serialize");
+            this.render = phaseTimer(registry, route, "render");
+            this.responseSize = DistributionSummary.builder(RESPONSE_SIZE)
+                    .description("Size of serialized response bodies")
+                    .baseUnit("bytes")
+                    .tag("route", route)
+                    .register(registry);
+        }
+
+        private static Timer phaseTimer(MeterRegistry registry, String route, String phase) {
+            return Timer.builder(PHASE_TIMER)
+                    .description("Time spent in each phase of handling a request")
+                    .tag("route", route)
+                    .tag("phase", phase)
+                    .register(registry);
+        }
+
+        /**
+         * Runs a data access step, timing it as the fetch phase.
+         */
+        public <T> T fetch(Supplier<T> step) {
+            long start = System.nanoTime();
+            try {
+                return step.get();
+            } finally {
+                fetch.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        public void recordSerialize(long nanos) {
+            serialize.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void recordRender(long nanos) {
+            render.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public void recordResponseSize(int bytes) {
+            responseSize.record(bytes);
+        }
+    }
+
+    /**
+     * Hit and miss counters for one cache.
+     */
+    public static final class CacheMetrics {
+        private final Counter hits;
+        private final Counter misses;
+
+        CacheMetrics(MeterRegistry registry, String cache) {
+            this.hits = Counter.builder(CACHE).tag("cache", cache).tag("result", "hit").register(registry);
+            this.misses = Counter.builder(CACHE).tag("cache", cache).tag("result", "miss").register(registry);
+        }
+
+        public void hit() {
+            hits.increment();
+        }
+
+        public void miss() {
+            misses.increment();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.niiamatey.portfolio.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Times view rendering: the span between the handler returning its view
+ * ({@code postHandle}) and the response being complete ({@code afterCompletion}).
+ * Redirects are not rendered and are not timed.
+ */
+@RequiredArgsConstructor
+public class RenderTimingInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RenderTimingInterceptor.class.getName() + ".start";
+
+    private final PortfolioMetrics metrics;
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView != null && modelAndView.getViewName() != null
+                && !modelAndView.getViewName().startsWith("redirect:")) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (start instanceof Long startNanos && route instanceof String pattern) {
+            metrics.route(pattern).recordRender(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.niiamatey.portfolio.microcache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A complete response held by the {@link MicroCache}: status, the headers to
+ * replay and the body bytes.
+ *
+ * @param version portfolio data version the response was rendered from
+ * @param expiresAt {@link System#nanoTime()} after which the response is stale
+ */
+record CachedResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body,
+                      long version, long expiresAt) {
+
+    /**
+     * Approximate heap used by the entry, counted against the cache's size limit.
+     */
+    long weight() {
+        long weight = body.length + 128;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            weight += header.getKey().length() * 2L + 48;
+            for (String value : header.getValue()) {
+                weight += value.length() * 2L + 48;
+            }
+        }
+        return weight;
+    }
+
+    String header(String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
+}
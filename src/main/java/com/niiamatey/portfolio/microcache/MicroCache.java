@@ -0,0 +1,99 @@
+package com.niiamatey.portfolio.microcache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Size-bounded LRU store of whole responses with a time to live.
+ *
+ * Entries are weighed by their body and header size; inserting beyond the
+ * limit evicts the least recently used entries first. Each entry records the
+ * data version it was rendered from, and the first lookup with a newer
+ * version drops every entry at once, so a publish invalidates the whole cache
+ * without the repository having to know about it.
+ *
+ * Access is serialized on the instance: the critical sections are a hash
+ * lookup and a few pointer updates, which is short next to the render a hit
+ * saves.
+ */
+final class MicroCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+    private long version;
+
+    MicroCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a fresh response for the key, or {@code null}.
+     *
+     * @param version current portfolio data version
+     * @param now current {@link System#nanoTime()}
+     */
+    synchronized CachedResponse get(String key, long version, long now) {
+        advance(version);
+        CachedResponse response = entries.get(key);
+        if (response == null) {
+            return null;
+        }
+        if (response.version() != version || now - response.expiresAt() >= 0) {
+            remove(key);
+            return null;
+        }
+        return response;
+    }
+
+    /**
+     * Stores a response, evicting least recently used entries to make room.
+     * Responses rendered from data older than the newest version seen are
+     * dropped, as are responses larger than the whole cache.
+     */
+    synchronized void put(String key, CachedResponse response) {
+        advance(response.version());
+        long weight = response.weight();
+        if (response.version() != version || weight > maxBytes) {
+            return;
+        }
+        remove(key);
+        entries.put(key, response);
+        bytes += weight;
+        Iterator<CachedResponse> eldest = entries.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Drops every entry.
+     */
+    synchronized void invalidateAll() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    private void advance(long version) {
+        if (version > this.version) {
+            this.version = version;
+            invalidateAll();
+        }
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.weight();
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.niiamatey.portfolio.microcache;
+
+import com.niiamatey.portfolio.config.MicroCacheProperties;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics.CacheMetrics;
+import com.niiamatey.portfolio.service.ApiEncoding;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Servlet filter serving whole GET responses from a short-lived {@link MicroCache}.
+ *
+ * Responses are keyed by path, query string and negotiated {@link ApiEncoding},
+ * and only stored when they are a plain 200 that does not set cookies, create
+ * a session or forbid caching. Requests that carry a session or one of the
+ * bypass cookies, such as the flash message cookie, are passed through,
+ * since their page is meant for that client alone.
+ *
+ * Concurrent misses for the same key are coalesced: the first request renders
+ * the response while the others wait for it and are served the same bytes, so
+ * a cold cache under a burst of traffic costs one render rather than one per
+ * request. If the shared render fails or turns out not to be cacheable, the
+ * waiting requests render their own response.
+ */
+@Slf4j
+public class MicroCacheFilter extends OncePerRequestFilter {
+
+    /**
+     * Streamed responses cannot be buffered, so NDJSON requests bypass the cache
+     */
+    private static final String NDJSON = "application/x-ndjson";
+
+    /**
+     * Headers managed by the container rather than replayed from the cache
+     */
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-length", "content-type", "date",
+            "transfer-encoding", "connection", "keep-alive");
+
+    private final List<PathPattern> paths;
+    private final Set<String> bypassCookies;
+    private final long ttlNanos;
+    private final long maxEntryBytes;
+    private final long lockTimeoutMillis;
+    private final MicroCache cache;
+    private final LongSupplier dataVersion;
+    private final CacheMetrics metrics;
+    private final LongSupplier clockNanos;
+    private final ConcurrentMap<String, CompletableFuture<CachedResponse>> renders = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param bypassCookies names of cookies whose requests are never served from or stored in the cache
+     * @param dataVersion current portfolio data version; cached responses are dropped when it changes
+     */
+    public MicroCacheFilter(MicroCacheProperties properties, Set<String> bypassCookies, LongSupplier dataVersion,
+                            CacheMetrics metrics) {
+        this(properties, bypassCookies, dataVersion, metrics, System::nanoTime);
+    }
+
+    MicroCacheFilter(MicroCacheProperties properties, Set<String> bypassCookies, LongSupplier dataVersion,
+                     CacheMetrics metrics, LongSupplier clockNanos) {
+        this.paths = properties.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.bypassCookies = Set.copyOf(bypassCookies);
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.maxEntryBytes = properties.getMaxEntrySize().toBytes();
+        this.lockTimeoutMillis = properties.getLockTimeout().toMillis();
+        this.cache = new MicroCache(properties.getMaxSize().toBytes());
+        this.dataVersion = dataVersion;
+        this.metrics = metrics;
+        this.clockNanos = clockNanos;
+    }
+
+    /**
+     * Drops all cached responses.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Total size of the cached responses, in bytes.
+     */
+    public long cachedBytes() {
+        return cache.bytes();
+    }
+
+    /**
+     * Number of cached responses.
+     */
+    public int cachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Requests served from another request's render since startup.
+     */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!isCacheable(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long version = dataVersion.getAsLong();
+        String key = key(request);
+        CachedResponse cached = cache.get(key, version, clockNanos.getAsLong());
+        if (cached != null) {
+            metrics.hit();
+            write(cached, request, response);
+            return;
+        }
+
+        // Keyed by version too, so requests after a publish never wait for a render of older data
+        String renderKey = version + " " + key;
+        CompletableFuture<CachedResponse> render = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> leader = renders.putIfAbsent(renderKey, render);
+        if (leader != null) {
+            CachedResponse shared = await(leader);
+            if (shared != null) {
+                coalesced.increment();
+                metrics.hit();
+                write(shared, request, response);
+            } else {
+                metrics.miss();
+                filterChain.doFilter(request, response);
+            }
+            return;
+        }
+
+        metrics.miss();
+        CachedResponse rendered = null;
+        try {
+            rendered = render(request, response, filterChain, version);
+        } finally {
+            renders.remove(renderKey, render);
+            render.complete(rendered);
+        }
+    }
+
+    private boolean isCacheable(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) || request.getRequestedSessionId() != null
+                || hasBypassCookie(request)) {
+            return false;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null && accept.contains(NDJSON)) {
+            return false;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasBypassCookie(HttpServletRequest request) {
+        Cookie[] cookies = bypassCookies.isEmpty() ? null : request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (bypassCookies.contains(cookie.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return ApiEncoding.negotiate(request.getHeader(HttpHeaders.ACCEPT)) + " " + request.getRequestURI()
+                + (query == null ? "" : "?" + query);
+    }
+
+    /**
+     * Runs the chain into a buffer, stores the result if it can be shared and
+     * then sends it.
+     *
+     * @return the stored response, or {@code null} if it was not cacheable
+     */
+    private CachedResponse render(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                                  long version) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        CachedResponse rendered = null;
+        if (isShareable(request, wrapper)) {
+            rendered = new CachedResponse(wrapper.getStatus(), wrapper.getContentType(), headers(wrapper),
+                    wrapper.getContentAsByteArray(), version, clockNanos.getAsLong() + ttlNanos);
+            cache.put(key(request), rendered);
+        }
+        wrapper.copyBodyToResponse();
+        return rendered;
+    }
+
+    private boolean isShareable(HttpServletRequest request, ContentCachingResponseWrapper response) {
+        if (response.getStatus() != HttpStatus.OK.value() || request.isAsyncStarted()
+                || request.getSession(false) != null || response.containsHeader(HttpHeaders.SET_COOKIE)
+                || response.getContentSize() > maxEntryBytes) {
+            return false;
+        }
+        String cacheControl = response.getHeader(HttpHeaders.CACHE_CONTROL);
+        return cacheControl == null
+                || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    private static Map<String, List<String>> headers(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.putIfAbsent(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private CachedResponse await(CompletableFuture<CachedResponse> render) {
+        try {
+            return render.get(lockTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Rendering independently after waiting for a shared render: {}", e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Replays a cached response, answering a matching If-None-Match with 304.
+     */
+    private static void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        for (Map.Entry<String, List<String>> header : cached.headers().entrySet()) {
+            for (String value : header.getValue()) {
+                response.addHeader(header.getKey(), value);
+            }
+        }
+        String etag = cached.header(HttpHeaders.ETAG);
+        if (etag != null && matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        response.setStatus(cached.status());
+        if (cached.contentType() != null) {
+            response.setContentType(cached.contentType());
+        }
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    /**
+     * Weak comparison, as for If-None-Match in RFC 9110.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = weakless(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || weakless(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String weakless(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -1,5 +1,6 @@
 package com.niiamatey.portfolio.model;
 
+import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,6 +26,7 @@ public class Experience {
     /**
      * Title of the position or degree
      */
+    @NotBlank(message = "Experience title is required")
     private String title;
     
     /**
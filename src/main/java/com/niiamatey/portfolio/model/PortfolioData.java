@@ -0,0 +1,35 @@
+package com.niiamatey.portfolio.model;
+
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * All portfolio content as read from an external JSON or YAML data file.
+ *
+ * Any of the lists may be omitted from a file; a directory of files is
+ * merged into a single instance in file-name order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioData {
+
+    @Valid
+    @Builder.Default
+    private List<Skill> skills = new ArrayList<>();
+
+    @Valid
+    @Builder.Default
+    private List<Project> projects = new ArrayList<>();
+
+    @Valid
+    @Builder.Default
+    private List<Experience> experiences = new ArrayList<>();
+}
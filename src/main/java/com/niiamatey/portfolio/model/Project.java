@@ -1,5 +1,6 @@
 package com.niiamatey.portfolio.model;
 
+import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,11 +23,13 @@ public class Project {
     /**
      * Unique identifier for the project
      */
+    @NotBlank(message = "Project id is required")
     private String id;
     
     /**
      * Project title displayed on the portfolio
      */
+    @NotBlank(message = "Project title is required")
     private String title;
     
     /**
@@ -1,5 +1,6 @@
 package com.niiamatey.portfolio.model;
 
+import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,6 +23,7 @@ public class Skill {
     /**
      * Category name (e.g., "Languages", "Backend & Frameworks")
      */
+    @NotBlank(message = "Skill category is required")
     private String category;
     
     /**
@@ -0,0 +1,24 @@
+package com.niiamatey.portfolio.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a list endpoint, as returned when {@code limit} or {@code cursor} is given.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class Page<T> {
+
+    /**
+     * Entries on this page, in catalog order
+     */
+    private final List<T> items;
+
+    /**
+     * Opaque cursor for the next page, or {@code null} on the last page
+     */
+    private final String nextCursor;
+}
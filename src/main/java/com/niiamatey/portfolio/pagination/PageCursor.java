@@ -0,0 +1,43 @@
+package com.niiamatey.portfolio.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a paginated list: the data version the page was cut from, the
+ * offset of the next entry, a hash of the filters that selected the list and
+ * the key of the last entry returned.
+ * Encoded as URL-safe Base64 so clients treat it as opaque.
+ */
+record PageCursor(long version, int offset, int filters, String lastKey) {
+
+    String encode() {
+        String raw = version + ":" + offset + ":" + Integer.toHexString(filters) + ":"
+                + (lastKey == null ? "" : lastKey);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws ResponseStatusException 400 if the cursor was not produced by {@link #encode()}
+     */
+    static PageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException(raw);
+            }
+            int offset = Integer.parseInt(parts[1]);
+            if (offset < 0) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new PageCursor(Long.parseLong(parts[0]), offset, Integer.parseUnsignedInt(parts[2], 16),
+                    parts[3].isEmpty() ? null : parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.niiamatey.portfolio.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor pagination over the immutable lists of a portfolio snapshot.
+ *
+ * Pages are sublist views, so cutting a page copies nothing. Entries keep
+ * their catalog order. A cursor normally resumes at its offset. If new data
+ * has been published since the cursor was issued, it resumes after the last
+ * entry the client saw, found by key, so inserts and deletes earlier in the
+ * list neither skip nor repeat entries. Lists without a key (experiences)
+ * resume at the offset.
+ *
+ * A cursor also carries a hash of the filters that selected the list, and
+ * is rejected with 400 when it comes back with different ones: its offset
+ * and last key only make sense in the list they were taken from.
+ */
+public final class Pagination {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private Pagination() {
+    }
+
+    /**
+     * Cuts the page that follows {@code cursor}.
+     *
+     * @param items the full list, in a stable order
+     * @param version data version the list belongs to
+     * @param filters normalized description of the filters that selected {@code items}, or {@code null} for none
+     * @param cursor cursor from a previous page, or {@code null} for the first page
+     * @param limit page size, or {@code null} for {@link #DEFAULT_LIMIT}; capped at {@link #MAX_LIMIT}
+     * @param key unique key of an entry, or {@code null} if entries have none
+     * @throws ResponseStatusException 400 for a malformed cursor or one issued for other filters
+     */
+    public static <T> Page<T> page(List<T> items, long version, String filters, String cursor, Integer limit,
+                                   Function<T, String> key) {
+        int size = Math.max(1, Math.min(MAX_LIMIT, limit == null ? DEFAULT_LIMIT : limit));
+        int filterHash = filters == null ? 0 : filters.hashCode();
+        int start = 0;
+        if (cursor != null) {
+            PageCursor position = PageCursor.decode(cursor);
+            if (position.filters() != filterHash) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor was issued for different filters");
+            }
+            start = resume(items, version, position, key);
+        }
+        int end = Math.min(items.size(), start + size);
+        String next = end < items.size()
+                ? new PageCursor(version, end, filterHash, key == null ? null : key.apply(items.get(end - 1))).encode()
+                : null;
+        return new Page<>(items.subList(start, end), next);
+    }
+
+    private static <T> int resume(List<T> items, long version, PageCursor cursor, Function<T, String> key) {
+        if (cursor.version() != version && key != null && cursor.lastKey() != null) {
+            // Only after a publish; a linear scan once per client is cheaper than another index
+            for (int i = 0; i < items.size(); i++) {
+                if (cursor.lastKey().equals(key.apply(items.get(i)))) {
+                    return i + 1;
+                }
+            }
+        }
+        return Math.min(cursor.offset(), items.size());
+    }
+}
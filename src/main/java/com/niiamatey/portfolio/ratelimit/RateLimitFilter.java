@@ -0,0 +1,142 @@
+package com.niiamatey.portfolio.ratelimit;
+
+import com.niiamatey.portfolio.config.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Servlet filter applying per-client token-bucket limits to configured endpoints.
+ *
+ * Clients are identified by remote address, or by X-Forwarded-For when the app
+ * runs behind a known number of trusted proxies. Limited requests are answered
+ * with 429 Too Many Requests and a Retry-After header before they reach
+ * validation or any controller.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<LimitedRoute> routes;
+    private final int trustedProxies;
+    private final LongAdder limited = new LongAdder();
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this.trustedProxies = properties.getTrustedProxies();
+        this.routes = new ArrayList<>();
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            routes.add(new LimitedRoute(rule, properties.getTableSize()));
+        }
+    }
+
+    /**
+     * Total number of requests rejected with 429 since startup.
+     */
+    public long limitedCount() {
+        return limited.sum();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        LimitedRoute route = match(request);
+        if (route != null) {
+            long waitMillis = route.limiter.tryAcquire(clientKey(request));
+            if (waitMillis > 0) {
+                reject(request, response, waitMillis);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private LimitedRoute match(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (LimitedRoute route : routes) {
+            if (route.matches(request.getMethod(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the client address, skipping the entries appended by trusted proxies.
+     */
+    String clientKey(HttpServletRequest request) {
+        return clientAddress(request, trustedProxies);
+    }
+
+    /**
+     * Resolves the client address of a request behind the given number of
+     * reverse proxies, each of which appends the address it saw to
+     * X-Forwarded-For.
+     */
+    public static String clientAddress(HttpServletRequest request, int trustedProxies) {
+        if (trustedProxies > 0) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                String[] hops = forwardedFor.split(",");
+                // The last trusted proxy saw the connection from the remote address,
+                // so the client is the entry it (and each proxy before it) appended
+                int index = Math.max(0, hops.length - trustedProxies);
+                return hops[index].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitMillis) throws IOException {
+        limited.increment();
+        long retryAfterSeconds = Math.max(1, (waitMillis + 999) / 1_000);
+        log.debug("Rate limited {} {} from {} (retry after {}s)",
+                request.getMethod(), request.getRequestURI(), clientKey(request), retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("Too many requests, please retry in " + retryAfterSeconds + " seconds.\n");
+    }
+
+    /**
+     * A configured rule compiled to a path pattern with its own bucket table.
+     */
+    private static final class LimitedRoute {
+        private final PathPattern pattern;
+        private final Set<String> methods;
+        private final TokenBucketRateLimiter limiter;
+
+        LimitedRoute(RateLimitProperties.Rule rule, int tableSize) {
+            this.pattern = PathPatternParser.defaultInstance.parse(rule.getPath());
+            this.methods = rule.getMethods().stream()
+                    .map(m -> m.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.limiter = new TokenBucketRateLimiter(rule.getCapacity(), rule.getRefillTokens(),
+                    rule.getRefillPeriod(), tableSize);
+        }
+
+        boolean matches(String method, PathContainer path) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.niiamatey.portfolio.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token-bucket rate limiter keyed by client, with bounded memory.
+ *
+ * Buckets live in a fixed-size open-addressed table. Each slot is a single
+ * {@code long} packing a 12-bit key fingerprint, the token count in
+ * milli-tokens (20 bits) and the time of the last update in milliseconds
+ * (32 bits, compared with wrap-around arithmetic). A granted request updates
+ * its slot with one compare-and-set, so the hot path takes no locks and
+ * allocates nothing; contention is limited to clients that share a slot.
+ *
+ * The time only moves forward by what the credited tokens cost, so the part
+ * of a token earned since the last grant carries over; a denied request does
+ * not touch the slot at all. Clients retrying faster than the refill thus
+ * still get tokens at the configured rate.
+ *
+ * A key probes a short run of slots. When none holds its fingerprint and none
+ * is free, the least recently used slot in the run is taken over, so spraying
+ * many addresses only evicts idle buckets and memory never grows. Distinct
+ * keys with the same slot and fingerprint share a bucket, which errs on the
+ * side of limiting.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int PROBE_LENGTH = 4;
+
+    private static final int TIME_BITS = 32;
+    private static final int TOKEN_BITS = 20;
+    private static final int FINGERPRINT_BITS = 12;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long FINGERPRINT_MASK = (1L << FINGERPRINT_BITS) - 1;
+
+    /**
+     * Largest supported burst capacity, bounded by the 20-bit milli-token field.
+     */
+    public static final int MAX_CAPACITY = (int) (TOKEN_MASK / 1_000);
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long capacityMilli;
+    private final double refillMilliPerMs;
+    private final LongSupplier clockMillis;
+
+    /**
+     * @param capacity maximum burst size in requests (1 to {@link #MAX_CAPACITY})
+     * @param refillTokens tokens added per refill period
+     * @param refillPeriod period over which {@code refillTokens} are added
+     * @param tableSize number of buckets kept; rounded up to a power of two
+     */
+    public TokenBucketRateLimiter(int capacity, int refillTokens, Duration refillPeriod, int tableSize) {
+        this(capacity, refillTokens, refillPeriod, tableSize, monotonicMillis());
+    }
+
+    TokenBucketRateLimiter(int capacity, int refillTokens, Duration refillPeriod, int tableSize,
+                           LongSupplier clockMillis) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        if (refillTokens < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("Refill rate must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(PROBE_LENGTH, tableSize - 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacityMilli = capacity * 1_000L;
+        this.refillMilliPerMs = refillTokens * 1_000.0 / refillPeriod.toMillis();
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * Takes one token from the key's bucket if available.
+     *
+     * @param key client identifier, e.g. an IP address
+     * @return 0 if the request is allowed, otherwise the number of milliseconds
+     *         until a token becomes available
+     */
+    public long tryAcquire(String key) {
+        long hash = mix(key.hashCode());
+        long fingerprint = (hash >>> (64 - FINGERPRINT_BITS)) & FINGERPRINT_MASK;
+        if (fingerprint == 0) {
+            fingerprint = 1;
+        }
+        int base = (int) hash & mask;
+
+        while (true) {
+            long now = clockMillis.getAsLong() & TIME_MASK;
+
+            int slot = -1;
+            long current = 0;
+            boolean found = false;
+            long oldestAge = -1;
+            for (int i = 0; i < PROBE_LENGTH; i++) {
+                int index = (base + i) & mask;
+                long state = slots.get(index);
+                if (state != 0 && fingerprint(state) == fingerprint) {
+                    slot = index;
+                    current = state;
+                    found = true;
+                    break;
+                }
+                // Prefer an empty slot, otherwise the least recently updated one
+                long age = state == 0 ? Long.MAX_VALUE : (now - time(state)) & TIME_MASK;
+                if (age > oldestAge) {
+                    oldestAge = age;
+                    slot = index;
+                    current = state;
+                }
+            }
+
+            long tokens;
+            long time = now;
+            if (found) {
+                long last = time(current);
+                long elapsed = (now - last) & TIME_MASK;
+                double available = tokens(current) + elapsed * refillMilliPerMs;
+                if (available < 1_000) {
+                    // Denied: the slot is left as is, so the refill keeps accruing from its last update
+                    return Math.max(1, (long) Math.ceil((1_000 - available) / refillMilliPerMs));
+                }
+                if (available >= capacityMilli) {
+                    tokens = capacityMilli;
+                } else {
+                    // Move the time only by what the credited milli-tokens cost, carrying the remainder over
+                    long credited = (long) (elapsed * refillMilliPerMs);
+                    tokens = tokens(current) + credited;
+                    time = (last + Math.min(elapsed, (long) Math.ceil(credited / refillMilliPerMs))) & TIME_MASK;
+                }
+            } else {
+                tokens = capacityMilli;
+            }
+            tokens -= 1_000;
+
+            long next = (fingerprint << (TOKEN_BITS + TIME_BITS)) | (tokens << TIME_BITS) | time;
+            if (slots.compareAndSet(slot, current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Number of bucket slots in the table.
+     */
+    public int tableSize() {
+        return slots.length();
+    }
+
+    private static long fingerprint(long state) {
+        return state >>> (TOKEN_BITS + TIME_BITS);
+    }
+
+    private static long tokens(long state) {
+        return (state >>> TIME_BITS) & TOKEN_MASK;
+    }
+
+    private static long time(long state) {
+        return state & TIME_MASK;
+    }
+
+    /**
+     * Spreads a 32-bit hash over 64 bits (SplitMix64 finalizer).
+     */
+    private static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static LongSupplier monotonicMillis() {
+        long origin = System.nanoTime();
+        return () -> (System.nanoTime() - origin) / 1_000_000;
+    }
+}
@@ -0,0 +1,336 @@
+package com.niiamatey.portfolio.repository;
+
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Experience.ExperienceType;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.niiamatey.portfolio.repository.PortfolioIndex.normalize;
+
+/**
+ * On-heap portfolio data with immutable hash indexes built once at
+ * construction, so lookups by id, project type, technology and experience
+ * type are constant-time regardless of how many entries the catalog holds.
+ * Technologies are dictionary-encoded into per-technology bitsets (see
+ * {@link TechnologyDictionary}) so multi-technology filters are bitwise.
+ *
+ * Each project has a fixed position in the catalog. A batch of
+ * {@link PortfolioChanges} is {@linkplain #apply applied} by deriving a new
+ * index from this one: changed projects are replaced at their position or
+ * appended, deleted ones leave an empty position, and only the type groups
+ * and technology bitsets they touch are rebuilt; the rest is shared with the
+ * previous index. Once more than half of the positions are empty, the next
+ * batch compacts the catalog with a full rebuild. Skills and experiences are
+ * short lists and are simply copied.
+ */
+final class HeapPortfolioIndex implements PortfolioIndex {
+
+    private final List<Skill> skills;
+    private final List<Experience> experiences;
+
+    // Projects by catalog position, null where one was deleted
+    private final Project[] positions;
+    private final int deleted;
+    private final List<Project> projects;
+
+    private final Map<String, Integer> positionsById;
+    private final Map<String, List<Project>> projectsByType;
+    private final TechnologyDictionary technologies;
+    private final Map<ExperienceType, List<Experience>> experiencesByType;
+
+    /**
+     * Copies the given data and builds its indexes.
+     *
+     * @throws IllegalArgumentException if the data is invalid (e.g. missing or duplicate project ids)
+     */
+    HeapPortfolioIndex(List<Skill> skills, List<Project> projects, List<Experience> experiences) {
+        this.skills = List.copyOf(skills);
+        this.projects = List.copyOf(projects);
+        this.experiences = List.copyOf(experiences);
+        this.positions = this.projects.toArray(new Project[0]);
+        this.deleted = 0;
+
+        this.positionsById = indexProjectsById(this.projects);
+        this.projectsByType = groupBy(this.projects, p -> single(p.getType()));
+        this.technologies = new TechnologyDictionary(this.projects);
+        this.experiencesByType = indexExperiencesByType(this.experiences);
+    }
+
+    private HeapPortfolioIndex(List<Skill> skills, List<Experience> experiences, Project[] positions, int deleted,
+                               Map<String, Integer> positionsById, Map<String, List<Project>> projectsByType,
+                               TechnologyDictionary technologies) {
+        this.skills = skills;
+        this.experiences = experiences;
+        this.positions = positions;
+        this.deleted = deleted;
+        this.projects = live(positions, deleted);
+        this.positionsById = positionsById;
+        this.projectsByType = projectsByType;
+        this.technologies = technologies;
+        this.experiencesByType = indexExperiencesByType(experiences);
+    }
+
+    /**
+     * Returns the given index itself if it is on the heap, or a heap copy of it.
+     */
+    static HeapPortfolioIndex of(PortfolioIndex index) {
+        if (index instanceof HeapPortfolioIndex heap) {
+            return heap;
+        }
+        return new HeapPortfolioIndex(index.skills(), index.projects(), index.experiences());
+    }
+
+    /**
+     * Returns a new index with the given changes applied; this one is unchanged.
+     */
+    HeapPortfolioIndex apply(PortfolioChanges changes) {
+        List<Skill> skills = merge(this.skills, changes.skills(), Skill::getCategory);
+        List<Experience> experiences = merge(this.experiences, changes.experiences(),
+                e -> PortfolioChanges.experienceKey(e.getTitle(), e.getOrganization()));
+        Map<String, Project> changed = changes.projects();
+        if (changed.isEmpty()) {
+            return new HeapPortfolioIndex(skills, experiences, positions, deleted, positionsById, projectsByType,
+                    technologies);
+        }
+
+        Project[] positions = Arrays.copyOf(this.positions, this.positions.length + changed.size());
+        int size = this.positions.length;
+        int deleted = this.deleted;
+        Map<String, Integer> positionsById = new HashMap<>(this.positionsById);
+        TechnologyDictionary.Editor technologies = this.technologies.edit();
+        Map<String, List<Project>> added = new HashMap<>();
+        for (Map.Entry<String, Project> change : changed.entrySet()) {
+            Project project = change.getValue();
+            Integer position = positionsById.get(change.getKey());
+            if (position != null) {
+                Project previous = positions[position];
+                technologies.remove(position, previous.getTechnologies());
+                if (previous.getType() != null) {
+                    added.computeIfAbsent(normalize(previous.getType()), k -> new ArrayList<>());
+                }
+            }
+            if (project == null) {
+                if (position != null) {
+                    positions[position] = null;
+                    positionsById.remove(change.getKey());
+                    deleted++;
+                }
+                continue;
+            }
+            if (position == null) {
+                position = size++;
+                positionsById.put(project.getId(), position);
+            }
+            positions[position] = project;
+            technologies.add(position, project.getTechnologies());
+            if (project.getType() != null) {
+                added.computeIfAbsent(normalize(project.getType()), k -> new ArrayList<>()).add(project);
+            }
+        }
+        positions = Arrays.copyOf(positions, size);
+
+        if (deleted > size / 2) {
+            return new HeapPortfolioIndex(skills, live(positions, deleted), experiences);
+        }
+        return new HeapPortfolioIndex(skills, experiences, positions, deleted, Collections.unmodifiableMap(positionsById),
+                regroup(added, changed.keySet(), positionsById), technologies.build());
+    }
+
+    @Override
+    public List<Skill> skills() {
+        return skills;
+    }
+
+    @Override
+    public List<Project> projects() {
+        return projects;
+    }
+
+    @Override
+    public List<Experience> experiences() {
+        return experiences;
+    }
+
+    @Override
+    public Optional<Project> findProjectById(String id) {
+        Integer position = positionsById.get(id);
+        return position == null ? Optional.empty() : Optional.of(positions[position]);
+    }
+
+    @Override
+    public List<Project> findProjectsByType(String type) {
+        return projectsByType.getOrDefault(type, List.of());
+    }
+
+    @Override
+    public List<Project> findProjectsByTechnology(String technology) {
+        int id = technologies.id(technology);
+        return id < 0 ? List.of() : select(technologies.projects(id));
+    }
+
+    @Override
+    public List<Project> findProjectsByTechnologies(List<String> technologies, TechnologyMatch match) {
+        return select(this.technologies.match(technologies, match));
+    }
+
+    @Override
+    public List<Experience> findExperiencesByType(ExperienceType type) {
+        return experiencesByType.getOrDefault(type, List.of());
+    }
+
+    @Override
+    public int typeCount() {
+        return projectsByType.size();
+    }
+
+    @Override
+    public int technologyCount() {
+        return technologies.size();
+    }
+
+    /**
+     * Materializes the projects at the set positions, in catalog order.
+     */
+    private List<Project> select(BitSet positions) {
+        List<Project> selected = new ArrayList<>(positions.cardinality());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            selected.add(this.positions[i]);
+        }
+        return Collections.unmodifiableList(selected);
+    }
+
+    /**
+     * Rebuilds the type groups that changed projects left or joined; the
+     * others are shared. Each group keeps its unchanged projects, followed by
+     * the added ones, and is then put back in catalog order.
+     *
+     * @param added projects added to each affected type, possibly none
+     * @param changed ids of all changed projects
+     */
+    private Map<String, List<Project>> regroup(Map<String, List<Project>> added, Set<String> changed,
+                                               Map<String, Integer> positionsById) {
+        Map<String, List<Project>> index = new HashMap<>(projectsByType);
+        added.forEach((type, projects) -> {
+            List<Project> group = new ArrayList<>();
+            for (Project project : projectsByType.getOrDefault(type, List.of())) {
+                if (!changed.contains(project.getId())) {
+                    group.add(project);
+                }
+            }
+            group.addAll(projects);
+            // Two sorted runs, which the merge sort joins in linear time
+            group.sort(Comparator.comparingInt(p -> positionsById.get(p.getId())));
+            if (group.isEmpty()) {
+                index.remove(type);
+            } else {
+                index.put(type, List.copyOf(group));
+            }
+        });
+        return Map.copyOf(index);
+    }
+
+    /**
+     * Replaces, removes and appends the changed entries of a short list.
+     *
+     * @param changes changed entries by key, with {@code null} for deleted ones
+     */
+    private static <T> List<T> merge(List<T> entries, Map<String, T> changes, Function<T, String> key) {
+        if (changes.isEmpty()) {
+            return entries;
+        }
+        Map<String, T> remaining = new LinkedHashMap<>(changes);
+        List<T> merged = new ArrayList<>(entries.size() + changes.size());
+        for (T entry : entries) {
+            String k = key.apply(entry);
+            if (!remaining.containsKey(k)) {
+                merged.add(entry);
+            } else if (remaining.get(k) != null) {
+                merged.add(remaining.remove(k));
+            } else {
+                remaining.remove(k);
+            }
+        }
+        remaining.values().stream().filter(Objects::nonNull).forEach(merged::add);
+        return List.copyOf(merged);
+    }
+
+    /**
+     * The projects at the non-empty positions, in catalog order.
+     */
+    private static List<Project> live(Project[] positions, int deleted) {
+        if (deleted == 0) {
+            return Collections.unmodifiableList(Arrays.asList(positions));
+        }
+        List<Project> live = new ArrayList<>(positions.length - deleted);
+        for (Project project : positions) {
+            if (project != null) {
+                live.add(project);
+            }
+        }
+        return Collections.unmodifiableList(live);
+    }
+
+    private static Map<String, Integer> indexProjectsById(List<Project> projects) {
+        Map<String, Integer> index = new HashMap<>(projects.size() * 2);
+        for (int i = 0; i < projects.size(); i++) {
+            Project project = projects.get(i);
+            if (project.getId() == null || project.getId().isBlank()) {
+                throw new IllegalArgumentException("Project without id: " + project.getTitle());
+            }
+            if (index.put(project.getId(), i) != null) {
+                throw new IllegalArgumentException("Duplicate project id: " + project.getId());
+            }
+        }
+        return Map.copyOf(index);
+    }
+
+    private static Map<ExperienceType, List<Experience>> indexExperiencesByType(List<Experience> experiences) {
+        Map<ExperienceType, List<Experience>> index = new EnumMap<>(ExperienceType.class);
+        for (Experience experience : experiences) {
+            if (experience.getType() != null) {
+                index.computeIfAbsent(experience.getType(), t -> new ArrayList<>()).add(experience);
+            }
+        }
+        index.replaceAll((type, list) -> List.copyOf(list));
+        return index;
+    }
+
+    /**
+     * Groups projects under each (normalized) key produced by {@code keys},
+     * preserving catalog order within each group.
+     */
+    private static Map<String, List<Project>> groupBy(List<Project> projects,
+                                                      Function<Project, Collection<String>> keys) {
+        Map<String, List<Project>> index = new HashMap<>();
+        for (Project project : projects) {
+            for (String key : keys.apply(project)) {
+                List<Project> group = index.computeIfAbsent(normalize(key), k -> new ArrayList<>());
+                if (group.isEmpty() || group.get(group.size() - 1) != project) {
+                    group.add(project);
+                }
+            }
+        }
+        index.replaceAll((key, list) -> List.copyOf(list));
+        return Map.copyOf(index);
+    }
+
+    private static Collection<String> single(String value) {
+        return value == null ? List.of() : List.of(value);
+    }
+}
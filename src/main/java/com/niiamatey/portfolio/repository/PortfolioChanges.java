@@ -0,0 +1,104 @@
+package com.niiamatey.portfolio.repository;
+
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Batch of upserts and deletes applied to the portfolio data as one new
+ * version with {@link PortfolioRepository#apply}.
+ *
+ * Entries are identified by a key: projects by id, skills by category and
+ * experiences by title and organization. A later change to the same key
+ * replaces an earlier one, so the batch has the effect of applying its
+ * changes in order. Upserts replace an existing entry in place and append a
+ * new one at the end; deleting an entry that does not exist is a no-op.
+ */
+public final class PortfolioChanges {
+
+    // Insertion-ordered, a null value marks a delete
+    private final Map<String, Project> projects = new LinkedHashMap<>();
+    private final Map<String, Skill> skills = new LinkedHashMap<>();
+    private final Map<String, Experience> experiences = new LinkedHashMap<>();
+
+    /**
+     * @throws IllegalArgumentException if the project has no id
+     */
+    public void upsertProject(Project project) {
+        projects.put(requireKey(project.getId(), "Project id"), project);
+    }
+
+    public void deleteProject(String id) {
+        projects.put(requireKey(id, "Project id"), null);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the skill has no category
+     */
+    public void upsertSkill(Skill skill) {
+        skills.put(requireKey(skill.getCategory(), "Skill category"), skill);
+    }
+
+    public void deleteSkill(String category) {
+        skills.put(requireKey(category, "Skill category"), null);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the experience has no title
+     */
+    public void upsertExperience(Experience experience) {
+        experiences.put(experienceKey(experience.getTitle(), experience.getOrganization()), experience);
+    }
+
+    public void deleteExperience(String title, String organization) {
+        experiences.put(experienceKey(title, organization), null);
+    }
+
+    /**
+     * Number of distinct entries changed.
+     */
+    public int size() {
+        return projects.size() + skills.size() + experiences.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Changed projects by id, with {@code null} for deleted ones.
+     */
+    Map<String, Project> projects() {
+        return Collections.unmodifiableMap(projects);
+    }
+
+    /**
+     * Changed skills by category, with {@code null} for deleted ones.
+     */
+    Map<String, Skill> skills() {
+        return Collections.unmodifiableMap(skills);
+    }
+
+    /**
+     * Changed experiences by {@link #experienceKey key}, with {@code null} for deleted ones.
+     */
+    Map<String, Experience> experiences() {
+        return Collections.unmodifiableMap(experiences);
+    }
+
+    static String experienceKey(String title, String organization) {
+        return requireKey(title, "Experience title") + '\u0000' + Objects.toString(organization, "");
+    }
+
+    private static String requireKey(String key, String name) {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return key;
+    }
+}
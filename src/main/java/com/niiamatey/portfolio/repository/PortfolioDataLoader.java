@@ -0,0 +1,133 @@
+package com.niiamatey.portfolio.repository;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.niiamatey.portfolio.model.PortfolioData;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads and validates portfolio data from external JSON or YAML files.
+ *
+ * The location may be a single file or a directory; all {@code .json},
+ * {@code .yml} and {@code .yaml} files in a directory are merged in
+ * file-name order.
+ */
+public class PortfolioDataLoader {
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper yamlMapper;
+    private final Validator validator;
+
+    public PortfolioDataLoader(ObjectMapper objectMapper, Validator validator) {
+        this.jsonMapper = objectMapper.copy()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        this.yamlMapper = new ObjectMapper(new YAMLFactory())
+                .findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        this.validator = validator;
+    }
+
+    /**
+     * Returns whether the given file name has a supported data file extension.
+     */
+    public static boolean isDataFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".json") || name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+
+    /**
+     * Loads and validates all data at the given location.
+     *
+     * @param location data file or directory of data files
+     * @return the merged, validated data
+     * @throws IOException if a file cannot be read or parsed
+     * @throws IllegalArgumentException if the data fails validation
+     */
+    public PortfolioData load(Path location) throws IOException {
+        PortfolioData data = new PortfolioData();
+        for (Path file : dataFiles(location)) {
+            PortfolioData part = read(file);
+            data.getSkills().addAll(part.getSkills());
+            data.getProjects().addAll(part.getProjects());
+            data.getExperiences().addAll(part.getExperiences());
+        }
+        validate(data);
+        shareTechnologyNames(data);
+        return data;
+    }
+
+    private List<Path> dataFiles(Path location) throws IOException {
+        if (!Files.isDirectory(location)) {
+            return List.of(location);
+        }
+        try (Stream<Path> files = Files.list(location)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(PortfolioDataLoader::isDataFile)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private PortfolioData read(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        ObjectMapper mapper = name.endsWith(".json") ? jsonMapper : yamlMapper;
+        try (InputStream in = Files.newInputStream(file)) {
+            PortfolioData data = mapper.readValue(in, PortfolioData.class);
+            if (data == null) {
+                throw new IOException("Empty portfolio data file: " + file);
+            }
+            // Explicit nulls in the file would otherwise replace the empty defaults
+            if (data.getSkills() == null) {
+                data.setSkills(new ArrayList<>());
+            }
+            if (data.getProjects() == null) {
+                data.setProjects(new ArrayList<>());
+            }
+            if (data.getExperiences() == null) {
+                data.setExperiences(new ArrayList<>());
+            }
+            return data;
+        }
+    }
+
+    /**
+     * Replaces every technology name with one shared instance per distinct
+     * name, so a tag listed on many skills and projects is held once.
+     */
+    private static void shareTechnologyNames(PortfolioData data) {
+        Map<String, String> names = new HashMap<>();
+        Stream.concat(data.getSkills().stream().map(Skill::getTechnologies),
+                        data.getProjects().stream().map(Project::getTechnologies))
+                .filter(Objects::nonNull)
+                .forEach(technologies -> technologies.replaceAll(name ->
+                        name == null ? null : names.computeIfAbsent(name, n -> n)));
+    }
+
+    private void validate(PortfolioData data) {
+        Set<ConstraintViolation<PortfolioData>> violations = validator.validate(data);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException("Invalid portfolio data: " + violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+}
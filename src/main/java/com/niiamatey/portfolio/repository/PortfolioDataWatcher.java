@@ -0,0 +1,134 @@
+package com.niiamatey.portfolio.repository;
+
+import com.niiamatey.portfolio.config.PortfolioDataProperties;
+import com.niiamatey.portfolio.model.PortfolioData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Loads portfolio data from an external location and hot-reloads it on change.
+ *
+ * The initial load happens during startup and fails the application if the
+ * data is invalid. Afterwards a background thread watches the location with
+ * a {@link WatchService}; each change is parsed and validated on that thread
+ * and published through {@link PortfolioRepository#publish}. A reload that
+ * fails is logged and the previous snapshot stays in service.
+ */
+@Slf4j
+public class PortfolioDataWatcher implements InitializingBean, DisposableBean {
+
+    private final PortfolioRepository repository;
+    private final PortfolioDataLoader loader;
+    private final PortfolioDataProperties properties;
+    private final Path location;
+
+    private WatchService watchService;
+    private Thread thread;
+
+    public PortfolioDataWatcher(PortfolioRepository repository, PortfolioDataLoader loader,
+                                PortfolioDataProperties properties) {
+        this.repository = repository;
+        this.loader = loader;
+        this.properties = properties;
+        this.location = Path.of(properties.getLocation()).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        publish(loader.load(location));
+        if (properties.isWatch()) {
+            start();
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (watchService != null) {
+            watchService.close();
+        }
+        if (thread != null) {
+            thread.join(1_000);
+        }
+    }
+
+    /**
+     * Reloads the data from disk, keeping the current snapshot if it is invalid.
+     *
+     * @return whether new data was published
+     */
+    public boolean reload() {
+        try {
+            publish(loader.load(location));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to reload portfolio data from {}; keeping version {}: {}",
+                    location, repository.version(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void publish(PortfolioData data) {
+        repository.publish(data.getSkills(), data.getProjects(), data.getExperiences());
+    }
+
+    private void start() throws IOException {
+        Path directory = Files.isDirectory(location) ? location : location.getParent();
+        watchService = FileSystems.getDefault().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        thread = new Thread(this::watch, "portfolio-data-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching {} for portfolio data changes", location);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean relevant = isRelevant(key);
+                key.reset();
+                if (relevant) {
+                    // Let the writer finish, then fold any further events into this reload
+                    Thread.sleep(properties.getReloadDelay().toMillis());
+                    WatchKey more;
+                    while ((more = watchService.poll()) != null) {
+                        more.pollEvents();
+                        more.reset();
+                    }
+                    reload();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.debug("Stopped watching {}", location);
+        }
+    }
+
+    private boolean isRelevant(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+            } else if (event.context() instanceof Path changed) {
+                relevant |= Files.isDirectory(location)
+                        ? PortfolioDataLoader.isDataFile(changed)
+                        : changed.equals(location.getFileName());
+            }
+        }
+        return relevant;
+    }
+}
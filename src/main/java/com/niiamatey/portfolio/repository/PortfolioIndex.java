@@ -0,0 +1,75 @@
+package com.niiamatey.portfolio.repository;
+
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Experience.ExperienceType;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Storage behind a {@link PortfolioSnapshot}: the portfolio data and its
+ * lookup indexes. Implementations are immutable and safe for concurrent reads.
+ *
+ * The built-in implementation holds everything on the heap; a memory-mapped
+ * {@code PortfolioCatalog} decodes entries from disk as they are read.
+ */
+public interface PortfolioIndex {
+
+    List<Skill> skills();
+
+    List<Project> projects();
+
+    List<Experience> experiences();
+
+    /**
+     * @param id the project identifier
+     * @return the project, or empty if no project has that id
+     */
+    Optional<Project> findProjectById(String id);
+
+    /**
+     * @param type the project type, already {@link #normalize normalized}
+     * @return matching projects in catalog order, or an empty list
+     */
+    List<Project> findProjectsByType(String type);
+
+    /**
+     * @param technology the technology name, already {@link #normalize normalized}
+     * @return matching projects in catalog order, or an empty list
+     */
+    List<Project> findProjectsByTechnology(String technology);
+
+    /**
+     * Returns the projects using all or any of the given technologies.
+     * Unknown technologies match no project.
+     *
+     * @param technologies technology names, already {@link #normalize normalized}
+     * @return matching projects in catalog order, or an empty list
+     */
+    List<Project> findProjectsByTechnologies(List<String> technologies, TechnologyMatch match);
+
+    /**
+     * @return matching experiences in catalog order, or an empty list
+     */
+    List<Experience> findExperiencesByType(ExperienceType type);
+
+    /**
+     * Number of distinct project types.
+     */
+    int typeCount();
+
+    /**
+     * Number of distinct technologies across all projects.
+     */
+    int technologyCount();
+
+    /**
+     * Normalizes a type or technology key for case-insensitive matching.
+     */
+    static String normalize(String key) {
+        return key == null ? "" : key.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,167 @@
+package com.niiamatey.portfolio.repository;
+
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Experience.ExperienceType;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory, read-only repository over the portfolio data.
+ *
+ * Holds the current {@link PortfolioSnapshot} in an atomic reference. New
+ * data is validated and indexed off to the side and then published with a
+ * single reference swap, so readers never take a lock and never observe a
+ * half-loaded state. Callers that read several collections for one response
+ * should take a single {@link #snapshot()} and read from it.
+ *
+ * Starts out with the data beans from {@code PortfolioDataConfig} as version 1.
+ * Data from an external location or a binary catalog is published over it
+ * during startup, and {@link PortfolioChanges} from the admin import are
+ * applied on top of whichever data is current.
+ */
+@Slf4j
+@Repository
+public class PortfolioRepository {
+
+    private final AtomicReference<PortfolioSnapshot> current;
+
+    public PortfolioRepository(List<Skill> skills, List<Project> projects, List<Experience> experiences) {
+        PortfolioSnapshot initial = new PortfolioSnapshot(1, skills, projects, experiences);
+        this.current = new AtomicReference<>(initial);
+        log.info("Loaded portfolio data {}", initial);
+    }
+
+    /**
+     * Returns the current immutable snapshot of all portfolio data.
+     */
+    public PortfolioSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Returns the version of the current snapshot.
+     */
+    public long version() {
+        return current.get().getVersion();
+    }
+
+    /**
+     * Validates and indexes the given data and publishes it as the next version.
+     *
+     * @return the newly published snapshot
+     * @throws IllegalArgumentException if the data is invalid; the current snapshot is kept
+     */
+    public PortfolioSnapshot publish(List<Skill> skills, List<Project> projects, List<Experience> experiences) {
+        return publish(new HeapPortfolioIndex(skills, projects, experiences));
+    }
+
+    /**
+     * Publishes already indexed data, such as a memory-mapped catalog, as the next version.
+     *
+     * @return the newly published snapshot
+     */
+    public PortfolioSnapshot publish(PortfolioIndex index) {
+        // Retry on a concurrent publish so every snapshot gets a unique, increasing version
+        while (true) {
+            PortfolioSnapshot previous = current.get();
+            PortfolioSnapshot next = new PortfolioSnapshot(previous.getVersion() + 1, index);
+            if (current.compareAndSet(previous, next)) {
+                log.info("Published portfolio data {}", next);
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Applies a batch of upserts and deletes to the current data and
+     * publishes the result as the next version. Only the indexes of the
+     * changed entries are updated; everything else is shared with the
+     * current snapshot, which stays in service until the swap. A memory-mapped
+     * catalog is copied to the heap first. If another version is published
+     * meanwhile, the batch is applied again on top of it, so neither change
+     * is lost.
+     *
+     * @return the newly published snapshot
+     */
+    public PortfolioSnapshot apply(PortfolioChanges changes) {
+        while (true) {
+            PortfolioSnapshot previous = current.get();
+            PortfolioIndex index = HeapPortfolioIndex.of(previous.index()).apply(changes);
+            PortfolioSnapshot next = new PortfolioSnapshot(previous.getVersion() + 1, index);
+            if (current.compareAndSet(previous, next)) {
+                log.info("Published portfolio data {} with {} changes", next, changes.size());
+                return next;
+            }
+        }
+    }
+
+    public List<Skill> findAllSkills() {
+        return snapshot().getSkills();
+    }
+
+    public List<Project> findAllProjects() {
+        return snapshot().getProjects();
+    }
+
+    public List<Experience> findAllExperiences() {
+        return snapshot().getExperiences();
+    }
+
+    /**
+     * Looks up a project by its unique identifier.
+     *
+     * @param id the project identifier
+     * @return the project, or empty if no project has that id
+     */
+    public Optional<Project> findProjectById(String id) {
+        return snapshot().findProjectById(id);
+    }
+
+    /**
+     * Returns all projects of the given type (e.g. "Microservice").
+     *
+     * @param type the project type, matched case-insensitively
+     * @return matching projects in catalog order, or an empty list
+     */
+    public List<Project> findProjectsByType(String type) {
+        return snapshot().findProjectsByType(type);
+    }
+
+    /**
+     * Returns all projects that use the given technology (e.g. "Spring Boot").
+     *
+     * @param technology the technology name, matched case-insensitively
+     * @return matching projects in catalog order, or an empty list
+     */
+    public List<Project> findProjectsByTechnology(String technology) {
+        return snapshot().findProjectsByTechnology(technology);
+    }
+
+    /**
+     * Returns projects matching both the given type and technology.
+     * Either filter may be {@code null} to leave it unconstrained.
+     *
+     * @param type the project type, or {@code null}
+     * @param technology the technology name, or {@code null}
+     * @return matching projects in catalog order, or an empty list
+     */
+    public List<Project> findProjects(String type, String technology) {
+        return snapshot().findProjects(type, technology);
+    }
+
+    /**
+     * Returns all experiences of the given type.
+     *
+     * @param type WORK, EDUCATION or OTHER
+     * @return matching experiences in catalog order, or an empty list
+     */
+    public List<Experience> findExperiencesByType(ExperienceType type) {
+        return snapshot().findExperiencesByType(type);
+    }
+}
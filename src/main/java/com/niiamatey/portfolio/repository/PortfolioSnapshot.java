@@ -0,0 +1,174 @@
+package com.niiamatey.portfolio.repository;
+
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Experience.ExperienceType;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.niiamatey.portfolio.repository.PortfolioIndex.normalize;
+
+/**
+ * Immutable, versioned view of all portfolio data and its lookup indexes.
+ *
+ * Lookups by id, project type, technology and experience type go to a
+ * {@link PortfolioIndex}: immutable hash indexes built once on the heap when
+ * the snapshot is created from lists, or the on-disk indexes of a
+ * memory-mapped catalog. Either way they are constant-time regardless of how
+ * many entries the catalog holds. Type and technology keys are matched
+ * case-insensitively.
+ *
+ * A snapshot never changes after construction; new data is published as
+ * a new snapshot with a higher {@link #getVersion() version}, which caches
+ * use as their key.
+ */
+public final class PortfolioSnapshot {
+
+    private final long version;
+    private final PortfolioIndex index;
+
+    /**
+     * Copies the given data and builds its indexes on the heap.
+     *
+     * @throws IllegalArgumentException if the data is invalid (e.g. missing or duplicate project ids)
+     */
+    public PortfolioSnapshot(long version, List<Skill> skills, List<Project> projects, List<Experience> experiences) {
+        this(version, new HeapPortfolioIndex(skills, projects, experiences));
+    }
+
+    /**
+     * Wraps already indexed data, such as a memory-mapped catalog.
+     */
+    public PortfolioSnapshot(long version, PortfolioIndex index) {
+        this.version = version;
+        this.index = index;
+    }
+
+    /**
+     * Monotonically increasing data version; higher versions are newer.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Storage and indexes behind this snapshot.
+     */
+    PortfolioIndex index() {
+        return index;
+    }
+
+    public List<Skill> getSkills() {
+        return index.skills();
+    }
+
+    public List<Project> getProjects() {
+        return index.projects();
+    }
+
+    public List<Experience> getExperiences() {
+        return index.experiences();
+    }
+
+    /**
+     * Looks up a project by its unique identifier.
+     *
+     * @param id the project identifier
+     * @return the project, or empty if no project has that id
+     */
+    public Optional<Project> findProjectById(String id) {
+        return index.findProjectById(id);
+    }
+
+    /**
+     * Returns all projects of the given type (e.g. "Microservice").
+     *
+     * @param type the project type, matched case-insensitively
+     * @return matching projects in catalog order, or an empty list
+     */
+    public List<Project> findProjectsByType(String type) {
+        return index.findProjectsByType(normalize(type));
+    }
+
+    /**
+     * Returns all projects that use the given technology (e.g. "Spring Boot").
+     *
+     * @param technology the technology name, matched case-insensitively
+     * @return matching projects in catalog order, or an empty list
+     */
+    public List<Project> findProjectsByTechnology(String technology) {
+        return index.findProjectsByTechnology(normalize(technology));
+    }
+
+    /**
+     * Returns projects matching both the given type and technology.
+     * Either filter may be {@code null} to leave it unconstrained.
+     *
+     * @param type the project type, or {@code null}
+     * @param technology the technology name, or {@code null}
+     * @return matching projects in catalog order, or an empty list
+     */
+    public List<Project> findProjects(String type, String technology) {
+        if (type == null) {
+            return technology == null ? getProjects() : findProjectsByTechnology(technology);
+        }
+        List<Project> byType = findProjectsByType(type);
+        if (technology == null || byType.isEmpty()) {
+            return byType;
+        }
+        String tech = normalize(technology);
+        return byType.stream()
+                .filter(p -> p.getTechnologies() != null
+                        && p.getTechnologies().stream().anyMatch(t -> normalize(t).equals(tech)))
+                .toList();
+    }
+
+    /**
+     * Returns projects of the given type that use all or any of the given
+     * technologies (e.g. "Java" and "Spring Boot"). The technology filter is
+     * evaluated as a bitwise AND or OR over per-technology project sets, so
+     * its cost does not depend on how many technologies each project lists.
+     *
+     * @param type the project type, or {@code null}
+     * @param technologies technology names matched case-insensitively; an
+     *                     empty list leaves the technology unconstrained
+     * @param match whether a project needs all or any of the technologies
+     * @return matching projects in catalog order, or an empty list
+     */
+    public List<Project> findProjects(String type, List<String> technologies, TechnologyMatch match) {
+        if (technologies.isEmpty()) {
+            return findProjects(type, null);
+        }
+        List<String> keys = technologies.stream().map(PortfolioIndex::normalize).distinct().toList();
+        List<Project> byTechnology = index.findProjectsByTechnologies(keys, match);
+        if (type == null || byTechnology.isEmpty()) {
+            return byTechnology;
+        }
+        String projectType = normalize(type);
+        return byTechnology.stream()
+                .filter(p -> normalize(p.getType()).equals(projectType))
+                .toList();
+    }
+
+    /**
+     * Returns all experiences of the given type.
+     *
+     * @param type WORK, EDUCATION or OTHER
+     * @return matching experiences in catalog order, or an empty list
+     */
+    public List<Experience> findExperiencesByType(ExperienceType type) {
+        return index.findExperiencesByType(type);
+    }
+
+    /**
+     * Summary used in log messages.
+     */
+    @Override
+    public String toString() {
+        return "v" + version + " (" + getProjects().size() + " projects, " + index.typeCount() + " types, "
+                + index.technologyCount() + " technologies, " + getSkills().size() + " skills, "
+                + getExperiences().size() + " experiences)";
+    }
+}
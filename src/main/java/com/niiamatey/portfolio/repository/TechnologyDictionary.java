@@ -0,0 +1,201 @@
+package com.niiamatey.portfolio.repository;
+
+import com.niiamatey.portfolio.model.Project;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.niiamatey.portfolio.repository.PortfolioIndex.normalize;
+
+/**
+ * Dictionary encoding of project technologies.
+ *
+ * Each distinct technology, matched case-insensitively, gets a dense int id,
+ * and the projects using it are one {@link BitSet} over catalog positions.
+ * A filter on several technologies is then a bitwise AND or OR of a few
+ * bitsets of {@code projects / 64} words each, instead of comparing strings
+ * project by project. The bitsets are kept per technology rather than per
+ * project, so a query touches only the technologies it names.
+ *
+ * A dictionary is immutable once built. {@link #edit()} derives the next one
+ * for a batch of changed projects, copying only the bitsets of the
+ * technologies those projects use or used to use; all others are shared.
+ */
+final class TechnologyDictionary {
+
+    private final Map<String, Integer> ids;
+    private final BitSet[] projects;
+    private final int size;
+
+    TechnologyDictionary(List<Project> projects) {
+        Map<String, Integer> ids = new HashMap<>();
+        Map<Integer, BitSet> sets = new HashMap<>();
+        for (int i = 0; i < projects.size(); i++) {
+            List<String> technologies = projects.get(i).getTechnologies();
+            if (technologies == null) {
+                continue;
+            }
+            for (String technology : technologies) {
+                int id = ids.computeIfAbsent(normalize(technology), k -> ids.size());
+                sets.computeIfAbsent(id, k -> new BitSet(projects.size())).set(i);
+            }
+        }
+        this.ids = Map.copyOf(ids);
+        this.projects = new BitSet[ids.size()];
+        sets.forEach((id, set) -> this.projects[id] = set);
+        this.size = ids.size();
+    }
+
+    private TechnologyDictionary(Map<String, Integer> ids, BitSet[] projects) {
+        this.ids = ids;
+        this.projects = projects;
+        int size = 0;
+        for (BitSet set : projects) {
+            if (!set.isEmpty()) {
+                size++;
+            }
+        }
+        this.size = size;
+    }
+
+    /**
+     * Number of distinct technologies used by at least one project.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the id of a technology, or -1 if no project in this dictionary
+     * or any it was {@linkplain #edit() edited} from ever used it. A
+     * technology whose last project was removed keeps its id, and its
+     * {@linkplain #projects(int) project set} is then empty.
+     *
+     * @param technology the technology name, already normalized
+     */
+    int id(String technology) {
+        Integer id = ids.get(technology);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the positions of the projects using the given technology. The
+     * returned set is shared and must not be modified.
+     */
+    BitSet projects(int id) {
+        return projects[id];
+    }
+
+    /**
+     * Combines the project sets of the given technologies. Unknown
+     * technologies match nothing: they empty an {@link TechnologyMatch#ALL ALL}
+     * filter and are skipped by an {@link TechnologyMatch#ANY ANY} filter.
+     *
+     * @param technologies normalized technology names
+     * @return positions of the matching projects
+     */
+    BitSet match(List<String> technologies, TechnologyMatch match) {
+        BitSet result = null;
+        for (String technology : technologies) {
+            int id = id(technology);
+            if (id < 0) {
+                if (match == TechnologyMatch.ALL) {
+                    return new BitSet();
+                }
+                continue;
+            }
+            if (result == null) {
+                result = (BitSet) projects[id].clone();
+            } else if (match == TechnologyMatch.ALL) {
+                result.and(projects[id]);
+            } else {
+                result.or(projects[id]);
+            }
+        }
+        return result == null ? new BitSet() : result;
+    }
+
+    /**
+     * Starts the next dictionary from this one.
+     */
+    Editor edit() {
+        return new Editor();
+    }
+
+    /**
+     * Changes to a copy of a dictionary. Ids are never reassigned: a
+     * technology no project uses any more keeps its id with an empty set.
+     */
+    final class Editor {
+        private Map<String, Integer> ids = TechnologyDictionary.this.ids;
+        private BitSet[] projects = TechnologyDictionary.this.projects.clone();
+        private final BitSet copied = new BitSet(projects.length);
+
+        /**
+         * Marks the project at the given position as using the technologies.
+         */
+        void add(int position, List<String> technologies) {
+            if (technologies == null) {
+                return;
+            }
+            for (String technology : technologies) {
+                String key = normalize(technology);
+                Integer id = ids.get(key);
+                if (id == null) {
+                    id = newId(key);
+                }
+                writable(id).set(position);
+            }
+        }
+
+        /**
+         * Clears the project at the given position from the technologies.
+         */
+        void remove(int position, List<String> technologies) {
+            if (technologies == null) {
+                return;
+            }
+            for (String technology : technologies) {
+                Integer id = ids.get(normalize(technology));
+                if (id != null) {
+                    writable(id).clear(position);
+                }
+            }
+        }
+
+        TechnologyDictionary build() {
+            if (ids == TechnologyDictionary.this.ids) {
+                return new TechnologyDictionary(ids, projects);
+            }
+            return new TechnologyDictionary(Map.copyOf(ids), Arrays.copyOf(projects, ids.size()));
+        }
+
+        private int newId(String key) {
+            if (ids == TechnologyDictionary.this.ids) {
+                ids = new HashMap<>(ids);
+            }
+            int id = ids.size();
+            ids.put(key, id);
+            if (id == projects.length) {
+                projects = Arrays.copyOf(projects, Math.max(8, id * 2));
+            }
+            projects[id] = new BitSet();
+            copied.set(id);
+            return id;
+        }
+
+        /**
+         * Returns the set of the given technology, copying a shared one first.
+         */
+        private BitSet writable(int id) {
+            if (!copied.get(id)) {
+                projects[id] = (BitSet) projects[id].clone();
+                copied.set(id);
+            }
+            return projects[id];
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.niiamatey.portfolio.repository;
+
+/**
+ * How a multi-technology project filter combines its technologies.
+ */
+public enum TechnologyMatch {
+
+    /**
+     * Projects using every listed technology
+     */
+    ALL,
+
+    /**
+     * Projects using at least one of the listed technologies
+     */
+    ANY
+}
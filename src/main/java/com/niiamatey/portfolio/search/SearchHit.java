@@ -0,0 +1,32 @@
+package com.niiamatey.portfolio.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A single ranked search result.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class SearchHit {
+
+    /**
+     * Kind of entry matched: "project", "skill" or "experience"
+     */
+    private final String type;
+
+    /**
+     * Display title of the entry (project title, skill category or experience title)
+     */
+    private final String title;
+
+    /**
+     * Relevance score; higher is better
+     */
+    private final float score;
+
+    /**
+     * The matched project, skill or experience
+     */
+    private final Object item;
+}
@@ -0,0 +1,353 @@
+package com.niiamatey.portfolio.search;
+
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable inverted index over projects, skills and experiences.
+ *
+ * Ranking uses BM25F: per-field term frequencies are length-normalized,
+ * weighted by a field boost and combined before saturation. Since none of
+ * that depends on the query, each posting stores its final score. A query
+ * merges the doc-sorted postings of its terms, summing scores per document,
+ * and keeps the best results in a bounded heap, so it allocates only a few
+ * small arrays regardless of catalog size.
+ */
+public final class SearchIndex {
+
+    /**
+     * Maximum number of hits a single query may return.
+     */
+    public static final int MAX_LIMIT = 50;
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+
+    /**
+     * Indexed fields and their score boosts.
+     */
+    enum Field {
+        PROJECT_TITLE(3.0f),
+        PROJECT_TECHNOLOGIES(2.0f),
+        PROJECT_DESCRIPTION(1.0f),
+        PROJECT_HIGHLIGHTS(1.0f),
+        SKILL_CATEGORY(1.5f),
+        SKILL_TECHNOLOGIES(2.0f),
+        EXPERIENCE_TITLE(3.0f),
+        EXPERIENCE_ORGANIZATION(2.0f),
+        EXPERIENCE_DESCRIPTION(1.0f);
+
+        final float boost;
+
+        Field(float boost) {
+            this.boost = boost;
+        }
+    }
+
+    private final String[] types;
+    private final String[] titles;
+    private final Object[] items;
+    private final Map<String, Postings> postings;
+
+    private SearchIndex(String[] types, String[] titles, Object[] items, Map<String, Postings> postings) {
+        this.types = types;
+        this.titles = titles;
+        this.items = items;
+        this.postings = postings;
+    }
+
+    /**
+     * Builds an index over the given portfolio data.
+     */
+    public static SearchIndex build(List<Skill> skills, List<Project> projects, List<Experience> experiences) {
+        Builder builder = new Builder();
+        for (Project project : projects) {
+            Map<Field, List<String>> fields = new HashMap<>();
+            fields.put(Field.PROJECT_TITLE, TextAnalyzer.analyze(project.getTitle()));
+            fields.put(Field.PROJECT_TECHNOLOGIES, analyzeAll(project.getTechnologies()));
+            fields.put(Field.PROJECT_DESCRIPTION, TextAnalyzer.analyze(project.getDescription()));
+            fields.put(Field.PROJECT_HIGHLIGHTS, analyzeAll(project.getHighlights()));
+            builder.add("project", project.getTitle(), project, fields);
+        }
+        for (Skill skill : skills) {
+            Map<Field, List<String>> fields = new HashMap<>();
+            fields.put(Field.SKILL_CATEGORY, TextAnalyzer.analyze(skill.getCategory()));
+            fields.put(Field.SKILL_TECHNOLOGIES, analyzeAll(skill.getTechnologies()));
+            builder.add("skill", skill.getCategory(), skill, fields);
+        }
+        for (Experience experience : experiences) {
+            Map<Field, List<String>> fields = new HashMap<>();
+            fields.put(Field.EXPERIENCE_TITLE, TextAnalyzer.analyze(experience.getTitle()));
+            fields.put(Field.EXPERIENCE_ORGANIZATION, TextAnalyzer.analyze(experience.getOrganization()));
+            fields.put(Field.EXPERIENCE_DESCRIPTION, TextAnalyzer.analyze(experience.getDescription()));
+            builder.add("experience", experience.getTitle(), experience, fields);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Number of indexed documents.
+     */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * Number of distinct terms in the index.
+     */
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * Runs a free-text query and returns the best matches.
+     *
+     * @param query free text; all terms are optional and scores are summed
+     * @param limit maximum number of hits to return
+     * @return hits ordered by descending score
+     */
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Postings[] lists = new Postings[terms.size()];
+        int count = 0;
+        for (String term : terms) {
+            Postings p = postings.get(term);
+            if (p != null) {
+                lists[count++] = p;
+            }
+        }
+        if (count == 0) {
+            return List.of();
+        }
+
+        // Document-at-a-time merge of the doc-sorted postings lists
+        TopHits top = new TopHits(Math.min(limit, MAX_LIMIT));
+        int[] cursors = new int[count];
+        while (true) {
+            int doc = Integer.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                if (cursors[i] < lists[i].docs.length) {
+                    doc = Math.min(doc, lists[i].docs[cursors[i]]);
+                }
+            }
+            if (doc == Integer.MAX_VALUE) {
+                break;
+            }
+            float score = 0f;
+            for (int i = 0; i < count; i++) {
+                if (cursors[i] < lists[i].docs.length && lists[i].docs[cursors[i]] == doc) {
+                    score += lists[i].scores[cursors[i]++];
+                }
+            }
+            top.offer(doc, score);
+        }
+        return top.drain(this);
+    }
+
+    private static List<String> analyzeAll(List<String> values) {
+        List<String> terms = new ArrayList<>();
+        if (values != null) {
+            for (String value : values) {
+                terms.addAll(TextAnalyzer.analyze(value));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Postings list for a term: document ids in ascending order and the
+     * precomputed BM25F score of the term in each document.
+     */
+    private static final class Postings {
+        final int[] docs;
+        final float[] scores;
+
+        Postings(int[] docs, float[] scores) {
+            this.docs = docs;
+            this.scores = scores;
+        }
+    }
+
+    /**
+     * Bounded min-heap of the best hits seen so far; the root is the worst.
+     */
+    private static final class TopHits {
+        final int[] docs;
+        final float[] scores;
+        int size;
+
+        TopHits(int capacity) {
+            docs = new int[capacity];
+            scores = new float[capacity];
+        }
+
+        void offer(int doc, float score) {
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (better(score, doc, scores[0], docs[0])) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0, size);
+            }
+        }
+
+        List<SearchHit> drain(SearchIndex index) {
+            SearchHit[] hits = new SearchHit[size];
+            for (int i = size - 1; i >= 0; i--) {
+                int doc = docs[0];
+                hits[i] = new SearchHit(index.types[doc], index.titles[doc], scores[0], index.items[doc]);
+                docs[0] = docs[i];
+                scores[0] = scores[i];
+                siftDown(0, i);
+            }
+            size = 0;
+            return Arrays.asList(hits);
+        }
+
+        /**
+         * Orders by score, then by catalog position so results are deterministic.
+         */
+        private static boolean better(float score, int doc, float otherScore, int otherDoc) {
+            return score > otherScore || (score == otherScore && doc < otherDoc);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(scores[parent], docs[parent], scores[i], docs[i])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i, int size) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int worst = left;
+                int right = left + 1;
+                if (right < size && better(scores[left], docs[left], scores[right], docs[right])) {
+                    worst = right;
+                }
+                if (!better(scores[i], docs[i], scores[worst], docs[worst])) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int doc = docs[a];
+            docs[a] = docs[b];
+            docs[b] = doc;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+    }
+
+    /**
+     * Collects analyzed documents and computes BM25F posting scores.
+     */
+    private static final class Builder {
+        private final List<String> types = new ArrayList<>();
+        private final List<String> titles = new ArrayList<>();
+        private final List<Object> items = new ArrayList<>();
+        private final List<Map<Field, List<String>>> documents = new ArrayList<>();
+
+        void add(String type, String title, Object item, Map<Field, List<String>> fields) {
+            types.add(type);
+            titles.add(title);
+            items.add(item);
+            documents.add(fields);
+        }
+
+        SearchIndex build() {
+            int n = documents.size();
+
+            // Average length of each field across the documents that have it
+            float[] averageLength = new float[Field.values().length];
+            int[] fieldCount = new int[Field.values().length];
+            for (Map<Field, List<String>> doc : documents) {
+                doc.forEach((field, terms) -> {
+                    averageLength[field.ordinal()] += terms.size();
+                    fieldCount[field.ordinal()]++;
+                });
+            }
+            for (int f = 0; f < averageLength.length; f++) {
+                averageLength[f] = fieldCount[f] == 0 ? 1f : Math.max(1f, averageLength[f] / fieldCount[f]);
+            }
+
+            // Boosted, length-normalized pseudo term frequency per (term, doc)
+            Map<String, PostingsBuilder> weights = new HashMap<>();
+            for (int doc = 0; doc < n; doc++) {
+                Map<String, Float> tf = new HashMap<>();
+                for (Map.Entry<Field, List<String>> entry : documents.get(doc).entrySet()) {
+                    Field field = entry.getKey();
+                    List<String> terms = entry.getValue();
+                    float norm = 1 - B + B * terms.size() / averageLength[field.ordinal()];
+                    for (String term : terms) {
+                        tf.merge(term, field.boost / norm, Float::sum);
+                    }
+                }
+                for (Map.Entry<String, Float> entry : tf.entrySet()) {
+                    weights.computeIfAbsent(entry.getKey(), t -> new PostingsBuilder())
+                            .add(doc, entry.getValue());
+                }
+            }
+
+            Map<String, Postings> postings = new HashMap<>(weights.size() * 2);
+            weights.forEach((term, entries) -> {
+                int df = entries.size;
+                float idf = (float) Math.log(1 + (n - df + 0.5) / (df + 0.5));
+                float[] scores = new float[df];
+                for (int i = 0; i < df; i++) {
+                    float tf = entries.weights[i];
+                    scores[i] = idf * tf * (K1 + 1) / (tf + K1);
+                }
+                postings.put(term, new Postings(Arrays.copyOf(entries.docs, df), scores));
+            });
+
+            return new SearchIndex(types.toArray(new String[0]), titles.toArray(new String[0]),
+                    items.toArray(), Map.copyOf(postings));
+        }
+    }
+
+    /**
+     * Growable postings list used while building; documents arrive in ascending order.
+     */
+    private static final class PostingsBuilder {
+        int[] docs = new int[4];
+        float[] weights = new float[4];
+        int size;
+
+        void add(int doc, float weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size++] = weight;
+        }
+    }
+}
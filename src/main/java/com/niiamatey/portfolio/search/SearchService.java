@@ -0,0 +1,147 @@
+package com.niiamatey.portfolio.search;
+
+import com.niiamatey.portfolio.config.ApiProperties;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.repository.PortfolioSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Full-text search over the portfolio content.
+ *
+ * The inverted index is built once per portfolio data version from the
+ * current {@link PortfolioSnapshot} and shared by all queries until a newer
+ * snapshot is published. Only the very first search builds it on the request
+ * thread. After a publish, searches keep using the previous index without
+ * waiting while a single background thread builds the next one, so results
+ * lag a publish by the time of one build.
+ *
+ * The index holds every document and its postings on the heap, which would
+ * undo the point of a memory-mapped catalog. Search is therefore refused with
+ * 404 once the data has more than {@code portfolio.api.search-max-documents}
+ * documents.
+ */
+@Slf4j
+@Service
+public class SearchService implements DisposableBean {
+
+    private final PortfolioRepository repository;
+    private final int maxDocuments;
+    private final Executor rebuilds;
+    private final AtomicReference<VersionedIndex> index = new AtomicReference<>();
+
+    /**
+     * Highest data version a build has been started for
+     */
+    private final AtomicLong building = new AtomicLong(-1);
+
+    @Autowired
+    public SearchService(PortfolioRepository repository, ApiProperties properties) {
+        this(repository, properties.getSearchMaxDocuments(), Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "search-index");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    SearchService(PortfolioRepository repository, int maxDocuments, Executor rebuilds) {
+        this.repository = repository;
+        this.maxDocuments = maxDocuments;
+        this.rebuilds = rebuilds;
+    }
+
+    /**
+     * Searches projects, skills and experiences.
+     *
+     * @param query free-text query
+     * @param limit maximum number of hits, capped at {@link SearchIndex#MAX_LIMIT}
+     * @return ranked hits, best first
+     * @throws ResponseStatusException 404 when the data is too large to index
+     */
+    public List<SearchHit> search(String query, int limit) {
+        return index().search(query, limit);
+    }
+
+    @Override
+    public void destroy() {
+        if (rebuilds instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private SearchIndex index() {
+        PortfolioSnapshot snapshot = repository.snapshot();
+        if (!indexable(snapshot)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Search is disabled for data with more than " + maxDocuments + " documents");
+        }
+        VersionedIndex current = index.get();
+        if (current == null) {
+            synchronized (this) {
+                current = index.get();
+                if (current == null) {
+                    current = install(build(snapshot));
+                }
+            }
+        }
+        if (current.version < snapshot.getVersion()) {
+            scheduleBuild(snapshot.getVersion());
+        }
+        return current.index;
+    }
+
+    private void scheduleBuild(long version) {
+        long started = building.get();
+        if (started >= version || !building.compareAndSet(started, version)) {
+            return;
+        }
+        try {
+            rebuilds.execute(() -> {
+                PortfolioSnapshot snapshot = repository.snapshot();
+                if (index.get().version < snapshot.getVersion() && indexable(snapshot)) {
+                    install(build(snapshot));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+        }
+    }
+
+    private boolean indexable(PortfolioSnapshot snapshot) {
+        return (long) snapshot.getSkills().size() + snapshot.getProjects().size() + snapshot.getExperiences().size()
+                <= maxDocuments;
+    }
+
+    private VersionedIndex build(PortfolioSnapshot snapshot) {
+        long start = System.nanoTime();
+        VersionedIndex built = new VersionedIndex(snapshot.getVersion(), SearchIndex.build(
+                snapshot.getSkills(), snapshot.getProjects(), snapshot.getExperiences()));
+        log.info("Built search index v{}: {} documents, {} terms in {} ms", built.version,
+                built.index.size(), built.index.termCount(), (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    private VersionedIndex install(VersionedIndex built) {
+        return index.accumulateAndGet(built, (current, next) ->
+                current == null || current.version < next.version ? next : current);
+    }
+
+    @RequiredArgsConstructor
+    private static final class VersionedIndex {
+        private final long version;
+        private final SearchIndex index;
+    }
+}
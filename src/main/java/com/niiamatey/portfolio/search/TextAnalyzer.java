@@ -0,0 +1,93 @@
+package com.niiamatey.portfolio.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenizes and stems text for the search index.
+ *
+ * Text is split on anything that is not a letter or digit, lower-cased,
+ * filtered against a small stop-word list and reduced with a light English
+ * suffix stemmer, so "APIs", "deploying" and "deployed" match "api" and "deploy".
+ */
+final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into",
+            "is", "it", "of", "on", "or", "the", "to", "with");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Splits the given text into normalized, stemmed terms.
+     *
+     * @param text text to analyze; {@code null} yields no terms
+     * @return terms in order of appearance (may contain duplicates)
+     */
+    static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerm(terms, text.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String token) {
+        String lower = token.toLowerCase(Locale.ROOT);
+        if (!STOP_WORDS.contains(lower)) {
+            terms.add(stem(lower));
+        }
+    }
+
+    /**
+     * Light suffix-stripping stemmer handling plurals, -ing and -ed forms.
+     */
+    static String stem(String term) {
+        int length = term.length();
+        if (length > 4 && term.endsWith("ies")) {
+            return term.substring(0, length - 3) + "y";
+        }
+        if (term.endsWith("sses")) {
+            return term.substring(0, length - 2);
+        }
+        // Keeps "redis", "analysis" and "status" intact, but still maps "apis" to "api"
+        if (length > 3 && term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us")
+                && (length <= 4 || !term.endsWith("is"))) {
+            return term.substring(0, length - 1);
+        }
+        if (length > 5 && term.endsWith("ing")) {
+            return undouble(term.substring(0, length - 3));
+        }
+        if (length > 4 && term.endsWith("ed")) {
+            return undouble(term.substring(0, length - 2));
+        }
+        return term;
+    }
+
+    /**
+     * Collapses a doubled trailing consonant left by suffix removal ("runn" to "run").
+     */
+    private static String undouble(String stem) {
+        int length = stem.length();
+        if (length > 2 && stem.charAt(length - 1) == stem.charAt(length - 2)
+                && "lsz".indexOf(stem.charAt(length - 1)) < 0
+                && "aeiou".indexOf(stem.charAt(length - 1)) < 0) {
+            return stem.substring(0, length - 1);
+        }
+        return stem;
+    }
+}
@@ -0,0 +1,68 @@
+package com.niiamatey.portfolio.service;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Wire encodings of the REST API. JSON is the default; CBOR is a compact
+ * binary encoding of the same document for service-to-service clients that
+ * ask for it explicitly.
+ */
+public enum ApiEncoding {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    ApiEncoding(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Picks the encoding for an Accept header. The acceptable type with the
+     * highest quality wins, and an explicit type beats a wildcard of equal
+     * quality. CBOR is only chosen when named explicitly, so browsers and
+     * generic clients sending {@code *}{@code /*} keep getting JSON.
+     *
+     * @param accept Accept header value, or {@code null}
+     */
+    public static ApiEncoding negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        ApiEncoding best = JSON;
+        double bestQuality = -1;
+        boolean bestExplicit = false;
+        for (MediaType mediaType : accepted) {
+            ApiEncoding candidate;
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                candidate = CBOR;
+            } else if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                candidate = JSON;
+            } else {
+                continue;
+            }
+            double quality = mediaType.getQualityValue();
+            boolean explicit = !mediaType.isWildcardType() && !mediaType.isWildcardSubtype();
+            if (quality > bestQuality || (quality == bestQuality && explicit && !bestExplicit)) {
+                best = candidate;
+                bestQuality = quality;
+                bestExplicit = explicit;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,142 @@
+package com.niiamatey.portfolio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics.CacheMetrics;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics.RouteMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of pre-serialized response bodies for the REST API.
+ *
+ * Each response body is serialized exactly once per portfolio data version
+ * and then served from an immutable byte array. Entries are keyed on the
+ * data version, so publishing a new snapshot makes every older entry stale;
+ * they are replaced on next access and pruned once a newer version is seen.
+ * JSON and CBOR are cached side by side. Responses with a sparse fieldset
+ * are cached the same way when their {@link FieldProjection} is marked
+ * preserialized, and written with the projection's compiled writer otherwise.
+ */
+@Slf4j
+@Component
+public class ApiResponseCache {
+
+    private final FieldProjections writers;
+    private final CacheMetrics cacheMetrics;
+
+    private final ConcurrentMap<String, SerializedResponse> entries = new ConcurrentHashMap<>();
+
+    private volatile long latestVersion;
+
+    public ApiResponseCache(FieldProjections writers, PortfolioMetrics metrics) {
+        this.writers = writers;
+        this.cacheMetrics = metrics.cache("api");
+    }
+
+    /**
+     * Returns the cached JSON response for the given key and data version,
+     * serializing the body supplied by {@code bodySupplier} on a miss.
+     * Concurrent misses for the same key are serialized only once.
+     *
+     * @param route metrics of the route the response is for; serialization time is recorded there
+     * @param version data version the body was read from
+     * @param key cache key identifying the response (e.g. "portfolio")
+     * @param bodySupplier produces the object to serialize on a cache miss
+     * @return the serialized response with its ETag
+     */
+    public SerializedResponse get(RouteMetrics route, long version, String key, Supplier<?> bodySupplier) {
+        return get(route, version, key, ApiEncoding.JSON, null, bodySupplier);
+    }
+
+    /**
+     * Returns the response for the given key and data version in the given
+     * encoding and field projection. Each encoding is cached separately.
+     *
+     * @param encoding wire encoding of the response
+     * @param projection sparse fieldset to apply, or {@code null} for all fields
+     * @see #get(RouteMetrics, long, String, Supplier)
+     */
+    public SerializedResponse get(RouteMetrics route, long version, String key, ApiEncoding encoding,
+                                  FieldProjection projection, Supplier<?> bodySupplier) {
+        if (projection != null) {
+            if (!projection.isPreserialized()) {
+                return serialize(route, encoding, projection, bodySupplier.get());
+            }
+            key = key + "?fields=" + projection.getKey();
+        }
+        if (encoding != ApiEncoding.JSON) {
+            key = key + "#" + encoding;
+        }
+        SerializedResponse cached = entries.get(key);
+        if (cached != null && cached.getVersion() == version) {
+            cacheMetrics.hit();
+            return cached;
+        }
+        cacheMetrics.miss();
+        if (version > latestVersion) {
+            pruneBefore(version);
+        }
+
+        SerializedResponse entry = entries.compute(key, (k, old) -> old == null || old.getVersion() < version
+                ? serialize(route, version, k, encoding, projection, bodySupplier.get()) : old);
+        if (entry.getVersion() != version) {
+            // A request still reading an older snapshot; serve it without caching
+            return serialize(route, version, key, encoding, projection, bodySupplier.get());
+        }
+        return entry;
+    }
+
+    /**
+     * Serializes a JSON response that is not worth caching.
+     *
+     * @param route metrics of the route the response is for
+     * @param body the object to serialize
+     * @return the serialized response with its ETag
+     */
+    public SerializedResponse serialize(RouteMetrics route, Object body) {
+        return serialize(route, ApiEncoding.JSON, null, body);
+    }
+
+    /**
+     * Serializes a response that is not worth caching, such as search results
+     * or a page, in the given encoding and field projection.
+     *
+     * @param projection sparse fieldset to apply, or {@code null} for all fields
+     */
+    public SerializedResponse serialize(RouteMetrics route, ApiEncoding encoding, FieldProjection projection,
+                                        Object body) {
+        return new SerializedResponse(0, encoding, toBytes(route, "uncached", encoding, projection, body));
+    }
+
+    private synchronized void pruneBefore(long version) {
+        if (version > latestVersion) {
+            latestVersion = version;
+            entries.values().removeIf(entry -> entry.getVersion() < version);
+        }
+    }
+
+    private SerializedResponse serialize(RouteMetrics route, long version, String key, ApiEncoding encoding,
+                                         FieldProjection projection, Object body) {
+        SerializedResponse response = new SerializedResponse(version, encoding,
+                toBytes(route, key, encoding, projection, body));
+        log.debug("Serialized API response '{}' v{} ({} bytes)", key, version, response.getBody().length);
+        return response;
+    }
+
+    private byte[] toBytes(RouteMetrics route, String key, ApiEncoding encoding, FieldProjection projection,
+                           Object body) {
+        try {
+            long start = System.nanoTime();
+            byte[] bytes = writers.writer(projection, encoding).writeValueAsBytes(body);
+            route.recordSerialize(System.nanoTime() - start);
+            return bytes;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize API response: " + key, e);
+        }
+    }
+}
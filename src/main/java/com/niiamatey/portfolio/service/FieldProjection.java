@@ -0,0 +1,53 @@
+package com.niiamatey.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A sparse fieldset ({@code ?fields=id,title}) compiled into Jackson
+ * {@link ObjectWriter}s, one per {@link ApiEncoding}, that write only those
+ * properties of each project, skill and experience. Instances are created
+ * and cached by {@link FieldProjections}.
+ */
+@Getter
+public final class FieldProjection {
+
+    /**
+     * Canonical form of the fieldset: names sorted and comma separated
+     */
+    private final String key;
+
+    /**
+     * Property names to include
+     */
+    private final Set<String> fields;
+
+    /**
+     * Writers including only {@link #fields}; immutable and shared between requests
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<ApiEncoding, ObjectWriter> writers;
+
+    /**
+     * Whether responses with this projection are cached per data version
+     */
+    private final boolean preserialized;
+
+    FieldProjection(String key, Set<String> fields, Map<ApiEncoding, ObjectWriter> writers, boolean preserialized) {
+        this.key = key;
+        this.fields = fields;
+        this.writers = writers;
+        this.preserialized = preserialized;
+    }
+
+    /**
+     * Returns the writer for the given encoding.
+     */
+    public ObjectWriter getWriter(ApiEncoding encoding) {
+        return writers.get(encoding);
+    }
+}
@@ -0,0 +1,190 @@
+package com.niiamatey.portfolio.service;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Parses, validates and caches the sparse fieldsets requested with
+ * {@code ?fields=} on the REST API, and provides the writer for each
+ * fieldset and {@link ApiEncoding}.
+ *
+ * Each distinct fieldset is compiled once into an {@link ObjectWriter} per
+ * encoding, over copies of the JSON and CBOR mappers in which projects, skills and experiences
+ * carry a property filter. Jackson caches the bean serializers behind that
+ * writer, so a projected response costs a set lookup per property rather than
+ * reflection or an intermediate map.
+ *
+ * Fields are validated before anything is compiled, and projections are
+ * cached by their canonical key, so invalid fields and reordered or padded
+ * variants of the same fieldset never take a cache entry. At most
+ * {@value #MAX_CACHED} fieldsets are kept, evicting the least recently used;
+ * access is serialized on the cache, a hash lookup next to the serialization
+ * it saves.
+ */
+public class FieldProjections {
+
+    static final int MAX_CACHED = 256;
+
+    private static final String FILTER_ID = "fields";
+
+    private final Map<ApiEncoding, ObjectWriter> writers = new EnumMap<>(ApiEncoding.class);
+    private final Map<ApiEncoding, ObjectMapper> projectingMappers = new EnumMap<>(ApiEncoding.class);
+    private final Set<String> preserialized;
+    private final Map<Class<?>, Set<String>> properties = new ConcurrentHashMap<>();
+    // Guarded by itself
+    private final LinkedHashMap<String, FieldProjection> projections = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, FieldProjection> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+
+    /**
+     * @param jsonMapper the application's JSON mapper
+     * @param cborMapper a CBOR mapper configured like the JSON one
+     * @param preserializedProjections fieldsets whose responses are cached per data version
+     */
+    public FieldProjections(ObjectMapper jsonMapper, ObjectMapper cborMapper,
+                            Collection<String> preserializedProjections) {
+        register(ApiEncoding.JSON, jsonMapper);
+        register(ApiEncoding.CBOR, cborMapper);
+        this.preserialized = preserializedProjections.stream()
+                .map(fields -> canonical(split(fields)))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private void register(ApiEncoding encoding, ObjectMapper mapper) {
+        writers.put(encoding, mapper.writer());
+        projectingMappers.put(encoding, mapper.copy()
+                .addMixIn(Project.class, FieldFilterMixin.class)
+                .addMixIn(Skill.class, FieldFilterMixin.class)
+                .addMixIn(Experience.class, FieldFilterMixin.class));
+    }
+
+    /**
+     * Resolves the {@code fields} request parameter for an endpoint returning the given item types.
+     *
+     * @param fields comma-separated property names, or {@code null} for all properties
+     * @param types model classes the fields must belong to; a field is valid if any type has it
+     * @return the compiled projection, or {@code null} when all properties are requested
+     * @throws ResponseStatusException 400 if a field does not exist on any of the types
+     */
+    public FieldProjection resolve(String fields, Class<?>... types) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> names = split(fields);
+        if (names.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fields must name at least one property");
+        }
+        validate(names, types);
+        String key = canonical(names);
+        FieldProjection projection;
+        synchronized (projections) {
+            projection = projections.get(key);
+        }
+        if (projection == null) {
+            FieldProjection compiled = compile(key, names);
+            synchronized (projections) {
+                projection = projections.putIfAbsent(key, compiled);
+            }
+            if (projection == null) {
+                projection = compiled;
+            }
+        }
+        return projection;
+    }
+
+    /**
+     * Returns the writer for a projection and encoding, or the plain writer
+     * for the encoding when the projection is {@code null}.
+     */
+    public ObjectWriter writer(FieldProjection projection, ApiEncoding encoding) {
+        return projection == null ? writers.get(encoding) : projection.getWriter(encoding);
+    }
+
+    /**
+     * Number of compiled projections currently cached.
+     */
+    int cached() {
+        synchronized (projections) {
+            return projections.size();
+        }
+    }
+
+    private FieldProjection compile(String key, Set<String> names) {
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names));
+        Map<ApiEncoding, ObjectWriter> projected = new EnumMap<>(ApiEncoding.class);
+        projectingMappers.forEach((encoding, mapper) -> projected.put(encoding, mapper.writer(filters)));
+        return new FieldProjection(key, Set.copyOf(names), projected, preserialized.contains(key));
+    }
+
+    private void validate(Set<String> fields, Class<?>... types) {
+        for (String field : fields) {
+            boolean known = false;
+            for (Class<?> type : types) {
+                if (propertiesOf(type).contains(field)) {
+                    known = true;
+                    break;
+                }
+            }
+            if (!known) {
+                Set<String> allowed = new TreeSet<>();
+                for (Class<?> type : types) {
+                    allowed.addAll(propertiesOf(type));
+                }
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unknown field '" + field + "'; allowed fields are " + String.join(",", allowed));
+            }
+        }
+    }
+
+    private Set<String> propertiesOf(Class<?> type) {
+        return properties.computeIfAbsent(type, t -> {
+            ObjectMapper mapper = projectingMappers.get(ApiEncoding.JSON);
+            BeanDescription description = mapper.getSerializationConfig().introspect(mapper.constructType(t));
+            return description.findProperties().stream()
+                    .map(BeanPropertyDefinition::getName)
+                    .collect(Collectors.toUnmodifiableSet());
+        });
+    }
+
+    private static Set<String> split(String fields) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        return names;
+    }
+
+    private static String canonical(Set<String> names) {
+        return String.join(",", new TreeSet<>(names));
+    }
+
+    @JsonFilter(FILTER_ID)
+    private static final class FieldFilterMixin {
+    }
+}
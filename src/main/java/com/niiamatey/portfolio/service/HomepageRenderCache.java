@@ -0,0 +1,105 @@
+package com.niiamatey.portfolio.service;
+
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics.CacheMetrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Render cache for the static sections of the homepage.
+ *
+ * The hero text, skills grid, project cards and experience timeline only
+ * depend on portfolio data, so they are rendered once from
+ * {@code fragments/sections.html} and embedded into {@code index.html} as
+ * pre-rendered markup. Only the per-request parts of the page (contact form,
+ * validation errors, flash messages) are rendered live.
+ * Rendered sections are keyed on the portfolio data version and re-rendered
+ * when a newer snapshot is published. Only installing a newer version takes
+ * the lock; requests still reading an older snapshot render outside it.
+ */
+@Slf4j
+@Component
+public class HomepageRenderCache {
+
+    static final String SECTIONS_TEMPLATE = "fragments/sections";
+
+    private final ITemplateEngine templateEngine;
+    private final CacheMetrics cacheMetrics;
+
+    private volatile RenderedSections sections;
+
+    public HomepageRenderCache(ITemplateEngine templateEngine, PortfolioMetrics metrics) {
+        this.templateEngine = templateEngine;
+        this.cacheMetrics = metrics.cache("sections");
+    }
+
+    /**
+     * Returns the pre-rendered homepage sections for the given data version,
+     * rendering them on first use.
+     *
+     * @param version data version the variables were read from
+     * @param variables portfolio data and personal information used by the sections;
+     *                  must not contain per-request state
+     * @return the rendered sections
+     */
+    public RenderedSections get(long version, Map<String, Object> variables) {
+        RenderedSections current = sections;
+        if (current != null && current.getVersion() == version) {
+            cacheMetrics.hit();
+            return current;
+        }
+        cacheMetrics.miss();
+        if (current == null || current.getVersion() < version) {
+            synchronized (this) {
+                current = sections;
+                if (current == null || current.getVersion() < version) {
+                    current = render(version, variables);
+                    sections = current;
+                }
+            }
+        }
+        if (current.getVersion() > version) {
+            // A request still reading an older snapshot; render it without caching or locking
+            return render(version, variables);
+        }
+        return current;
+    }
+
+    RenderedSections render(long version, Map<String, Object> variables) {
+        long start = System.nanoTime();
+        Context context = new Context();
+        context.setVariables(variables);
+        RenderedSections rendered = new RenderedSections(
+                version,
+                renderFragment("hero", context),
+                renderFragment("skills", context),
+                renderFragment("projects", context),
+                renderFragment("experience", context));
+        log.debug("Rendered homepage sections in {} us", (System.nanoTime() - start) / 1_000);
+        return rendered;
+    }
+
+    private String renderFragment(String fragment, Context context) {
+        return templateEngine.process(SECTIONS_TEMPLATE, Set.of(fragment), context);
+    }
+
+    /**
+     * Pre-rendered markup for each static homepage section.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class RenderedSections {
+        private final long version;
+        private final String hero;
+        private final String skills;
+        private final String projects;
+        private final String experience;
+    }
+}
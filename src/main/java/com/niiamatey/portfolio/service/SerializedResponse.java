@@ -0,0 +1,46 @@
+package com.niiamatey.portfolio.service;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+/**
+ * An immutable, pre-serialized API response body together with its encoding
+ * and strong ETag.
+ *
+ * The body array is shared between requests and must never be modified
+ * by callers; it is written to the response as-is.
+ */
+@Getter
+public final class SerializedResponse {
+
+    /**
+     * Portfolio data version the body was serialized from
+     */
+    private final long version;
+
+    /**
+     * Wire encoding of {@link #body}
+     */
+    private final ApiEncoding encoding;
+
+    /**
+     * Serialized response bytes
+     */
+    private final byte[] body;
+
+    /**
+     * Strong entity tag derived from the body content (quoted)
+     */
+    private final String etag;
+
+    public SerializedResponse(long version, byte[] body) {
+        this(version, ApiEncoding.JSON, body);
+    }
+
+    public SerializedResponse(long version, ApiEncoding encoding, byte[] body) {
+        this.version = version;
+        this.encoding = encoding;
+        this.body = body;
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+}
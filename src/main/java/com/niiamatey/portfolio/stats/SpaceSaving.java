@@ -0,0 +1,106 @@
+package com.niiamatey.portfolio.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving sketch of the most frequent keys in a stream, in fixed memory.
+ *
+ * Up to {@code capacity} keys are counted. A key that is not counted when
+ * the sketch is full takes over the counter with the lowest count, inheriting
+ * that count as its possible overestimate. Every key whose true count exceeds
+ * the total divided by the capacity is guaranteed to be in the sketch, and
+ * each reported count is at most its {@linkplain Counter#error() error} above
+ * the true count.
+ *
+ * Keys are added with a weight, so counts aggregated elsewhere can be folded
+ * in as batches. Not thread-safe: it is meant to be fed by a single thread.
+ */
+public class SpaceSaving {
+
+    private static final Comparator<Counter> BY_COUNT = Comparator.comparingLong(Counter::count)
+            .thenComparing(Counter::key);
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(BY_COUNT);
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Adds occurrences of a key.
+     *
+     * @param weight number of occurrences, positive
+     */
+    public void add(String key, long weight) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            byCount.remove(counter);
+            counter = new Counter(key, counter.count + weight, counter.error);
+        } else if (counters.size() < capacity) {
+            counter = new Counter(key, weight, 0);
+        } else {
+            Counter evicted = byCount.pollFirst();
+            counters.remove(evicted.key);
+            counter = new Counter(key, evicted.count + weight, evicted.count);
+        }
+        counters.put(key, counter);
+        byCount.add(counter);
+    }
+
+    /**
+     * Restores a counter saved from {@link #top}; ignored once the sketch is full.
+     */
+    public void restore(Counter counter) {
+        if (counters.size() < capacity && !counters.containsKey(counter.key)) {
+            counters.put(counter.key, counter);
+            byCount.add(counter);
+        }
+    }
+
+    /**
+     * Returns the highest counts, highest first.
+     *
+     * @param limit most counters to return
+     */
+    public List<Counter> top(int limit) {
+        List<Counter> top = new ArrayList<>(Math.min(limit, counters.size()));
+        Iterator<Counter> descending = byCount.descendingIterator();
+        while (top.size() < limit && descending.hasNext()) {
+            top.add(descending.next());
+        }
+        return top;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    public void clear() {
+        counters.clear();
+        byCount.clear();
+    }
+
+    /**
+     * A counted key.
+     *
+     * @param count occurrences counted, at most {@code error} above the true count
+     * @param error count inherited from the key evicted for this one
+     */
+    public record Counter(String key, long count, long error) {
+    }
+}
@@ -0,0 +1,299 @@
+package com.niiamatey.portfolio.stats;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Views of projects and pages, and unique visitors per day, in fixed memory.
+ *
+ * Recording is all that happens on the request path: a view is a
+ * {@link LongAdder} increment, whose cells spread concurrent increments
+ * instead of contending on one value, and a visitor raises a register of the
+ * day's {@link HyperLogLog} with a compare-and-set. Neither takes a lock. The
+ * exception is the first view of a project, which inserts its counter with
+ * {@link ConcurrentHashMap#computeIfAbsent} and so briefly locks one bin of
+ * the map; projects beyond {@code maxProjects} are not counted.
+ *
+ * Today's most viewed projects are kept in a {@link SpaceSaving} sketch of
+ * fixed size, so a large catalog does not need a second counter per project
+ * and day. It is fed off the request path by {@link #fold()}, which adds the
+ * views each counter gained since the previous fold; views are attributed to
+ * the (UTC) day they are folded in. Visitor sketches are kept for the last
+ * {@code days} days.
+ */
+public class ViewStats {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final Map<String, LongAdder> projectViews = new ConcurrentHashMap<>();
+    private final int maxProjects;
+    private final LongAdder untracked = new LongAdder();
+    private final Map<String, LongAdder> pageViews;
+    private final AtomicReferenceArray<DailyVisitors> visitors;
+    private final Clock clock;
+
+    // Guarded by this
+    private final SpaceSaving today;
+    private long todayEpochDay;
+    private final Map<String, Long> folded = new HashMap<>();
+
+    /**
+     * @param pages paths of the pages whose views are counted
+     * @param maxProjects most projects with a view counter
+     * @param topK projects tracked in today's ranking
+     * @param days days of unique visitor estimates kept
+     */
+    public ViewStats(List<String> pages, int maxProjects, int topK, int days) {
+        this(pages, maxProjects, topK, days, Clock.systemUTC());
+    }
+
+    ViewStats(List<String> pages, int maxProjects, int topK, int days, Clock clock) {
+        if (days < 1) {
+            throw new IllegalArgumentException("days must be positive: " + days);
+        }
+        Map<String, LongAdder> counters = new LinkedHashMap<>();
+        pages.forEach(page -> counters.put(page, new LongAdder()));
+        this.pageViews = Map.copyOf(counters);
+        this.maxProjects = maxProjects;
+        this.today = new SpaceSaving(topK);
+        this.visitors = new AtomicReferenceArray<>(days);
+        this.clock = clock;
+        this.todayEpochDay = epochDay();
+    }
+
+    /**
+     * Counts a view of a project.
+     */
+    public void recordProjectView(String id) {
+        LongAdder views = projectViews.get(id);
+        if (views == null) {
+            if (projectViews.size() >= maxProjects) {
+                untracked.increment();
+                return;
+            }
+            views = projectViews.computeIfAbsent(id, k -> new LongAdder());
+        }
+        views.increment();
+    }
+
+    /**
+     * Counts a view of a page.
+     *
+     * @return whether the page is one whose views are counted
+     */
+    public boolean recordPageView(String path) {
+        LongAdder views = pageViews.get(path);
+        if (views == null) {
+            return false;
+        }
+        views.increment();
+        return true;
+    }
+
+    /**
+     * Adds a visitor to today's unique visitors.
+     *
+     * @param visitor anything identifying the visitor, e.g. address and user agent; only its hash is kept
+     */
+    public void recordVisitor(String visitor) {
+        long day = epochDay();
+        int slot = (int) Math.floorMod(day, (long) visitors.length());
+        DailyVisitors current = visitors.get(slot);
+        while (current == null || current.epochDay < day) {
+            DailyVisitors next = new DailyVisitors(day, new HyperLogLog());
+            if (visitors.compareAndSet(slot, current, next)) {
+                current = next;
+                break;
+            }
+            current = visitors.get(slot);
+        }
+        if (current.epochDay == day) {
+            current.sketch.add(HyperLogLog.hash(visitor));
+        }
+    }
+
+    /**
+     * Views of a project since counting started.
+     */
+    public long projectViews(String id) {
+        LongAdder views = projectViews.get(id);
+        return views == null ? 0 : views.sum();
+    }
+
+    /**
+     * Views of projects that were not counted because {@code maxProjects} was reached.
+     */
+    public long untrackedViews() {
+        return untracked.sum();
+    }
+
+    /**
+     * Views of each counted page since counting started.
+     */
+    public Map<String, Long> pageViews() {
+        Map<String, Long> views = new LinkedHashMap<>();
+        pageViews.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(page -> views.put(page.getKey(), page.getValue().sum()));
+        return views;
+    }
+
+    /**
+     * Estimated unique visitors of each kept day, most recent first.
+     */
+    public Map<LocalDate, Long> uniqueVisitors() {
+        long day = epochDay();
+        Map<LocalDate, Long> estimates = new LinkedHashMap<>();
+        for (long d = day; d > day - visitors.length(); d--) {
+            DailyVisitors daily = visitors.get((int) Math.floorMod(d, (long) visitors.length()));
+            if (daily != null && daily.epochDay == d) {
+                estimates.put(LocalDate.ofEpochDay(d), daily.sketch.estimate());
+            }
+        }
+        return estimates;
+    }
+
+    public LocalDate today() {
+        return LocalDate.ofEpochDay(epochDay());
+    }
+
+    /**
+     * Today's most viewed projects, as of a fold done by this call.
+     *
+     * @param limit most projects to return
+     * @return counters by project id, highest first; counts may overestimate by their error
+     */
+    public synchronized List<SpaceSaving.Counter> popularToday(int limit) {
+        fold();
+        return today.top(limit);
+    }
+
+    /**
+     * The most viewed projects since counting started. Counts are exact, so
+     * every error is zero.
+     *
+     * @param limit most projects to return
+     * @return counters by project id, highest first
+     */
+    public List<SpaceSaving.Counter> popularAllTime(int limit) {
+        Comparator<SpaceSaving.Counter> byCount = Comparator.comparingLong(SpaceSaving.Counter::count)
+                .thenComparing(SpaceSaving.Counter::key, Comparator.reverseOrder());
+        PriorityQueue<SpaceSaving.Counter> top = new PriorityQueue<>(byCount);
+        projectViews.forEach((id, views) -> {
+            top.add(new SpaceSaving.Counter(id, views.sum(), 0));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+        List<SpaceSaving.Counter> sorted = new ArrayList<>(top);
+        sorted.sort(byCount.reversed());
+        return sorted;
+    }
+
+    /**
+     * Adds the views counted since the previous fold to today's ranking,
+     * starting a new ranking when the day has changed.
+     */
+    public synchronized void fold() {
+        long day = epochDay();
+        if (day != todayEpochDay) {
+            today.clear();
+            todayEpochDay = day;
+        }
+        projectViews.forEach((id, views) -> {
+            long total = views.sum();
+            Long previous = folded.put(id, total);
+            long gained = total - (previous == null ? 0 : previous);
+            if (gained > 0) {
+                today.add(id, gained);
+            }
+        });
+    }
+
+    /**
+     * Drops the counters of projects that no longer exist, so they do not
+     * hold places under {@code maxProjects}.
+     */
+    public synchronized void retainProjects(Predicate<String> exists) {
+        projectViews.keySet().removeIf(id -> {
+            if (exists.test(id)) {
+                return false;
+            }
+            folded.remove(id);
+            return true;
+        });
+    }
+
+    /**
+     * Folds and returns everything counted, to be saved and {@linkplain #restore restored}.
+     */
+    public synchronized ViewStatsState export() {
+        fold();
+        Map<String, Long> projects = new HashMap<>();
+        folded.forEach(projects::put);
+        List<ViewStatsState.Visitors> days = new ArrayList<>();
+        for (int i = 0; i < visitors.length(); i++) {
+            DailyVisitors daily = visitors.get(i);
+            if (daily != null) {
+                days.add(new ViewStatsState.Visitors(LocalDate.ofEpochDay(daily.epochDay), daily.sketch.toBytes()));
+            }
+        }
+        return new ViewStatsState(projects, pageViews(), LocalDate.ofEpochDay(todayEpochDay),
+                today.top(today.capacity()), days);
+    }
+
+    /**
+     * Adds saved counts to the current ones. Meant to be called once at
+     * startup; a saved ranking or visitor estimate of an earlier day than the
+     * current one is only kept if it is still within range.
+     */
+    public synchronized void restore(ViewStatsState state) {
+        if (state.projectViews() != null) {
+            state.projectViews().forEach((id, views) -> {
+                if (projectViews.size() < maxProjects || projectViews.containsKey(id)) {
+                    projectViews.computeIfAbsent(id, k -> new LongAdder()).add(views);
+                    folded.merge(id, views, Long::sum);
+                }
+            });
+        }
+        if (state.pageViews() != null) {
+            state.pageViews().forEach((page, views) -> {
+                LongAdder counter = pageViews.get(page);
+                if (counter != null) {
+                    counter.add(views);
+                }
+            });
+        }
+        if (state.popularToday() != null && state.today() != null && state.today().toEpochDay() == todayEpochDay) {
+            state.popularToday().forEach(today::restore);
+        }
+        if (state.uniqueVisitors() != null) {
+            long day = epochDay();
+            for (ViewStatsState.Visitors saved : state.uniqueVisitors()) {
+                long savedDay = saved.date().toEpochDay();
+                if (savedDay <= day && savedDay > day - visitors.length()) {
+                    int slot = (int) Math.floorMod(savedDay, (long) visitors.length());
+                    visitors.set(slot, new DailyVisitors(savedDay, HyperLogLog.fromBytes(saved.registers())));
+                }
+            }
+        }
+    }
+
+    private long epochDay() {
+        return Math.floorDiv(clock.millis(), MILLIS_PER_DAY);
+    }
+
+    private record DailyVisitors(long epochDay, HyperLogLog sketch) {
+    }
+}
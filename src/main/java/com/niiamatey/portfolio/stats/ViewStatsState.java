@@ -0,0 +1,24 @@
+package com.niiamatey.portfolio.stats;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything {@link ViewStats} has counted, as saved to disk between restarts.
+ *
+ * @param projectViews views by project id
+ * @param pageViews views by page path
+ * @param today day of the {@code popularToday} ranking
+ * @param popularToday the counters of today's ranking
+ * @param uniqueVisitors the visitor sketch of each kept day
+ */
+public record ViewStatsState(Map<String, Long> projectViews, Map<String, Long> pageViews, LocalDate today,
+                             List<SpaceSaving.Counter> popularToday, List<Visitors> uniqueVisitors) {
+
+    /**
+     * @param registers the {@link HyperLogLog} registers of the day
+     */
+    public record Visitors(LocalDate date, byte[] registers) {
+    }
+}
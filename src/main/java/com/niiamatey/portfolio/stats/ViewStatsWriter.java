@@ -0,0 +1,102 @@
+package com.niiamatey.portfolio.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Restores {@link ViewStats} from a file at startup and periodically folds
+ * and saves them on a background thread, and once more at shutdown.
+ *
+ * Each save writes a temporary file and moves it over the previous one, so
+ * a crash mid-write leaves the last complete save in place. Counters of
+ * projects that no longer exist are dropped before saving. Without a file
+ * the statistics are still folded on schedule but start over on restart.
+ */
+@Slf4j
+public class ViewStatsWriter implements InitializingBean, DisposableBean {
+
+    private final ViewStats stats;
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final Duration interval;
+    private final Predicate<String> projectExists;
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * @param file where the statistics are saved, or {@code null} to keep them in memory only
+     * @param projectExists whether a project id is still in the catalog
+     */
+    public ViewStatsWriter(ViewStats stats, ObjectMapper objectMapper, Path file, Duration interval,
+                           Predicate<String> projectExists) {
+        this.stats = stats;
+        this.objectMapper = objectMapper;
+        this.file = file;
+        this.interval = interval;
+        this.projectExists = projectExists;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (file != null && Files.isRegularFile(file)) {
+            try {
+                stats.restore(objectMapper.readValue(file.toFile(), ViewStatsState.class));
+                log.info("Restored view statistics from {}", file);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Could not restore view statistics from {}, starting over: {}", file, e.toString());
+            }
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "view-stats-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flush, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        flush();
+    }
+
+    /**
+     * Folds the statistics and saves them if there is a file.
+     */
+    void flush() {
+        try {
+            stats.retainProjects(projectExists);
+            if (file == null) {
+                stats.fold();
+                return;
+            }
+            ViewStatsState state = stats.export();
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                objectMapper.writeValue(temp.toFile(), state);
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Keep the schedule running; the next flush writes everything again
+            log.warn("Could not save view statistics to {}: {}", file, e.toString());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.niiamatey.portfolio.stats;
+
+import com.niiamatey.portfolio.ratelimit.RateLimitFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Counts successful views of pages and of {@code GET /api/v1/projects/{id}}
+ * in {@link ViewStats}, and page visitors by address and user agent.
+ *
+ * Runs as a filter in front of the response micro-cache rather than in the
+ * controllers, so views served from the cache are counted too. Only GET
+ * requests answered with 200 or 304 count: unknown projects, rate-limited
+ * and shed requests do not.
+ */
+public class ViewTrackingFilter extends OncePerRequestFilter {
+
+    private static final String PROJECT_PATH = "/api/v1/projects/";
+
+    private final ViewStats stats;
+    private final int trustedProxies;
+
+    public ViewTrackingFilter(ViewStats stats, int trustedProxies) {
+        this.stats = stats;
+        this.trustedProxies = trustedProxies;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+        int status = response.getStatus();
+        if (!"GET".equals(request.getMethod())
+                || (status != HttpServletResponse.SC_OK && status != HttpServletResponse.SC_NOT_MODIFIED)) {
+            return;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (stats.recordPageView(path)) {
+            stats.recordVisitor(RateLimitFilter.clientAddress(request, trustedProxies) + ' '
+                    + request.getHeader(HttpHeaders.USER_AGENT));
+        } else if (path.startsWith(PROJECT_PATH) && path.length() > PROJECT_PATH.length()
+                && path.indexOf('/', PROJECT_PATH.length()) < 0) {
+            String id = path.substring(PROJECT_PATH.length());
+            stats.recordProjectView(id.indexOf('%') < 0 ? id : UriUtils.decode(id, StandardCharsets.UTF_8));
+        }
+    }
+}
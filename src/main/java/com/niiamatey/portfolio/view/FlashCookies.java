@@ -0,0 +1,151 @@
+package com.niiamatey.portfolio.view;
+
+import com.niiamatey.portfolio.config.FlashProperties;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Flash messages carried in a short-lived, HMAC-signed cookie, so a
+ * POST-redirect-GET needs no HTTP session and any instance can serve the
+ * redirected request.
+ *
+ * The cookie holds {@code <message>.<expiry>.<signature>}: the
+ * {@link FlashMessage} name, the expiry in epoch seconds and an HMAC-SHA256
+ * of both, Base64url-encoded. It is HttpOnly and SameSite=Lax, and is
+ * cleared by the request that reads it. Cookies that are expired, altered or
+ * signed with another key are cleared without showing anything.
+ */
+@Slf4j
+public class FlashCookies {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
+    private final String cookieName;
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public FlashCookies(FlashProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    FlashCookies(FlashProperties properties, Clock clock) {
+        this.cookieName = properties.getCookieName();
+        this.key = new SecretKeySpec(secret(properties.getSecret()), ALGORITHM);
+        this.ttl = properties.getTtl();
+        this.clock = clock;
+    }
+
+    /**
+     * Name of the flash cookie.
+     */
+    public String cookieName() {
+        return cookieName;
+    }
+
+    /**
+     * Sets the message to show on the next page the client requests.
+     */
+    public void set(HttpServletRequest request, HttpServletResponse response, FlashMessage message) {
+        String payload = message.name() + "." + (clock.instant().getEpochSecond() + ttl.toSeconds());
+        addCookie(request, response, payload + "." + sign(payload), ttl);
+    }
+
+    /**
+     * Reads the message set by the previous response, if any, and clears it.
+     *
+     * @return the message, if the cookie is present, unexpired and correctly signed
+     */
+    public Optional<FlashMessage> take(HttpServletRequest request, HttpServletResponse response) {
+        String value = cookieValue(request);
+        if (value == null) {
+            return Optional.empty();
+        }
+        addCookie(request, response, "", Duration.ZERO);
+        return verify(value);
+    }
+
+    private Optional<FlashMessage> verify(String value) {
+        int signature = value.lastIndexOf('.');
+        int expiry = signature < 0 ? -1 : value.lastIndexOf('.', signature - 1);
+        if (expiry < 0) {
+            return Optional.empty();
+        }
+        String payload = value.substring(0, signature);
+        byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, value.substring(signature + 1).getBytes(StandardCharsets.US_ASCII))) {
+            log.debug("Ignoring flash cookie with an invalid signature");
+            return Optional.empty();
+        }
+        try {
+            if (Long.parseLong(value.substring(expiry + 1, signature)) < clock.instant().getEpochSecond()) {
+                return Optional.empty();
+            }
+            return Optional.of(FlashMessage.valueOf(value.substring(0, expiry)));
+        } catch (IllegalArgumentException e) {
+            // Signed by this key but not a message this version knows
+            return Optional.empty();
+        }
+    }
+
+    private String cookieValue(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void addCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, value)
+                .path("/")
+                .maxAge(maxAge)
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private String sign(String payload) {
+        try {
+            // Mac instances are not thread-safe; one per call is cheap next to a form submission
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return BASE64.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign flash cookie", e);
+        }
+    }
+
+    private static byte[] secret(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("portfolio.flash.secret is not set; flash messages only show on the instance that set them");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
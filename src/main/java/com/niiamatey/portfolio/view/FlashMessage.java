@@ -0,0 +1,33 @@
+package com.niiamatey.portfolio.view;
+
+/**
+ * Messages shown once on the page a form submission redirects to. Only the
+ * constant's name travels in the {@link FlashCookies flash cookie}; the text
+ * is always the server's own.
+ */
+public enum FlashMessage {
+
+    CONTACT_SENT("successMessage", "Thank you for your message! I'll get back to you soon."),
+
+    CONTACT_REJECTED("errorMessage",
+            "Sorry, I'm receiving a lot of messages right now. Please try again in a few minutes.");
+
+    private final String attribute;
+    private final String text;
+
+    FlashMessage(String attribute, String text) {
+        this.attribute = attribute;
+        this.text = text;
+    }
+
+    /**
+     * Model attribute the template shows the message from.
+     */
+    public String attribute() {
+        return attribute;
+    }
+
+    public String text() {
+        return text;
+    }
+}
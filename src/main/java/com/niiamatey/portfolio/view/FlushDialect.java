@@ -0,0 +1,74 @@
+package com.niiamatey.portfolio.view;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.thymeleaf.context.ITemplateContext;
+import org.thymeleaf.context.IWebContext;
+import org.thymeleaf.dialect.AbstractProcessorDialect;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import org.thymeleaf.model.IProcessableElementTag;
+import org.thymeleaf.processor.IProcessor;
+import org.thymeleaf.processor.element.AbstractElementTagProcessor;
+import org.thymeleaf.processor.element.IElementTagStructureHandler;
+import org.thymeleaf.standard.StandardDialect;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.web.servlet.IServletWebExchange;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Thymeleaf dialect adding a {@code <portfolio:flush/>} element that sends
+ * everything rendered so far to the client.
+ *
+ * Thymeleaf writes straight to the response while it processes a template,
+ * but the container holds the output in its response buffer until the page
+ * is done or the buffer fills. A flush point after the document head lets
+ * the browser start fetching stylesheets and fonts while the rest of the
+ * page is still rendering; further flush points send each section as it
+ * completes. The element itself renders nothing, and with streaming
+ * disabled it is simply removed.
+ *
+ * Once the first chunk is sent the status and headers are committed, so a
+ * failure later in the template can no longer turn into an error page.
+ */
+public class FlushDialect extends AbstractProcessorDialect {
+
+    public static final String PREFIX = "portfolio";
+
+    private final boolean streaming;
+
+    public FlushDialect(boolean streaming) {
+        super("Portfolio flush", PREFIX, StandardDialect.PROCESSOR_PRECEDENCE);
+        this.streaming = streaming;
+    }
+
+    @Override
+    public Set<IProcessor> getProcessors(String dialectPrefix) {
+        return Set.of(new FlushProcessor(dialectPrefix, streaming));
+    }
+
+    private static final class FlushProcessor extends AbstractElementTagProcessor {
+
+        private final boolean streaming;
+
+        FlushProcessor(String dialectPrefix, boolean streaming) {
+            super(TemplateMode.HTML, dialectPrefix, "flush", true, null, false, StandardDialect.PROCESSOR_PRECEDENCE);
+            this.streaming = streaming;
+        }
+
+        @Override
+        protected void doProcess(ITemplateContext context, IProcessableElementTag tag,
+                                 IElementTagStructureHandler structureHandler) {
+            structureHandler.removeElement();
+            if (streaming && context instanceof IWebContext web
+                    && web.getExchange() instanceof IServletWebExchange exchange
+                    && exchange.getNativeResponseObject() instanceof HttpServletResponse response) {
+                try {
+                    response.flushBuffer();
+                } catch (IOException e) {
+                    throw new TemplateProcessingException("Could not flush the response", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.niiamatey.portfolio.view;
+
+import com.niiamatey.portfolio.image.ResponsiveImage;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.ServletResponseWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * {@code Link} headers announcing what the homepage needs before its markup
+ * arrives: connections to the font hosts, the stylesheet under its
+ * fingerprinted URL and the hero image with its {@code srcset}.
+ *
+ * Where the servlet container offers {@code sendEarlyHints()} (Servlet 6.1,
+ * and Tomcat versions that backported it), the same headers are first sent
+ * as a {@code 103 Early Hints} response, so the browser can start fetching
+ * while the page is rendered. Other containers just send them with the page.
+ */
+@Slf4j
+public class PreloadLinks {
+
+    /**
+     * {@code sizes} of the hero image, shared by the template and its preload hint
+     */
+    public static final String PROFILE_PHOTO_SIZES = "(max-width: 768px) 300px, 520px";
+
+    static final String STYLESHEET = "/css/styles.css";
+
+    private static final String FONT_CONNECTIONS =
+            "<https://fonts.googleapis.com>; rel=preconnect, <https://fonts.gstatic.com>; rel=preconnect; crossorigin";
+
+    /**
+     * The container's {@code sendEarlyHints()} method per response class, or {@code null}
+     */
+    private static final ClassValue<Method> EARLY_HINTS = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                return type.getMethod("sendEarlyHints");
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
+
+    private final ResourceUrlProvider resourceUrls;
+    private final boolean earlyHints;
+
+    public PreloadLinks(ResourceUrlProvider resourceUrls, boolean earlyHints) {
+        this.resourceUrls = resourceUrls;
+        this.earlyHints = earlyHints;
+    }
+
+    /**
+     * Adds the preload headers to the response and, if supported, sends them
+     * ahead of it as 103 Early Hints. Must be called before the response is committed.
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response, ResponsiveImage heroImage) {
+        String contextPath = request.getContextPath();
+        String stylesheet = resourceUrls.getForRequestUrl(request, contextPath + STYLESHEET);
+        response.addHeader(HttpHeaders.LINK, FONT_CONNECTIONS);
+        response.addHeader(HttpHeaders.LINK, "<" + (stylesheet != null ? stylesheet : contextPath + STYLESHEET)
+                + ">; rel=preload; as=style");
+        response.addHeader(HttpHeaders.LINK, imageLink(contextPath, heroImage));
+        if (earlyHints) {
+            sendEarlyHints(response);
+        }
+    }
+
+    private static String imageLink(String contextPath, ResponsiveImage image) {
+        StringBuilder link = new StringBuilder("<").append(contextPath).append(image.getSrc())
+                .append(">; rel=preload; as=image; fetchpriority=high");
+        if (!image.getSrcset().isEmpty()) {
+            link.append("; imagesrcset=\"").append(image.getSrcset()).append('"')
+                .append("; imagesizes=\"").append(PROFILE_PHOTO_SIZES).append('"');
+        }
+        return link.toString();
+    }
+
+    private static void sendEarlyHints(HttpServletResponse response) {
+        ServletResponse container = response;
+        while (container instanceof ServletResponseWrapper wrapper) {
+            container = wrapper.getResponse();
+        }
+        Method method = EARLY_HINTS.get(container.getClass());
+        if (method == null) {
+            return;
+        }
+        try {
+            method.invoke(container);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            log.debug("Could not send early hints: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.niiamatey.portfolio;
+
+import com.niiamatey.portfolio.accesslog.AccessLogWriter;
+import com.niiamatey.portfolio.repository.PortfolioDataWatcher;
+import com.niiamatey.portfolio.stats.ViewStatsWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the fast-start profile's lazy initialization still starts the
+ * beans that work in the background without anything depending on them.
+ */
+@SpringBootTest
+@ActiveProfiles("fast-start")
+class FastStartTests {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("portfolio.data.location", () -> {
+            Path data = directory.resolve("portfolio.yml");
+            try {
+                Files.writeString(data, "projects:\n  - id: alpha\n    title: Alpha\n    technologies: [Java]\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return data.toString();
+        });
+        registry.add("portfolio.assets.output-directory", () -> directory.resolve("assets").toString());
+        registry.add("portfolio.images.cache-directory", () -> directory.resolve("image-cache").toString());
+        registry.add("portfolio.contact.file", () -> directory.resolve("messages.ndjson").toString());
+        registry.add("portfolio.contact.dead-letter-file", () -> directory.resolve("dead-letter.ndjson").toString());
+        registry.add("portfolio.access-log.file", () -> directory.resolve("access.log").toString());
+        registry.add("portfolio.stats.file", () -> directory.resolve("views.json").toString());
+    }
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Test
+    @DisplayName("Background writers and the data loader are created at startup despite lazy initialization")
+    void backgroundBeansAreEager() {
+        assertThat(context.getEnvironment().getProperty("spring.main.lazy-initialization")).isEqualTo("true");
+
+        for (Class<?> type : new Class<?>[] {AccessLogWriter.class, ViewStatsWriter.class, PortfolioDataWatcher.class}) {
+            String[] names = context.getBeanNamesForType(type, false, false);
+            assertThat(names).as(type.getSimpleName()).hasSize(1);
+            assertThat(Arrays.stream(names).allMatch(context.getBeanFactory()::containsSingleton))
+                    .as(type.getSimpleName() + " instantiated").isTrue();
+        }
+    }
+}
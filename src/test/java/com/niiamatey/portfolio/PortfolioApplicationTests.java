@@ -1,23 +1,48 @@
 package com.niiamatey.portfolio;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.niiamatey.portfolio.config.ApiConfig;
+import com.niiamatey.portfolio.config.HomepageConfig;
+import com.niiamatey.portfolio.config.MetricsConfig;
+import com.niiamatey.portfolio.contact.ContactDispatcher;
 import com.niiamatey.portfolio.controller.PortfolioApiController;
 import com.niiamatey.portfolio.controller.PortfolioController;
+import com.niiamatey.portfolio.image.ImageDerivativeService;
+import com.niiamatey.portfolio.image.ResponsiveImage;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
 import com.niiamatey.portfolio.model.Experience;
 import com.niiamatey.portfolio.model.Project;
 import com.niiamatey.portfolio.model.Skill;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.search.SearchService;
+import com.niiamatey.portfolio.service.ApiResponseCache;
+import com.niiamatey.portfolio.service.HomepageRenderCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -29,13 +54,36 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * the REST API controller (JSON responses).
  */
 @WebMvcTest({PortfolioController.class, PortfolioApiController.class})
+@Import({PortfolioRepository.class, ApiResponseCache.class, HomepageRenderCache.class, SearchService.class,
+        PortfolioMetrics.class, MetricsConfig.class, ApiConfig.class, HomepageConfig.class})
 class PortfolioApplicationTests {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private ContactDispatcher contactDispatcher;
+
+    @MockBean
+    private ImageDerivativeService imageDerivativeService;
+
+    @BeforeEach
+    void acceptContactSubmissions() {
+        given(contactDispatcher.submit(any())).willReturn(true);
+        given(imageDerivativeService.image(any())).willReturn(new ResponsiveImage("/images/IMG_2361.jpeg",
+                "/images/r/0123abcd/320.jpg 320w, /images/IMG_2361.jpeg 2423w", 2423, 2302));
+    }
+
     @TestConfiguration
     static class TestConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
         
         @Bean
         public List<Skill> skills() {
@@ -94,6 +142,41 @@ class PortfolioApplicationTests {
                 .andExpect(model().attribute("name", "Nii Amatey Tagoe"));
     }
 
+    @Test
+    @DisplayName("GET / should embed the pre-rendered static sections")
+    void homePageShouldContainRenderedSections() throws Exception {
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("sections"))
+                .andExpect(content().string(containsString("<section id=\"projects\">")))
+                .andExpect(content().string(containsString("Test Project")))
+                .andExpect(content().string(containsString("Test Company")))
+                .andExpect(content().string(containsString("class=\"contact-form\"")));
+    }
+
+    @Test
+    @DisplayName("GET / should offer resized profile photos via srcset")
+    void homePageShouldEmitSrcset() throws Exception {
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "srcset=\"/images/r/0123abcd/320.jpg 320w, /images/IMG_2361.jpeg 2423w\"")))
+                .andExpect(content().string(containsString("sizes=\"(max-width: 768px) 300px, 520px\"")));
+    }
+
+    @Test
+    @DisplayName("GET / should announce the stylesheet and hero image in Link headers")
+    void homePageShouldSendPreloadLinks() throws Exception {
+        mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.LINK, hasItems(
+                        containsString("<https://fonts.gstatic.com>; rel=preconnect; crossorigin"),
+                        is("</css/styles.css>; rel=preload; as=style"),
+                        startsWith("</images/IMG_2361.jpeg>; rel=preload; as=image; fetchpriority=high; "
+                                + "imagesrcset=\"/images/r/0123abcd/320.jpg 320w"))))
+                .andExpect(content().string(not(containsString("flush"))));
+    }
+
     @Test
     @DisplayName("POST /contact with valid data should redirect with success message")
     void contactFormSubmissionShouldRedirect() throws Exception {
@@ -105,7 +188,49 @@ class PortfolioApplicationTests {
                         .param("message", "I have a job opportunity for you!"))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/#contact"))
-                .andExpect(flash().attributeExists("successMessage"));
+                .andExpect(cookie().value("portfolio_flash", startsWith("CONTACT_SENT.")))
+                .andExpect(flash().attributeCount(0));
+    }
+
+    @Test
+    @DisplayName("POST-redirect-GET should show the message once without creating a session")
+    void contactFormFlowShouldNotCreateSession() throws Exception {
+        MvcResult submitted = mockMvc.perform(post("/contact")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("name", "John Doe")
+                        .param("email", "john@example.com")
+                        .param("subject", "Job Opportunity")
+                        .param("message", "I have a job opportunity for you!"))
+                .andExpect(status().is3xxRedirection())
+                .andReturn();
+        assertThat(submitted.getRequest().getSession(false)).isNull();
+
+        MvcResult redirected = mockMvc.perform(get("/").cookie(submitted.getResponse().getCookies()))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("successMessage", containsString("Thank you")))
+                .andExpect(content().string(containsString("alert alert-success")))
+                .andExpect(cookie().maxAge("portfolio_flash", 0))
+                .andReturn();
+        assertThat(redirected.getRequest().getSession(false)).isNull();
+
+        mockMvc.perform(get("/"))
+                .andExpect(model().attributeDoesNotExist("successMessage"))
+                .andExpect(cookie().doesNotExist("portfolio_flash"));
+    }
+
+    @Test
+    @DisplayName("POST /contact when the dispatch queue is full should redirect with an error message")
+    void contactFormSubmissionWhenQueueFullShouldShowError() throws Exception {
+        given(contactDispatcher.submit(any())).willReturn(false);
+
+        mockMvc.perform(post("/contact")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("name", "John Doe")
+                        .param("email", "john@example.com")
+                        .param("subject", "Job Opportunity")
+                        .param("message", "I have a job opportunity for you!"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(cookie().value("portfolio_flash", startsWith("CONTACT_REJECTED.")));
     }
 
     @Test
@@ -122,6 +247,37 @@ class PortfolioApplicationTests {
                 .andExpect(model().hasErrors());
     }
 
+    @Test
+    @DisplayName("GET / should record fetch and render time and section cache hits")
+    void homePageShouldRecordMetrics() throws Exception {
+        mockMvc.perform(get("/")).andExpect(status().isOk());
+        double hits = sectionCacheHits();
+
+        mockMvc.perform(get("/")).andExpect(status().isOk());
+
+        assertThat(phaseCount("/", "fetch")).isGreaterThanOrEqualTo(2);
+        assertThat(phaseCount("/", "render")).isGreaterThanOrEqualTo(2);
+        assertThat(sectionCacheHits()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("POST /contact should count submissions by outcome and validation errors by field")
+    void contactFormShouldRecordMetrics() throws Exception {
+        double invalid = submissions("invalid");
+        double emailErrors = validationErrors("email");
+
+        mockMvc.perform(post("/contact")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .param("name", "John Doe")
+                        .param("email", "invalid-email")
+                        .param("subject", "Job Opportunity")
+                        .param("message", "I have a job opportunity for you!"))
+                .andExpect(status().isOk());
+
+        assertThat(submissions("invalid")).isEqualTo(invalid + 1);
+        assertThat(validationErrors("email")).isEqualTo(emailErrors + 1);
+    }
+
     // ==========================================
     // REST API Controller Tests
     // ==========================================
@@ -180,6 +336,69 @@ class PortfolioApplicationTests {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/projects?type= should filter projects by type")
+    void apiProjectsShouldFilterByType() throws Exception {
+        mockMvc.perform(get("/api/v1/projects").param("type", "test")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is("test-project")));
+
+        mockMvc.perform(get("/api/v1/projects").param("type", "Unknown")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/projects?technology= should filter projects by technology")
+    void apiProjectsShouldFilterByTechnology() throws Exception {
+        mockMvc.perform(get("/api/v1/projects").param("technology", "spring boot")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        mockMvc.perform(get("/api/v1/projects").param("type", "Test").param("technology", "Python")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/projects?tech=&mode= should match all or any of several technologies")
+    void apiProjectsShouldFilterByTechnologies() throws Exception {
+        mockMvc.perform(get("/api/v1/projects").param("tech", "java", "Spring Boot")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is("test-project")));
+
+        mockMvc.perform(get("/api/v1/projects").param("tech", "Java", "Python")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        mockMvc.perform(get("/api/v1/projects").param("tech", "Java", "Python").param("mode", "ANY")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        mockMvc.perform(get("/api/v1/projects").param("technology", "Python").param("tech", "Go")
+                        .param("mode", "any")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/projects?mode= should reject unknown match modes")
+    void apiProjectsShouldRejectUnknownMode() throws Exception {
+        mockMvc.perform(get("/api/v1/projects").param("tech", "Java", "Python").param("mode", "most")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("GET /api/v1/experiences should return experiences list")
     void apiExperiencesShouldReturnExperiencesList() throws Exception {
@@ -191,6 +410,223 @@ class PortfolioApplicationTests {
                 .andExpect(jsonPath("$[0].title", is("Software Engineer")));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/portfolio should return a strong ETag")
+    void apiPortfolioShouldReturnEtag() throws Exception {
+        mockMvc.perform(get("/api/v1/portfolio")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-f]{32}\"")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/projects with matching If-None-Match should return 304")
+    void apiProjectsWithMatchingEtagShouldReturn304() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/projects")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/projects")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/experiences?type= should filter experiences by type")
+    void apiExperiencesShouldFilterByType() throws Exception {
+        mockMvc.perform(get("/api/v1/experiences").param("type", "WORK")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        mockMvc.perform(get("/api/v1/experiences").param("type", "EDUCATION")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/projects?fields= should return only the requested properties")
+    void apiProjectsShouldApplySparseFieldset() throws Exception {
+        mockMvc.perform(get("/api/v1/projects").param("fields", "id,title,icon")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is("test-project")))
+                .andExpect(jsonPath("$[0].title", is("Test Project")))
+                .andExpect(jsonPath("$[0].icon", is("🧪")))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].technologies").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/projects/test-project").param("fields", "technologies")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.technologies", hasSize(2)))
+                .andExpect(jsonPath("$.id").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/portfolio?fields= should project nested items and keep the document keys")
+    void apiPortfolioShouldApplySparseFieldset() throws Exception {
+        mockMvc.perform(get("/api/v1/portfolio").param("fields", "title")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Nii Amatey Tagoe")))
+                .andExpect(jsonPath("$.projects[0].title", is("Test Project")))
+                .andExpect(jsonPath("$.projects[0].id").doesNotExist())
+                .andExpect(jsonPath("$.experiences[0].title", is("Software Engineer")))
+                .andExpect(jsonPath("$.experiences[0].organization").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Preserialized fieldsets should be served with a stable ETag regardless of field order")
+    void apiPreserializedFieldsetShouldHaveStableEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/projects").param("fields", "id,title,icon"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/projects").param("fields", "icon,title,id")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Unknown fields should be rejected with 400")
+    void apiUnknownFieldShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/projects").param("fields", "id,secret")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/skills").param("fields", "id")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/projects?limit= should return a page with a cursor")
+    void apiProjectsShouldPaginate() throws Exception {
+        mockMvc.perform(get("/api/v1/projects").param("limit", "1").param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is("test-project")))
+                .andExpect(jsonPath("$.items[0].title").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+
+        mockMvc.perform(get("/api/v1/projects").param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/experiences?limit= should return a page envelope")
+    void apiExperiencesShouldPaginate() throws Exception {
+        mockMvc.perform(get("/api/v1/experiences").param("limit", "10").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].title", is("Software Engineer")))
+                .andExpect(jsonPath("$.items[0].organization").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/projects with Accept: application/x-ndjson should stream one project per line")
+    void apiProjectsShouldStreamNdjson() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/projects")
+                        .param("fields", "id")
+                        .accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":\"test-project\"}\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/projects should keep returning a JSON array to browsers and generic clients")
+    void apiProjectsShouldPreferJson() throws Exception {
+        mockMvc.perform(get("/api/v1/projects"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/v1/projects").accept(MediaType.ALL))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/v1/projects")
+                        .header(HttpHeaders.ACCEPT, "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/portfolio with Accept: application/cbor should return the same document as CBOR")
+    void apiPortfolioShouldNegotiateCbor() throws Exception {
+        MvcResult json = mockMvc.perform(get("/api/v1/portfolio")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn();
+        MvcResult cbor = mockMvc.perform(get("/api/v1/portfolio")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn();
+
+        byte[] jsonBody = json.getResponse().getContentAsByteArray();
+        byte[] cborBody = cbor.getResponse().getContentAsByteArray();
+        assertThat(new CBORMapper().readTree(cborBody)).isEqualTo(new ObjectMapper().readTree(jsonBody));
+        assertThat(cborBody.length).isLessThan(jsonBody.length);
+        assertThat(cbor.getResponse().getHeader(HttpHeaders.ETAG))
+                .isNotEqualTo(json.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/projects should apply sparse fieldsets to CBOR responses")
+    void apiProjectsShouldApplySparseFieldsetToCbor() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/projects")
+                        .param("fields", "id,title")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(new CBORMapper().readTree(body).toString())
+                .isEqualTo("[{\"id\":\"test-project\",\"title\":\"Test Project\"}]");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/search should return ranked hits")
+    void apiSearchShouldReturnRankedHits() throws Exception {
+        mockMvc.perform(get("/api/v1/search").param("q", "spring projects")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].type", is("project")))
+                .andExpect(jsonPath("$[0].item.id", is("test-project")));
+
+        mockMvc.perform(get("/api/v1/search").param("q", "nothing matches")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("API requests should record phase timings, payload size and cache hits")
+    void apiShouldRecordMetrics() throws Exception {
+        mockMvc.perform(get("/api/v1/skills")).andExpect(status().isOk());
+        double hits = meterRegistry.get(PortfolioMetrics.CACHE)
+                .tags("cache", "api", "result", "hit").counter().count();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/skills")).andExpect(status().isOk()).andReturn();
+
+        assertThat(phaseCount("/api/v1/skills", "fetch")).isGreaterThanOrEqualTo(2);
+        assertThat(phaseCount("/api/v1/skills", "serialize")).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get(PortfolioMetrics.CACHE)
+                .tags("cache", "api", "result", "hit").counter().count()).isEqualTo(hits + 1);
+        assertThat(meterRegistry.get(PortfolioMetrics.RESPONSE_SIZE).tag("route", "/api/v1/skills")
+                .summary().max()).isEqualTo(result.getResponse().getContentAsByteArray().length);
+    }
+
     @Test
     @DisplayName("GET /api/v1/health should return UP status")
     void apiHealthShouldReturnUpStatus() throws Exception {
@@ -201,4 +637,22 @@ class PortfolioApplicationTests {
                 .andExpect(jsonPath("$.status", is("UP")))
                 .andExpect(jsonPath("$.service", is("portfolio-api")));
     }
+
+    private long phaseCount(String route, String phase) {
+        return meterRegistry.get(PortfolioMetrics.PHASE_TIMER).tags("route", route, "phase", phase).timer().count();
+    }
+
+    private double sectionCacheHits() {
+        return meterRegistry.get(PortfolioMetrics.CACHE).tags("cache", "sections", "result", "hit").counter().count();
+    }
+
+    private double submissions(String outcome) {
+        Counter counter = meterRegistry.find(PortfolioMetrics.CONTACT_SUBMISSIONS).tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double validationErrors(String field) {
+        Counter counter = meterRegistry.find(PortfolioMetrics.CONTACT_VALIDATION_ERRORS).tag("field", field).counter();
+        return counter == null ? 0 : counter.count();
+    }
 }
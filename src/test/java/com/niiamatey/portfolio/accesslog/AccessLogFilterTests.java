@@ -0,0 +1,186 @@
+package com.niiamatey.portfolio.accesslog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the access log records asynchronous requests when they complete.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AccessLogFilterTests {
+
+    private static final long STREAM_DELAY_MILLIS = 300;
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("portfolio.assets.output-directory", () -> directory.resolve("assets").toString());
+        registry.add("portfolio.images.cache-directory", () -> directory.resolve("image-cache").toString());
+        registry.add("portfolio.contact.file", () -> directory.resolve("messages.ndjson").toString());
+        registry.add("portfolio.contact.dead-letter-file", () -> directory.resolve("dead-letter.ndjson").toString());
+        registry.add("portfolio.access-log.file", () -> directory.resolve("access.log").toString());
+        registry.add("portfolio.stats.file", () -> directory.resolve("views.json").toString());
+    }
+
+    /**
+     * Slows down the first write of the streamed projects so the body takes
+     * noticeably longer than the dispatch that starts it.
+     */
+    @TestConfiguration
+    static class SlowStreamConfig {
+        @Bean
+        FilterRegistrationBean<?> slowStreamFilter() {
+            FilterRegistrationBean<jakarta.servlet.Filter> registration = new FilterRegistrationBean<>(
+                    (request, response, chain) -> chain.doFilter(request,
+                            new SlowResponse((HttpServletResponse) response)));
+            registration.addUrlPatterns("/api/v1/projects");
+            registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+            return registration;
+        }
+    }
+
+    private static final class SlowResponse extends HttpServletResponseWrapper {
+        SlowResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            ServletOutputStream out = super.getOutputStream();
+            return new ServletOutputStream() {
+                private boolean delayed;
+
+                @Override
+                public void write(int b) throws IOException {
+                    delay();
+                    out.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    delay();
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    out.flush();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return out.isReady();
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                    out.setWriteListener(listener);
+                }
+
+                private void delay() throws IOException {
+                    if (!delayed) {
+                        delayed = true;
+                        try {
+                            Thread.sleep(STREAM_DELAY_MILLIS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException(e);
+                        }
+                    }
+                }
+            };
+        }
+    }
+
+    @Value("${local.server.port}")
+    private int port;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("A streamed NDJSON response is logged after its body with status and full duration")
+    void logsStreamedResponseOnCompletion() throws Exception {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/projects"))
+                        .header("Accept", "application/x-ndjson").build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isNotEmpty();
+
+        JsonNode entry = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (entry == null && System.nanoTime() < deadline) {
+            Path file = directory.resolve("access.log");
+            for (String line : Files.exists(file) ? Files.readAllLines(file) : List.<String>of()) {
+                JsonNode json = objectMapper.readTree(line);
+                if (json.get("path").asText().equals("/api/v1/projects")) {
+                    entry = json;
+                }
+            }
+            Thread.sleep(20);
+        }
+
+        assertThat(entry).as("access log entry").isNotNull();
+        assertThat(entry.get("status").asInt()).isEqualTo(200);
+        assertThat(entry.get("durationMicros").asLong()).isGreaterThanOrEqualTo(STREAM_DELAY_MILLIS * 1_000);
+    }
+
+    @Test
+    @DisplayName("An asynchronous request that fails after sending 200 is logged as 500 once")
+    void logsAsyncFailureAsServerError() throws Exception {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(8);
+        AccessLogFilter filter = new AccessLogFilter(buffer);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        assertThat(buffer.drain(entry -> { }, 8)).isZero();
+
+        MockAsyncContext context = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : context.getListeners()) {
+            listener.onError(new AsyncEvent(context, new IOException("broken pipe")));
+        }
+        context.complete();
+        context.complete();
+
+        List<Integer> statuses = new ArrayList<>();
+        buffer.drain(entry -> statuses.add(entry.getStatus()), 8);
+        assertThat(statuses).containsExactly(500);
+    }
+}
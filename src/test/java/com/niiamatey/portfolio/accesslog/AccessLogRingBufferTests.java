@@ -0,0 +1,131 @@
+package com.niiamatey.portfolio.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests ordering, overflow and concurrent publishing of the access log ring buffer.
+ */
+class AccessLogRingBufferTests {
+
+    private static boolean offer(AccessLogRingBuffer buffer, String path, int status) {
+        long position = buffer.claim();
+        if (position < 0) {
+            return false;
+        }
+        buffer.entry(position).set(1_000, "10.0.0.1", "GET", path, null, status, 1_000, -1, null);
+        buffer.publish(position);
+        return true;
+    }
+
+    @Test
+    @DisplayName("Rounds the capacity up to a power of two")
+    void roundsCapacity() {
+        assertThat(new AccessLogRingBuffer(1).capacity()).isEqualTo(2);
+        assertThat(new AccessLogRingBuffer(8).capacity()).isEqualTo(8);
+        assertThat(new AccessLogRingBuffer(1_000).capacity()).isEqualTo(1_024);
+        assertThatThrownBy(() -> new AccessLogRingBuffer(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Drains entries in publish order, up to the requested maximum")
+    void drainsInOrder() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(8);
+        for (int i = 0; i < 5; i++) {
+            offer(buffer, "/" + i, 200);
+        }
+
+        List<String> paths = new ArrayList<>();
+        assertThat(buffer.drain(entry -> paths.add(entry.getPath()), 3)).isEqualTo(3);
+        assertThat(buffer.drain(entry -> paths.add(entry.getPath()), 10)).isEqualTo(2);
+        assertThat(buffer.drain(entry -> paths.add(entry.getPath()), 10)).isZero();
+
+        assertThat(paths).containsExactly("/0", "/1", "/2", "/3", "/4");
+    }
+
+    @Test
+    @DisplayName("Drops and counts entries when full, and accepts again once drained")
+    void dropsWhenFull() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(offer(buffer, "/" + i, 200)).isTrue();
+        }
+
+        assertThat(offer(buffer, "/overflow", 200)).isFalse();
+        assertThat(offer(buffer, "/overflow", 200)).isFalse();
+        assertThat(buffer.droppedCount()).isEqualTo(2);
+
+        assertThat(buffer.drain(entry -> { }, 1)).isEqualTo(1);
+        assertThat(offer(buffer, "/4", 200)).isTrue();
+
+        List<String> paths = new ArrayList<>();
+        buffer.drain(entry -> paths.add(entry.getPath()), 10);
+        assertThat(paths).containsExactly("/1", "/2", "/3", "/4");
+    }
+
+    @Test
+    @DisplayName("Releases references to request data once an entry is consumed")
+    void clearsConsumedEntries() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(2);
+        offer(buffer, "/secret", 200);
+
+        buffer.drain(entry -> { }, 1);
+
+        assertThat(buffer.entry(0).getPath()).isNull();
+    }
+
+    @Test
+    @DisplayName("Delivers every entry exactly once and in per-producer order under contention")
+    void concurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 5_000;
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(256);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    // Spin on overflow so every entry is delivered and can be checked
+                    while (!offer(buffer, "/" + producer, i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        int[] next = new int[producers];
+        long[] received = {0};
+        boolean[] inOrder = {true};
+        start.countDown();
+        while (received[0] < (long) producers * perProducer) {
+            buffer.drain(entry -> {
+                int producer = Integer.parseInt(entry.getPath().substring(1));
+                inOrder[0] &= entry.getStatus() == next[producer];
+                next[producer]++;
+                received[0]++;
+            }, 64);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(inOrder[0]).isTrue();
+        assertThat(next).containsOnly(perProducer);
+        assertThat(buffer.drain(entry -> { }, 10)).isZero();
+    }
+}
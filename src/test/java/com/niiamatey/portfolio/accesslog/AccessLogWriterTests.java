@@ -0,0 +1,104 @@
+package com.niiamatey.portfolio.accesslog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niiamatey.portfolio.config.AccessLogProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests formatting, batching and rollover of the access log writer.
+ */
+class AccessLogWriterTests {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AccessLogProperties properties(long maxFileSize, int maxHistory) {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setFile(directory.resolve("access.log").toString());
+        properties.setPollInterval(Duration.ofMillis(5));
+        properties.setMaxFileSize(DataSize.ofBytes(maxFileSize));
+        properties.setMaxHistory(maxHistory);
+        return properties;
+    }
+
+    private static void offer(AccessLogRingBuffer buffer, String path, String query, String userAgent) {
+        long position = buffer.claim();
+        buffer.entry(position).set(1_700_000_000_000L, "10.0.0.1", "GET", path, query, 200, 1_234_000, 42, userAgent);
+        buffer.publish(position);
+    }
+
+    @Test
+    @DisplayName("Formats each entry as one escaped JSON line")
+    void formatsJson() throws Exception {
+        AccessLogEntry entry = new AccessLogEntry();
+        entry.set(1_700_000_000_000L, "10.0.0.1", "GET", "/api/v1/search", "q=\"a\"\\b", 200, 1_234_567, -1,
+                "curl/8\n");
+
+        StringBuilder line = new StringBuilder();
+        AccessLogWriter.format(entry, line);
+        JsonNode json = objectMapper.readTree(line.toString());
+
+        assertThat(line.toString()).doesNotContain("\n");
+        assertThat(json.get("time").asText()).isEqualTo("2023-11-14T22:13:20Z");
+        assertThat(json.get("path").asText()).isEqualTo("/api/v1/search");
+        assertThat(json.get("query").asText()).isEqualTo("q=\"a\"\\b");
+        assertThat(json.get("status").asInt()).isEqualTo(200);
+        assertThat(json.get("durationMicros").asLong()).isEqualTo(1_234);
+        assertThat(json.has("bytes")).isFalse();
+        assertThat(json.get("userAgent").asText()).isEqualTo("curl/8\n");
+    }
+
+    @Test
+    @DisplayName("Writes buffered entries in the background and flushes the rest on shutdown")
+    void writesEntries() throws Exception {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(64);
+        AccessLogWriter writer = new AccessLogWriter(buffer, properties(1_000_000, 2));
+        writer.afterPropertiesSet();
+
+        for (int i = 0; i < 20; i++) {
+            offer(buffer, "/" + i, null, null);
+        }
+        writer.destroy();
+
+        List<String> lines = Files.readAllLines(directory.resolve("access.log"));
+        assertThat(lines).hasSize(20);
+        assertThat(objectMapper.readTree(lines.get(19)).get("path").asText()).isEqualTo("/19");
+        assertThat(writer.writtenCount()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Rolls the file over by size and keeps only the configured history")
+    void rollsOver() throws Exception {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(64);
+        AccessLogProperties properties = properties(400, 2);
+        properties.setBatchSize(1);
+        AccessLogWriter writer = new AccessLogWriter(buffer, properties);
+        writer.afterPropertiesSet();
+
+        for (int i = 0; i < 30; i++) {
+            offer(buffer, "/" + i, null, null);
+        }
+        writer.destroy();
+
+        assertThat(directory.resolve("access.log")).exists();
+        assertThat(directory.resolve("access.log.1")).exists();
+        assertThat(directory.resolve("access.log.2")).exists();
+        assertThat(directory.resolve("access.log.3")).doesNotExist();
+        assertThat(Files.size(directory.resolve("access.log"))).isLessThanOrEqualTo(400);
+        List<String> current = Files.readAllLines(directory.resolve("access.log"));
+        assertThat(objectMapper.readTree(current.get(current.size() - 1)).get("path").asText()).isEqualTo("/29");
+    }
+}
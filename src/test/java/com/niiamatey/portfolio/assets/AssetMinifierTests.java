@@ -0,0 +1,56 @@
+package com.niiamatey.portfolio.assets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that minification removes only comments and redundant whitespace.
+ */
+class AssetMinifierTests {
+
+    @Test
+    @DisplayName("CSS: strips comments and whitespace but keeps strings and selectors intact")
+    void minifiesCss() {
+        String css = """
+                /* Header */
+                .nav a:hover,
+                .nav  a.active {
+                    color: var(--accent);
+                    content: '  /* not a comment */  ';
+                }
+
+                @media (max-width: 768px) {
+                    .hero > p { margin: 0 auto; }
+                }
+                """;
+
+        assertThat(AssetMinifier.css(css)).isEqualTo(
+                ".nav a:hover,.nav a.active{color:var(--accent);content:'  /* not a comment */  '}"
+                        + "@media (max-width:768px){.hero>p{margin:0 auto}}");
+    }
+
+    @Test
+    @DisplayName("JS: strips comments and indentation but keeps line breaks, strings and regexes")
+    void minifiesJs() {
+        String js = """
+                /**
+                 * Docs
+                 */
+                function check(value) {
+                    // Email validation
+                    const url = 'https://example.com/a';
+                    const re = /^[^\\s@/]+@x\\.y$/;   /* inline */
+                    return re.test(value) && value.length / 2 > 1;
+                }
+                """;
+
+        assertThat(AssetMinifier.js(js)).isEqualTo("""
+                function check(value) {
+                const url = 'https://example.com/a';
+                const re = /^[^\\s@/]+@x\\.y$/;
+                return re.test(value) && value.length / 2 > 1;
+                }""");
+    }
+}
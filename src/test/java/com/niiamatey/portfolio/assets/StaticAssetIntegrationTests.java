@@ -0,0 +1,113 @@
+package com.niiamatey.portfolio.assets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests fingerprinted URLs, caching headers and gzip negotiation for static assets.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StaticAssetIntegrationTests {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("portfolio.assets.output-directory", () -> directory.resolve("assets").toString());
+        registry.add("portfolio.images.cache-directory", () -> directory.resolve("image-cache").toString());
+        registry.add("portfolio.contact.file", () -> directory.resolve("messages.ndjson").toString());
+        registry.add("portfolio.contact.dead-letter-file", () -> directory.resolve("dead-letter.ndjson").toString());
+        registry.add("portfolio.access-log.file", () -> directory.resolve("access.log").toString());
+        registry.add("portfolio.stats.file", () -> directory.resolve("views.json").toString());
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String fingerprintedStylesheetUrl() throws Exception {
+        String html = mockMvc.perform(get("/")).andReturn().getResponse().getContentAsString();
+        Matcher matcher = Pattern.compile("/css/styles-[0-9a-f]{32}\\.css").matcher(html);
+        assertThat(matcher.find()).as("fingerprinted stylesheet link").isTrue();
+        return matcher.group();
+    }
+
+    @Test
+    @DisplayName("Templates link to content-hashed asset URLs")
+    void rewritesLinks() throws Exception {
+        String html = mockMvc.perform(get("/")).andReturn().getResponse().getContentAsString();
+
+        assertThat(html).containsPattern("/js/main-[0-9a-f]{32}\\.js").doesNotContain("\"/css/styles.css\"");
+    }
+
+    @Test
+    @DisplayName("Serves the precompressed variant to clients accepting gzip")
+    void servesGzip() throws Exception {
+        MvcResult result = mockMvc.perform(get(fingerprintedStylesheetUrl())
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept-Encoding"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        assertThat(body).isEqualTo(Files.readAllBytes(directory.resolve("assets/css/styles.css.gz")));
+        assertThat(gunzip(body)).isEqualTo(Files.readAllBytes(directory.resolve("assets/css/styles.css")));
+    }
+
+    @Test
+    @DisplayName("Serves the minified identity variant to clients without gzip")
+    void servesIdentity() throws Exception {
+        MvcResult result = mockMvc.perform(get(fingerprintedStylesheetUrl()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        byte[] body = result.getResponse().getContentAsByteArray();
+        assertThat(body).isEqualTo(Files.readAllBytes(directory.resolve("assets/css/styles.css")));
+        assertThat(body.length).isLessThan(Files.readAllBytes(
+                Path.of("src/main/resources/static/css/styles.css")).length);
+    }
+
+    @Test
+    @DisplayName("Plain asset URLs are revalidated instead of cached as immutable")
+    void plainUrlsRevalidate() throws Exception {
+        mockMvc.perform(get("/css/styles.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        mockMvc.perform(get("/js/main.js"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    private static byte[] gunzip(byte[] data) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.niiamatey.portfolio.catalog;
+
+import com.niiamatey.portfolio.config.PortfolioDataConfig;
+import com.niiamatey.portfolio.config.PortfolioDataProperties;
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Experience.ExperienceType;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.repository.PortfolioSnapshot;
+import com.niiamatey.portfolio.repository.TechnologyMatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests writing and memory-mapped reading of the binary portfolio catalog.
+ */
+class PortfolioCatalogTests {
+
+    @TempDir
+    Path directory;
+
+    private final PortfolioDataConfig data = new PortfolioDataConfig();
+
+    private static Project project(int i) {
+        return Project.builder()
+                .id("project-" + i)
+                .title("Project " + i)
+                .type(i % 2 == 0 ? "Microservice" : "Machine Learning")
+                .technologies(List.of("Java", "Tech " + (i % 100)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("The built-in data should survive a round trip through a catalog")
+    void builtInDataShouldRoundTrip() throws IOException {
+        Path file = directory.resolve("portfolio.catalog");
+        CatalogWriter.write(file, data.skills(), data.projects(), data.experiences());
+
+        PortfolioCatalog catalog = PortfolioCatalog.open(file);
+
+        assertThat(catalog.skills()).isEqualTo(data.skills());
+        assertThat(catalog.projects()).isEqualTo(data.projects());
+        assertThat(catalog.experiences()).isEqualTo(data.experiences());
+    }
+
+    @Test
+    @DisplayName("A catalog snapshot should answer lookups like the heap snapshot")
+    void lookupsShouldMatchHeapSnapshot() throws IOException {
+        Path file = directory.resolve("portfolio.catalog");
+        CatalogWriter.write(file, data.skills(), data.projects(), data.experiences());
+        PortfolioSnapshot heap = new PortfolioSnapshot(1, data.skills(), data.projects(), data.experiences());
+        PortfolioSnapshot mapped = new PortfolioSnapshot(1, PortfolioCatalog.open(file));
+
+        for (Project project : data.projects()) {
+            assertThat(mapped.findProjectById(project.getId())).contains(project);
+            assertThat(mapped.findProjectsByType(project.getType())).isEqualTo(heap.findProjectsByType(project.getType()));
+            for (String technology : project.getTechnologies()) {
+                assertThat(mapped.findProjectsByTechnology(technology.toUpperCase()))
+                        .isEqualTo(heap.findProjectsByTechnology(technology));
+            }
+        }
+        for (ExperienceType type : ExperienceType.values()) {
+            assertThat(mapped.findExperiencesByType(type)).isEqualTo(heap.findExperiencesByType(type));
+        }
+        assertThat(mapped.findProjectById("missing")).isEmpty();
+        assertThat(mapped.findProjectsByType("missing")).isEmpty();
+        assertThat(mapped.findProjects("microservice", "spring boot"))
+                .isEqualTo(heap.findProjects("microservice", "spring boot"));
+        for (TechnologyMatch match : TechnologyMatch.values()) {
+            List<String> technologies = List.of("Java", "spring boot", "AWS", "missing");
+            assertThat(mapped.findProjects(null, technologies, match))
+                    .isEqualTo(heap.findProjects(null, technologies, match));
+        }
+        assertThat(mapped.toString()).isEqualTo(heap.toString());
+    }
+
+    @Test
+    @DisplayName("Indexes should answer lookups over a large catalog")
+    void indexesShouldHandleLargeCatalog() throws IOException {
+        List<Project> projects = IntStream.range(0, 50_000).mapToObj(PortfolioCatalogTests::project).toList();
+        Path file = directory.resolve("large.catalog");
+        CatalogWriter.write(file, List.of(), projects, List.of());
+
+        PortfolioRepository repository = new PortfolioRepository(List.of(), List.of(), List.of());
+        repository.publish(PortfolioCatalog.open(file));
+
+        assertThat(repository.version()).isEqualTo(2);
+        assertThat(repository.findProjectById("project-49999")).contains(projects.get(49_999));
+        assertThat(repository.findProjectById("missing")).isEmpty();
+        assertThat(repository.findProjectsByType("MICROSERVICE")).hasSize(25_000);
+        assertThat(repository.findProjectsByTechnology("tech 7")).hasSize(500).contains(projects.get(7));
+        assertThat(repository.findProjectsByTechnology("java")).hasSize(50_000);
+        assertThat(repository.findProjects("machine learning", "Tech 7")).hasSize(500);
+        assertThat(repository.snapshot().findProjects(null, List.of("Tech 7", "Tech 8"), TechnologyMatch.ANY))
+                .hasSize(1_000).startsWith(projects.get(7), projects.get(8), projects.get(107));
+    }
+
+    @Test
+    @DisplayName("Null fields and a technology listed twice should be preserved and indexed once")
+    void nullsAndDuplicatesShouldBeHandled() throws IOException {
+        Project sparse = Project.builder().id("sparse").technologies(List.of("Java", "java")).build();
+        Experience untyped = Experience.builder().title("Untyped").build();
+        Path file = directory.resolve("sparse.catalog");
+        CatalogWriter.write(file, List.of(), List.of(sparse), List.of(untyped));
+
+        PortfolioCatalog catalog = PortfolioCatalog.open(file);
+
+        assertThat(catalog.projects()).containsExactly(sparse);
+        assertThat(catalog.experiences()).containsExactly(untyped);
+        assertThat(catalog.findProjectsByTechnology("java")).containsExactly(sparse);
+        assertThat(catalog.typeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Missing and duplicate project ids should be rejected when writing")
+    void invalidIdsShouldBeRejected() {
+        Path file = directory.resolve("invalid.catalog");
+
+        assertThatThrownBy(() -> CatalogWriter.write(file, List.of(), List.of(project(1), project(1)), List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("project-1");
+        assertThatThrownBy(() -> CatalogWriter.write(file, List.of(), List.of(Project.builder().build()), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Files that are not catalogs or are truncated should be rejected")
+    void invalidFilesShouldBeRejected() throws IOException {
+        Path notCatalog = Files.writeString(directory.resolve("data.json"), "{\"projects\": []}");
+        assertThatThrownBy(() -> PortfolioCatalog.open(notCatalog))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a portfolio catalog");
+
+        Path file = directory.resolve("portfolio.catalog");
+        CatalogWriter.write(file, data.skills(), data.projects(), data.experiences());
+        byte[] bytes = Files.readAllBytes(file);
+        Path truncated = Files.write(directory.resolve("truncated.catalog"),
+                Arrays.copyOf(bytes, bytes.length / 2));
+        assertThatThrownBy(() -> PortfolioCatalog.open(truncated))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Truncated");
+    }
+
+    @Test
+    @DisplayName("portfolio.data.catalog should publish the catalog over the built-in data")
+    void catalogPropertyShouldPublishCatalog() throws IOException {
+        Path file = directory.resolve("portfolio.catalog");
+        CatalogWriter.write(file, List.of(), List.of(project(1)), List.of());
+        PortfolioRepository repository = new PortfolioRepository(data.skills(), data.projects(), data.experiences());
+        PortfolioDataProperties properties = new PortfolioDataProperties();
+        properties.setCatalog(file.toString());
+
+        data.portfolioCatalog(repository, properties);
+
+        assertThat(repository.snapshot().getProjects()).containsExactly(project(1));
+        assertThat(repository.snapshot().getSkills()).isEmpty();
+    }
+}
@@ -0,0 +1,221 @@
+package com.niiamatey.portfolio.contact;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.niiamatey.portfolio.config.ContactDispatchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests batching, retry, dead-lettering and backpressure of the contact pipeline.
+ */
+class ContactDispatcherTests {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private ContactDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+    }
+
+    private ContactDispatchProperties properties() {
+        ContactDispatchProperties properties = new ContactDispatchProperties();
+        properties.setWorkers(1);
+        properties.setDigestWindow(Duration.ofMillis(200));
+        properties.setInitialBackoff(Duration.ofMillis(10));
+        properties.setMaxBackoff(Duration.ofMillis(40));
+        properties.setMaxAttempts(3);
+        properties.setShutdownTimeout(Duration.ofSeconds(2));
+        properties.setDeadLetterFile(directory.resolve("dead-letter.ndjson").toString());
+        return properties;
+    }
+
+    private static ContactMessage message(int i) {
+        return ContactMessage.builder().id("m" + i).name("Sender " + i).email("s" + i + "@example.com")
+                .subject("Subject " + i).message("Message body " + i).build();
+    }
+
+    /**
+     * Records batches and fails the first {@code failures} deliveries.
+     */
+    private static final class RecordingSink implements ContactSink {
+        final List<List<ContactMessage>> batches = new CopyOnWriteArrayList<>();
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch delivered;
+        final int failures;
+
+        RecordingSink(int failures, int expectedBatches) {
+            this.failures = failures;
+            this.delivered = new CountDownLatch(expectedBatches);
+        }
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void deliver(List<ContactMessage> batch) throws IOException {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new IOException("downstream unavailable");
+            }
+            batches.add(batch);
+            delivered.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("A burst of submissions should be delivered as one digest batch")
+    void burstShouldBeBatched() throws Exception {
+        RecordingSink sink = new RecordingSink(0, 1);
+        dispatcher = new ContactDispatcher(List.of(sink), properties(), objectMapper);
+        dispatcher.afterPropertiesSet();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(dispatcher.submit(message(i))).isTrue();
+        }
+
+        assertThat(sink.delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sink.batches).hasSize(1);
+        assertThat(sink.batches.get(0)).extracting(ContactMessage::getId)
+                .containsExactly("m0", "m1", "m2", "m3", "m4");
+    }
+
+    @Test
+    @DisplayName("Failed deliveries should be retried with backoff")
+    void failedDeliveryShouldBeRetried() throws Exception {
+        RecordingSink sink = new RecordingSink(2, 1);
+        dispatcher = new ContactDispatcher(List.of(sink), properties(), objectMapper);
+        dispatcher.afterPropertiesSet();
+
+        dispatcher.submit(message(1));
+
+        assertThat(sink.delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sink.attempts).hasValue(3);
+        assertThat(dispatcher.deadLetteredCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Exhausted retries should write the batch to the dead-letter file")
+    void exhaustedRetriesShouldDeadLetter() throws Exception {
+        RecordingSink sink = new RecordingSink(Integer.MAX_VALUE, 1);
+        ContactDispatchProperties properties = properties();
+        dispatcher = new ContactDispatcher(List.of(sink), properties, objectMapper);
+        dispatcher.afterPropertiesSet();
+
+        dispatcher.submit(message(7));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dispatcher.deadLetteredCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(sink.attempts).hasValue(3);
+        assertThat(Files.readString(Path.of(properties.getDeadLetterFile())))
+                .contains("\"sink\":\"recording\"", "\"id\":\"m7\"", "downstream unavailable");
+    }
+
+    @Test
+    @DisplayName("A batch interrupted during a retry should be dead-lettered exactly once")
+    void interruptedRetryShouldDeadLetterOnce() throws Exception {
+        RecordingSink sink = new RecordingSink(Integer.MAX_VALUE, 1);
+        ContactDispatchProperties properties = properties();
+        properties.setInitialBackoff(Duration.ofSeconds(30));
+        properties.setMaxBackoff(Duration.ofSeconds(30));
+        properties.setShutdownTimeout(Duration.ofMillis(100));
+        dispatcher = new ContactDispatcher(List.of(sink), properties, objectMapper);
+        dispatcher.afterPropertiesSet();
+
+        dispatcher.submit(message(1));
+        dispatcher.submit(message(2));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sink.attempts.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        // The worker now sleeps before its second attempt
+        dispatcher.destroy();
+
+        List<String> lines = Files.readAllLines(Path.of(properties.getDeadLetterFile()));
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).containsOnlyOnce("\"id\":\"m1\"").containsOnlyOnce("\"id\":\"m2\"");
+        assertThat(dispatcher.deadLetteredCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A batch interrupted at the second sink should be dead-lettered only for that sink")
+    void interruptedBatchShouldDeadLetterPendingSinksOnly() throws Exception {
+        RecordingSink first = new RecordingSink(0, 1);
+        AtomicInteger secondAttempts = new AtomicInteger();
+        ContactSink second = new ContactSink() {
+            @Override
+            public String name() {
+                return "second";
+            }
+
+            @Override
+            public void deliver(List<ContactMessage> batch) throws IOException {
+                secondAttempts.incrementAndGet();
+                throw new IOException("downstream unavailable");
+            }
+        };
+        ContactDispatchProperties properties = properties();
+        properties.setInitialBackoff(Duration.ofSeconds(30));
+        properties.setMaxBackoff(Duration.ofSeconds(30));
+        properties.setShutdownTimeout(Duration.ofMillis(100));
+        dispatcher = new ContactDispatcher(List.of(first, second), properties, objectMapper);
+        dispatcher.afterPropertiesSet();
+
+        dispatcher.submit(message(1));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (secondAttempts.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        dispatcher.destroy();
+
+        assertThat(first.batches).hasSize(1);
+        List<String> lines = Files.readAllLines(Path.of(properties.getDeadLetterFile()));
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).contains("\"sink\":\"second\"", "\"id\":\"m1\"");
+        assertThat(dispatcher.deadLetteredCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Submissions beyond the queue capacity should be rejected without blocking")
+    void fullQueueShouldRejectSubmissions() {
+        ContactDispatchProperties properties = properties();
+        properties.setQueueCapacity(2);
+        // Not started: nothing drains the queue
+        dispatcher = new ContactDispatcher(List.of(new RecordingSink(0, 0)), properties, objectMapper);
+
+        assertThat(dispatcher.submit(message(1))).isFalse();
+
+        dispatcher.afterPropertiesSet();
+        int accepted = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (dispatcher.submit(message(i))) {
+                accepted++;
+            }
+        }
+        assertThat(dispatcher.rejectedCount()).isPositive();
+        assertThat(accepted).isLessThan(1_000);
+    }
+}
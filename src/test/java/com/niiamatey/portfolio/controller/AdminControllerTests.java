@@ -0,0 +1,120 @@
+package com.niiamatey.portfolio.controller;
+
+import com.niiamatey.portfolio.config.AdminConfig;
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests the admin import API end to end against the repository.
+ */
+@WebMvcTest(controllers = AdminController.class, properties = "portfolio.admin.token=test-token")
+@Import({PortfolioRepository.class, AdminConfig.class})
+class AdminControllerTests {
+
+    private static final String IMPORT = """
+            {"op":"upsert","project":{"id":"imported","title":"Imported","type":"Test","technologies":["Go"]}}
+            {"op":"delete","project":{"id":"test-project"}}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PortfolioRepository repository;
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public List<Skill> skills() {
+            return List.of(Skill.builder().category("Languages").build());
+        }
+
+        @Bean
+        public List<Project> projects() {
+            return List.of(Project.builder().id("test-project").title("Test Project").type("Test").build());
+        }
+
+        @Bean
+        public List<Experience> experiences() {
+            return List.of();
+        }
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/admin/import should apply the records as one new version")
+    void importShouldPublishNewVersion() throws Exception {
+        long version = repository.version();
+
+        mockMvc.perform(post("/api/v1/admin/import")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+                        .contentType(PortfolioApiController.NDJSON)
+                        .content(IMPORT))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(version + 1))
+                .andExpect(jsonPath("$.changes").value(2))
+                .andExpect(jsonPath("$.projects").value(1));
+
+        assertThat(repository.version()).isEqualTo(version + 1);
+        assertThat(repository.findProjectsByTechnology("go")).extracting(Project::getId).containsExactly("imported");
+        assertThat(repository.findProjectsByType("test")).extracting(Project::getId).containsExactly("imported");
+    }
+
+    @Test
+    @DisplayName("An invalid record should reject the whole import with its line number")
+    void invalidImportShouldChangeNothing() throws Exception {
+        long version = repository.version();
+
+        mockMvc.perform(post("/api/v1/admin/import")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+                        .contentType(PortfolioApiController.NDJSON)
+                        .content(IMPORT + "{\"op\":\"upsert\",\"project\":{\"id\":\"untitled\"}}\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors", contains("line 3: project.title Project title is required")));
+
+        assertThat(repository.version()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("Requests without the admin token should be refused before the body is read")
+    void missingTokenShouldBeRefused() throws Exception {
+        long version = repository.version();
+
+        mockMvc.perform(post("/api/v1/admin/import")
+                        .contentType(PortfolioApiController.NDJSON)
+                        .content(IMPORT))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer"));
+        mockMvc.perform(post("/api/v1/admin/import")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer wrong-token")
+                        .contentType(PortfolioApiController.NDJSON)
+                        .content(IMPORT))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/v1/admin/import")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer test-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(IMPORT))
+                .andExpect(status().isUnsupportedMediaType());
+
+        assertThat(repository.version()).isEqualTo(version);
+    }
+}
@@ -0,0 +1,137 @@
+package com.niiamatey.portfolio.image;
+
+import com.niiamatey.portfolio.config.ResponsiveImageProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests derivative generation, the disk cache and srcset output.
+ */
+class ImageDerivativeServiceTests {
+
+    @TempDir
+    Path directory;
+
+    private final List<ImageDerivativeService> services = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(ImageDerivativeService::destroy);
+    }
+
+    private ImageDerivativeService start(ResponsiveImageProperties properties) throws IOException {
+        ImageDerivativeService service = new ImageDerivativeService(properties,
+                directory.resolve("images").toUri().toString());
+        services.add(service);
+        service.afterPropertiesSet();
+        return service;
+    }
+
+    private ResponsiveImageProperties properties() {
+        ResponsiveImageProperties properties = new ResponsiveImageProperties();
+        properties.setWidths(List.of(320, 640, 960, 1280));
+        properties.setCacheDirectory(directory.resolve("cache").toString());
+        return properties;
+    }
+
+    private void writeImage(String name, String format, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.DARK_GRAY);
+        g.fillOval(width / 4, height / 4, width / 2, height / 2);
+        g.dispose();
+        Files.createDirectories(directory.resolve("images"));
+        ImageIO.write(image, format, directory.resolve("images").resolve(name).toFile());
+    }
+
+    @Test
+    @DisplayName("Generates JPEG derivatives narrower than the original in the background")
+    void generatesDerivatives() throws Exception {
+        writeImage("photo.jpg", "jpg", 1000, 800);
+        ImageDerivativeService service = start(properties());
+
+        ResponsiveImage image = service.image("photo.jpg");
+        assertThat(image.getSrc()).isEqualTo("/images/photo.jpg");
+        assertThat(image.getWidth()).isEqualTo(1000);
+        assertThat(image.getHeight()).isEqualTo(800);
+        assertThat(image.getSrcset())
+                .matches("/images/r/[0-9a-f]{16}/320\\.jpg 320w, /images/r/[0-9a-f]{16}/640\\.jpg 640w, "
+                        + "/images/r/[0-9a-f]{16}/960\\.jpg 960w, /images/photo\\.jpg 1000w");
+
+        service.generation().get(30, TimeUnit.SECONDS);
+
+        String hash = image.getSrcset().substring("/images/r/".length(), "/images/r/".length() + 16);
+        for (int width : List.of(320, 640, 960)) {
+            Path file = service.findDerivative(hash, width).orElseThrow();
+            BufferedImage derivative = ImageIO.read(file.toFile());
+            assertThat(derivative.getWidth()).isEqualTo(width);
+            assertThat(derivative.getHeight()).isEqualTo(width * 4 / 5);
+        }
+        assertThat(service.findDerivative(hash, 1280)).isEmpty();
+        assertThat(service.findOriginalUrl(hash, 1280)).isEmpty();
+        assertThat(service.findOriginalUrl(hash, 320)).contains("/images/photo.jpg");
+    }
+
+    @Test
+    @DisplayName("Reuses cached derivatives across restarts")
+    void reusesDiskCache() throws Exception {
+        writeImage("photo.png", "png", 700, 700);
+        ImageDerivativeService first = start(properties());
+        first.generation().get(30, TimeUnit.SECONDS);
+        Path cached = Files.list(directory.resolve("cache")).filter(p -> p.toString().endsWith("-320.png"))
+                .findFirst().orElseThrow();
+        FileTime written = Files.getLastModifiedTime(cached);
+
+        ImageDerivativeService second = start(properties());
+
+        assertThat(second.generation()).isDone();
+        String hash = cached.getFileName().toString().substring(0, 16);
+        assertThat(second.findDerivative(hash, 320)).contains(cached);
+        assertThat(second.findDerivative(hash, 640)).isPresent();
+        assertThat(Files.getLastModifiedTime(cached)).isEqualTo(written);
+    }
+
+    @Test
+    @DisplayName("Serves originals only for unknown, small or oversized images")
+    void fallsBackToOriginals() throws Exception {
+        writeImage("icon.png", "png", 200, 200);
+        writeImage("huge.jpg", "jpg", 2000, 2000);
+        ResponsiveImageProperties properties = properties();
+        properties.setMaxSourcePixels(1_000_000);
+        ImageDerivativeService service = start(properties);
+
+        assertThat(service.image("icon.png").getSrcset()).isEmpty();
+        assertThat(service.image("huge.jpg").getSrcset()).isEmpty();
+        assertThat(service.image("missing.jpg").getSrc()).isEqualTo("/images/missing.jpg");
+        assertThat(service.generation()).isDone();
+    }
+
+    @Test
+    @DisplayName("Scales down in half steps to the exact target size")
+    void resizesToTarget() {
+        BufferedImage source = new BufferedImage(2423, 2302, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage resized = ImageDerivativeService.resize(source, 320, false);
+
+        assertThat(resized.getWidth()).isEqualTo(320);
+        assertThat(resized.getHeight()).isEqualTo(304);
+    }
+}
@@ -0,0 +1,140 @@
+package com.niiamatey.portfolio.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.repository.PortfolioChanges;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import com.niiamatey.portfolio.repository.PortfolioSnapshot;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests reading and validating NDJSON imports.
+ */
+class PortfolioImporterTests {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void createValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    private PortfolioChanges read(int maxRecords, String... lines) throws IOException {
+        return new PortfolioImporter(objectMapper, validator, maxRecords).read(ndjson(lines));
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Upserts and deletes of every kind should be read in order")
+    void recordsShouldBeRead() throws IOException {
+        PortfolioChanges changes = read(100,
+                "{\"op\":\"upsert\",\"project\":{\"id\":\"p1\",\"title\":\"One\",\"technologies\":[\"Java\"]}}",
+                "{\"op\":\"UPSERT\",\"skill\":{\"category\":\"Languages\",\"technologies\":[\"Java\"]}}",
+                "",
+                "{\"op\":\"upsert\",\"experience\":{\"title\":\"Engineer\",\"type\":\"WORK\"}}",
+                "{\"op\":\"delete\",\"project\":{\"id\":\"qr-code-generator\"}}",
+                "{\"op\":\"delete\",\"project\":{\"id\":\"p1\"}}");
+        PortfolioRepository repository = new PortfolioRepository(List.of(),
+                List.of(Project.builder().id("qr-code-generator").title("QR").build()), List.of());
+
+        PortfolioSnapshot snapshot = repository.apply(changes);
+
+        assertThat(changes.size()).isEqualTo(4);
+        assertThat(snapshot.getProjects()).isEmpty();
+        assertThat(snapshot.getSkills()).singleElement().satisfies(s -> assertThat(s.getTechnologies()).containsExactly("Java"));
+        assertThat(snapshot.getExperiences()).singleElement().satisfies(e -> assertThat(e.getTitle()).isEqualTo("Engineer"));
+    }
+
+    @Test
+    @DisplayName("Invalid records should be reported with their line numbers")
+    void invalidRecordsShouldBeReported() {
+        assertThatThrownBy(() -> read(100,
+                "{\"op\":\"upsert\",\"project\":{\"id\":\"p1\",\"title\":\"One\"}}",
+                "{\"op\":\"upsert\",\"project\":{\"id\":\"p2\"}}",
+                "{\"op\":\"delete\",\"skill\":{\"icon\":\"x\"}}",
+                "{\"op\":\"replace\",\"experience\":{\"title\":\"Engineer\"}}",
+                "{\"op\":\"upsert\",\"project\":{\"id\":\"p3\",\"title\":\"Three\"},\"skill\":{\"category\":\"Data\"}}"))
+                .isInstanceOfSatisfying(ImportRejectedException.class, e -> assertThat(e.getErrors()).containsExactly(
+                        "line 2: project.title Project title is required",
+                        "line 3: skill.category Skill category is required",
+                        "line 4: op must be upsert or delete",
+                        "line 5: a record needs exactly one of project, skill or experience"));
+    }
+
+    @Test
+    @DisplayName("Malformed JSON and unknown properties should stop the read")
+    void malformedJsonShouldStopRead() {
+        assertThatThrownBy(() -> read(100,
+                "{\"op\":\"upsert\",\"project\":{\"id\":\"p1\",\"title\":\"One\"}}",
+                "{\"op\":\"upsert\",\"project\":{\"id\":\"p2\",\"title\":\"Two\",\"stars\":5}}",
+                "{\"op\":\"upsert\",\"project\":{\"id\":\"p3\",\"title\":\"Three\"}}"))
+                .isInstanceOfSatisfying(ImportRejectedException.class, e -> assertThat(e.getErrors())
+                        .singleElement().asString().startsWith("line 2: Unrecognized field \"stars\""));
+        assertThatThrownBy(() -> read(100, "{\"op\":\"upsert\",\"project\":{\"id\":\"p1\""))
+                .isInstanceOf(ImportRejectedException.class);
+        assertThatThrownBy(() -> read(100))
+                .isInstanceOfSatisfying(ImportRejectedException.class,
+                        e -> assertThat(e.getErrors()).containsExactly("no records"));
+    }
+
+    @Test
+    @DisplayName("Imports over the record limit or with many errors should be cut short")
+    void limitsShouldBeEnforced() {
+        String valid = "{\"op\":\"delete\",\"project\":{\"id\":\"p1\"}}";
+        assertThatThrownBy(() -> read(2, valid, valid, valid))
+                .isInstanceOfSatisfying(ImportRejectedException.class,
+                        e -> assertThat(e.getErrors()).containsExactly("line 3: more than 2 records"));
+
+        String invalid = "{\"op\":\"delete\",\"project\":{}}";
+        assertThatThrownBy(() -> read(1_000, Collections.nCopies(100, invalid).toArray(String[]::new)))
+                .isInstanceOfSatisfying(ImportRejectedException.class,
+                        e -> assertThat(e.getErrors()).hasSize(PortfolioImporter.MAX_ERRORS));
+    }
+
+    @Test
+    @DisplayName("A large stream should be read record by record")
+    void largeStreamShouldBeRead() throws IOException {
+        List<InputStream> lines = IntStream.range(0, 100_000)
+                .mapToObj(i -> ndjson("{\"op\":\"upsert\",\"project\":{\"id\":\"p" + i + "\",\"title\":\"Project " + i
+                        + "\",\"type\":\"Microservice\",\"technologies\":[\"Java\",\"Tech " + (i % 100) + "\"]}}"))
+                .toList();
+        PortfolioImporter importer = new PortfolioImporter(objectMapper, validator, 1_000_000);
+
+        PortfolioChanges changes = importer.read(new SequenceInputStream(Collections.enumeration(lines)));
+        PortfolioSnapshot snapshot = new PortfolioRepository(List.of(), List.of(), List.of()).apply(changes);
+
+        assertThat(snapshot.getProjects()).hasSize(100_000);
+        assertThat(snapshot.findProjectsByTechnology("tech 42")).hasSize(1_000);
+        assertThat(snapshot.findProjectById("p99999")).isPresent();
+    }
+}
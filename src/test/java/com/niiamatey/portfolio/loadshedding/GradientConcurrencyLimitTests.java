@@ -0,0 +1,180 @@
+package com.niiamatey.portfolio.loadshedding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests admission by share, how the limit follows latency and that recording never blocks.
+ */
+class GradientConcurrencyLimitTests {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private GradientConcurrencyLimit limit(int initial) {
+        return new GradientConcurrencyLimit(initial, 4, 100, 1.5, 0.5, Duration.ofMillis(100), 5, clock::get);
+    }
+
+    /**
+     * Runs one window of two rounds with {@code concurrency} requests in flight,
+     * each taking the given latency. The window closes on the last request.
+     */
+    private void window(GradientConcurrencyLimit limit, int concurrency, long latencyNanos) {
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < concurrency; i++) {
+                limit.acquire();
+            }
+            for (int i = 0; i < concurrency; i++) {
+                if (round == 1 && i == concurrency - 1) {
+                    clock.addAndGet(100 * MILLIS);
+                }
+                limit.release(latencyNanos);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Admits requests up to each share of the limit")
+    void admitsUpToShare() {
+        GradientConcurrencyLimit limit = limit(10);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limit.tryAcquire(0.5)).isTrue();
+        }
+        assertThat(limit.tryAcquire(0.5)).isFalse();
+        for (int i = 0; i < 5; i++) {
+            assertThat(limit.tryAcquire(1.0)).isTrue();
+        }
+        assertThat(limit.tryAcquire(1.0)).isFalse();
+
+        limit.acquire();
+        assertThat(limit.inFlight()).isEqualTo(11);
+        limit.release(-1);
+        limit.release(-1);
+        assertThat(limit.tryAcquire(1.0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Grows while latency is steady and shrinks when it rises")
+    void followsLatency() {
+        GradientConcurrencyLimit limit = limit(10);
+
+        for (int i = 0; i < 10; i++) {
+            window(limit, limit.limit(), 10 * MILLIS);
+        }
+        int grown = limit.limit();
+        assertThat(grown).isGreaterThan(20);
+
+        for (int i = 0; i < 10; i++) {
+            window(limit, limit.limit(), 40 * MILLIS);
+        }
+        assertThat(limit.limit()).isLessThan(grown / 2);
+
+        for (int i = 0; i < 50; i++) {
+            window(limit, limit.limit(), 400 * MILLIS);
+        }
+        assertThat(limit.limit()).isLessThan(grown / 4);
+    }
+
+    @Test
+    @DisplayName("Does not grow while too few requests are in flight to test it")
+    void ignoresLowConcurrency() {
+        GradientConcurrencyLimit limit = limit(20);
+
+        for (int i = 0; i < 20; i++) {
+            window(limit, 3, 10 * MILLIS);
+        }
+
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Waits for enough samples before closing a window")
+    void needsMinimumSamples() {
+        GradientConcurrencyLimit limit = limit(10);
+        window(limit, 10, 10 * MILLIS);
+        int before = limit.limit();
+
+        clock.addAndGet(100 * MILLIS);
+        for (int i = 0; i < 4; i++) {
+            limit.acquire();
+            limit.release(10 * MILLIS);
+        }
+
+        assertThat(limit.limit()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Concurrent releases never block and still close windows")
+    void concurrentReleasesDoNotBlock() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        boolean contentionMonitoring = threads.isThreadContentionMonitoringSupported();
+        if (contentionMonitoring) {
+            threads.setThreadContentionMonitoringEnabled(true);
+        }
+        GradientConcurrencyLimit limit = limit(50);
+        int threadCount = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 20_000; i++) {
+                    limit.acquire();
+                    // Every thousandth request moves the clock past a window
+                    if (i % 1_000 == 0) {
+                        clock.addAndGet(100 * MILLIS);
+                    }
+                    limit.release(MILLIS);
+                }
+            }, "gradient-limit-stress-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+
+        start.countDown();
+        long blocked = 0;
+        for (Thread worker : workers) {
+            worker.join(30_000);
+            if (contentionMonitoring) {
+                ThreadInfo info = threads.getThreadInfo(worker.getId());
+                if (info != null) {
+                    blocked += info.getBlockedCount();
+                }
+            }
+        }
+
+        assertThat(blocked).isZero();
+        assertThat(limit.inFlight()).isZero();
+        assertThat(limit.limit()).isBetween(4, 100);
+    }
+
+    @Test
+    @DisplayName("Rejects inconsistent settings")
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new GradientConcurrencyLimit(2, 4, 100, 1.5, 0.5, Duration.ofMillis(100), 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientConcurrencyLimit(10, 4, 100, 0.9, 0.5, Duration.ofMillis(100), 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientConcurrencyLimit(10, 4, 100, 1.5, 0, Duration.ofMillis(100), 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.niiamatey.portfolio.loadshedding;
+
+import com.niiamatey.portfolio.config.LoadSheddingProperties;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests classification, priority shedding and permit release of the load shedding filter.
+ */
+class LoadSheddingFilterTests {
+
+    private static LoadSheddingProperties.Rule rule(String path, String method, RequestPriority priority) {
+        LoadSheddingProperties.Rule rule = new LoadSheddingProperties.Rule();
+        rule.setPath(path);
+        rule.setMethods(method == null ? List.of() : List.of(method));
+        rule.setPriority(priority);
+        return rule;
+    }
+
+    private static LoadSheddingFilter filter(GradientConcurrencyLimit limit) {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.setRules(List.of(
+                rule("/actuator/health/**", null, RequestPriority.CRITICAL),
+                rule("/contact", "post", RequestPriority.SUBMISSION),
+                rule("/api/**", null, RequestPriority.API)));
+        return new LoadSheddingFilter(properties, limit);
+    }
+
+    private static GradientConcurrencyLimit limit(int fixed) {
+        return new GradientConcurrencyLimit(fixed, fixed, fixed, 1.5, 0.2, Duration.ofMillis(100), 10);
+    }
+
+    private static MockHttpServletResponse perform(LoadSheddingFilter filter, String method, String path)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, path), response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    @DisplayName("Classifies requests by the first matching rule")
+    void classifiesRequests() {
+        LoadSheddingFilter filter = filter(limit(10));
+
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/actuator/health")))
+                .isEqualTo(RequestPriority.CRITICAL);
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/actuator/health/liveness")))
+                .isEqualTo(RequestPriority.CRITICAL);
+        assertThat(filter.classify(new MockHttpServletRequest("POST", "/contact")))
+                .isEqualTo(RequestPriority.SUBMISSION);
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/contact")))
+                .isEqualTo(RequestPriority.PAGE);
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/api/v1/portfolio")))
+                .isEqualTo(RequestPriority.API);
+        assertThat(filter.classify(new MockHttpServletRequest("GET", "/")))
+                .isEqualTo(RequestPriority.PAGE);
+    }
+
+    @Test
+    @DisplayName("Sheds lower classes first with 503 and Retry-After, never critical requests")
+    void shedsByPriority() throws Exception {
+        GradientConcurrencyLimit limit = limit(8);
+        LoadSheddingFilter filter = filter(limit);
+        // Five requests already in flight: above the submission share (4) but below the API share (6)
+        for (int i = 0; i < 5; i++) {
+            limit.acquire();
+        }
+
+        MockHttpServletResponse contact = perform(filter, "POST", "/contact");
+        assertThat(contact.getStatus()).isEqualTo(503);
+        assertThat(contact.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(contact.getContentAsString()).contains("busy");
+        assertThat(perform(filter, "GET", "/api/v1/portfolio").getStatus()).isEqualTo(200);
+
+        limit.acquire();
+        assertThat(perform(filter, "GET", "/api/v1/portfolio").getStatus()).isEqualTo(503);
+        assertThat(perform(filter, "GET", "/").getStatus()).isEqualTo(200);
+
+        limit.acquire();
+        limit.acquire();
+        assertThat(perform(filter, "GET", "/").getStatus()).isEqualTo(503);
+        assertThat(perform(filter, "GET", "/actuator/health").getStatus()).isEqualTo(200);
+
+        assertThat(filter.shedCount(RequestPriority.SUBMISSION)).isEqualTo(1);
+        assertThat(filter.shedCount(RequestPriority.API)).isEqualTo(1);
+        assertThat(filter.shedCount(RequestPriority.PAGE)).isEqualTo(1);
+        assertThat(filter.shedCount(RequestPriority.CRITICAL)).isZero();
+        assertThat(filter.inFlight()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Returns the permit when the chain fails")
+    void releasesOnFailure() throws Exception {
+        LoadSheddingFilter filter = filter(limit(10));
+        FilterChain failing = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        try {
+            filter.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse(), failing);
+        } catch (IllegalStateException expected) {
+            // Propagated to the container
+        }
+
+        assertThat(filter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Holds the permit of an asynchronous request until it completes")
+    void holdsPermitForAsyncRequests() throws Exception {
+        LoadSheddingFilter filter = filter(limit(10));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/projects");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+        assertThat(filter.inFlight()).isEqualTo(1);
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertThat(filter.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,96 @@
+package com.niiamatey.portfolio.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent log-linear latency histogram in the style of HdrHistogram.
+ *
+ * Values below 128 ns are counted exactly; above that every power-of-two
+ * range is split into 64 linear sub-buckets, so any recorded value is
+ * reported to within 1/64 (about 1.6%) over the full range from nanoseconds
+ * to hours, in a fixed 30 KB of counters. Percentiles report the highest
+ * value of the bucket they fall in, so they never understate latency.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;
+    private static final int MAX_SHIFT = 56;
+
+    private final AtomicLongArray counts = new AtomicLongArray(LINEAR_LIMIT + MAX_SHIFT * SUB_BUCKET_COUNT);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one latency sample.
+     *
+     * @param nanos latency in nanoseconds; negative values are recorded as 0
+     */
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        total.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    long count() {
+        return total.sum();
+    }
+
+    long maxNanos() {
+        return max.get();
+    }
+
+    double meanNanos() {
+        long count = count();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Returns the latency at or below which the given percentage of samples fall.
+     *
+     * @param percentile between 0 and 100, e.g. 99.9
+     * @return the latency in nanoseconds, or 0 if nothing was recorded
+     */
+    long percentileNanos(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), maxNanos());
+            }
+        }
+        return maxNanos();
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        // Shift that brings the value into [64, 128)
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        if (shift > MAX_SHIFT) {
+            return LINEAR_LIMIT + MAX_SHIFT * SUB_BUCKET_COUNT - 1;
+        }
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
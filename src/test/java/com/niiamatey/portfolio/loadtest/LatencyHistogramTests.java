@@ -0,0 +1,72 @@
+package com.niiamatey.portfolio.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests histogram precision and the threshold gate of the load test harness.
+ */
+class LatencyHistogramTests {
+
+    @Test
+    @DisplayName("Buckets cover every value with under 2% relative error")
+    void bucketsArePrecise() {
+        for (long value : new long[] {0, 1, 127, 128, 129, 1_000, 65_535, 1_000_000, 123_456_789, 3_600_000_000_000L}) {
+            long upper = LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value));
+            assertThat(upper).isGreaterThanOrEqualTo(value);
+            assertThat((double) (upper - value)).isLessThanOrEqualTo(Math.max(1, value / 64.0));
+        }
+    }
+
+    @Test
+    @DisplayName("Reports percentiles, max and mean of recorded samples")
+    void reportsPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        // 1 ms to 1000 ms, one sample each
+        IntStream.rangeClosed(1, 1_000).forEach(ms -> histogram.record(ms * 1_000_000L));
+
+        assertThat(histogram.count()).isEqualTo(1_000);
+        assertThat(histogram.percentileNanos(50) / 1e6).isCloseTo(500, within(500 / 64.0));
+        assertThat(histogram.percentileNanos(99) / 1e6).isCloseTo(990, within(990 / 64.0));
+        assertThat(histogram.percentileNanos(99.9) / 1e6).isCloseTo(999, within(999 / 64.0));
+        assertThat(histogram.percentileNanos(100)).isEqualTo(1_000_000_000L);
+        assertThat(histogram.maxNanos()).isEqualTo(1_000_000_000L);
+        assertThat(histogram.meanNanos() / 1e6).isCloseTo(500.5, within(0.01));
+    }
+
+    @Test
+    @DisplayName("Fails the run when a tail latency, error or shed limit is exceeded")
+    void checksThresholds() {
+        LoadGenerator.ScenarioResult result = new LoadGenerator.ScenarioResult("portfolio");
+        IntStream.range(0, 990).forEach(i -> result.latency.record(2_000_000L));
+        IntStream.range(0, 10).forEach(i -> result.latency.record(80_000_000L));
+        result.errors.increment();
+        result.shed.add(10);
+        result.elapsedSeconds = 10;
+        Map<String, LoadGenerator.ScenarioResult> results = Map.of("portfolio", result);
+
+        assertThat(LatencyThresholds.of(Map.of(
+                "portfolio.p50", "5ms",
+                "portfolio.p99.9", "100ms",
+                "portfolio.error-rate", "0.01",
+                "portfolio.shed-rate", "0.02",
+                "portfolio.throughput", "90")).check(results)).isEmpty();
+
+        assertThat(LatencyThresholds.of(Map.of(
+                "portfolio.p99.9", "50ms",
+                "portfolio.error-rate", "0.0001",
+                "portfolio.shed-rate", "0.001",
+                "home.p99", "10ms")).check(results))
+                .hasSize(4)
+                .anyMatch(violation -> violation.startsWith("portfolio.p99.9"))
+                .anyMatch(violation -> violation.startsWith("portfolio.error-rate"))
+                .anyMatch(violation -> violation.startsWith("portfolio.shed-rate"))
+                .anyMatch(violation -> violation.startsWith("home.p99"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.niiamatey.portfolio.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Pass/fail limits for a load test run, read from a properties file.
+ *
+ * Keys are {@code <scenario>.<metric>}; the supported metrics are
+ * {@code p50}, {@code p99} and {@code p99.9} (maximum latency, e.g. "25ms"),
+ * {@code error-rate} (maximum fraction of failed requests),
+ * {@code shed-rate} (maximum fraction of requests shed with 503) and
+ * {@code throughput} (minimum requests served per second).
+ */
+final class LatencyThresholds {
+
+    private final Map<String, String> limits;
+
+    private LatencyThresholds(Map<String, String> limits) {
+        this.limits = limits;
+    }
+
+    static LatencyThresholds load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        Map<String, String> limits = new TreeMap<>();
+        properties.stringPropertyNames().forEach(key -> limits.put(key, properties.getProperty(key).trim()));
+        return new LatencyThresholds(limits);
+    }
+
+    static LatencyThresholds of(Map<String, String> limits) {
+        return new LatencyThresholds(new TreeMap<>(limits));
+    }
+
+    /**
+     * Checks the results against every configured limit.
+     *
+     * @return a description of each violated limit; empty if the run passed
+     */
+    List<String> check(Map<String, LoadGenerator.ScenarioResult> results) {
+        List<String> violations = new ArrayList<>();
+        limits.forEach((key, limit) -> {
+            int dot = key.indexOf('.');
+            if (dot < 0) {
+                throw new IllegalArgumentException("Threshold key must be <scenario>.<metric>: " + key);
+            }
+            String scenario = key.substring(0, dot);
+            String metric = key.substring(dot + 1);
+            LoadGenerator.ScenarioResult result = results.get(scenario);
+            if (result == null) {
+                violations.add(key + ": scenario '" + scenario + "' did not run");
+                return;
+            }
+            switch (metric) {
+                case "p50", "p99", "p99.9" -> {
+                    double percentile = Double.parseDouble(metric.substring(1));
+                    long actual = result.latency.percentileNanos(percentile);
+                    long allowed = DurationStyle.detectAndParse(limit).toNanos();
+                    if (actual > allowed) {
+                        violations.add(String.format("%s: %.2f ms exceeds %s", key, actual / 1e6, limit));
+                    }
+                }
+                case "error-rate" -> {
+                    if (result.errorRate() > Double.parseDouble(limit)) {
+                        violations.add(String.format("%s: %.4f exceeds %s", key, result.errorRate(), limit));
+                    }
+                }
+                case "shed-rate" -> {
+                    if (result.shedRate() > Double.parseDouble(limit)) {
+                        violations.add(String.format("%s: %.4f exceeds %s", key, result.shedRate(), limit));
+                    }
+                }
+                case "throughput" -> {
+                    if (result.throughput() < Double.parseDouble(limit)) {
+                        violations.add(String.format("%s: %.1f req/s below %s", key, result.throughput(), limit));
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown threshold metric: " + key);
+            }
+        });
+        return violations;
+    }
+}
@@ -0,0 +1,152 @@
+package com.niiamatey.portfolio.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load generator.
+ *
+ * Each scenario has a pacer thread that schedules requests at fixed intervals
+ * regardless of how fast earlier ones complete, and a shared pool of
+ * {@code concurrency} workers sends them. Latency is measured from the
+ * scheduled start rather than from when a worker picked the request up, so
+ * time spent queued behind a slow server is counted instead of silently
+ * omitted (coordinated omission).
+ *
+ * Requests the server sheds with 503 Service Unavailable are counted apart
+ * from errors and left out of the latency, which then describes the requests
+ * that were actually served.
+ */
+final class LoadGenerator {
+
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final HttpClient client;
+    private final int concurrency;
+    private final Duration requestTimeout;
+
+    LoadGenerator(HttpClient client, int concurrency, Duration requestTimeout) {
+        this.client = client;
+        this.concurrency = concurrency;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Runs all scenarios concurrently for the given duration.
+     *
+     * @return results per scenario name, in scenario order
+     */
+    Map<String, ScenarioResult> run(List<Scenario> scenarios, Duration duration) throws InterruptedException {
+        AtomicInteger workerIds = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, task -> {
+            Thread thread = new Thread(task, "load-worker-" + workerIds.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Map<String, ScenarioResult> results = new LinkedHashMap<>();
+        List<Thread> pacers = new ArrayList<>();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (Scenario scenario : scenarios) {
+            ScenarioResult result = new ScenarioResult(scenario.name());
+            results.put(scenario.name(), result);
+            long intervalNanos = (long) (1_000_000_000L / scenario.ratePerSecond());
+            Thread pacer = new Thread(() -> {
+                for (long intended = start; intended < end; intended += intervalNanos) {
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    long scheduled = intended;
+                    workers.execute(() -> send(scenario, result, scheduled));
+                }
+            }, "load-pacer-" + scenario.name());
+            pacers.add(pacer);
+            pacer.start();
+        }
+
+        for (Thread pacer : pacers) {
+            pacer.join();
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(requestTimeout.toMillis() + duration.toMillis(), TimeUnit.MILLISECONDS)) {
+            workers.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        results.values().forEach(result -> result.elapsedSeconds = seconds);
+        return results;
+    }
+
+    private void send(Scenario scenario, ScenarioResult result, long scheduledNanos) {
+        boolean ok;
+        try {
+            HttpResponse<Void> response = client.send(scenario.nextRequest(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == SERVICE_UNAVAILABLE && scenario.expectedStatus() != SERVICE_UNAVAILABLE) {
+                result.shed.increment();
+                return;
+            }
+            ok = response.statusCode() == scenario.expectedStatus();
+        } catch (IOException e) {
+            ok = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        result.latency.record(System.nanoTime() - scheduledNanos);
+        if (!ok) {
+            result.errors.increment();
+        }
+    }
+
+    /**
+     * Latency, error and shed counts collected for one scenario.
+     */
+    static final class ScenarioResult {
+        final String name;
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+        final LongAdder shed = new LongAdder();
+        double elapsedSeconds;
+
+        ScenarioResult(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Requests answered, including shed ones.
+         */
+        long requests() {
+            return latency.count() + shed.sum();
+        }
+
+        /**
+         * Requests answered other than by shedding, per second.
+         */
+        double throughput() {
+            return elapsedSeconds == 0 ? 0 : latency.count() / elapsedSeconds;
+        }
+
+        double errorRate() {
+            long requests = requests();
+            return requests == 0 ? 0 : (double) errors.sum() / requests;
+        }
+
+        double shedRate() {
+            long requests = requests();
+            return requests == 0 ? 0 : (double) shed.sum() / requests;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.niiamatey.portfolio.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.niiamatey.portfolio.PortfolioApplication;
+import com.niiamatey.portfolio.loadshedding.LoadSheddingFilter;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Self-contained load test: boots the application on a random port, drives
+ * the main endpoints at fixed arrival rates and fails if tail latency
+ * regresses past the limits in the thresholds file.
+ *
+ * Latency is measured by the client from each request's scheduled start. The
+ * report also gives the server-side latency of the requests that were served
+ * (not shed), read from the app's access log, which is what load shedding
+ * keeps bounded when the arrival rate is beyond what the server can handle.
+ *
+ * Run with {@code mvn -Ploadtest -DskipTests verify}. Settings are system properties:
+ * <ul>
+ *   <li>{@code loadtest.duration} - measured run length (default 30s)</li>
+ *   <li>{@code loadtest.warmup} - unmeasured warm-up before it (default 10s)</li>
+ *   <li>{@code loadtest.concurrency} - maximum requests in flight (default 16)</li>
+ *   <li>{@code loadtest.rates} - requests per second per scenario,
+ *       e.g. "home=50,portfolio=200,project=200,contact=10"</li>
+ *   <li>{@code loadtest.warmup-rates} - rates during the warm-up (default the same as loadtest.rates);
+ *       lower than the measured rates to see how the app takes a sudden spike</li>
+ *   <li>{@code loadtest.thresholds} - limits file; empty to only report</li>
+ *   <li>{@code loadtest.load-shedding} - whether the app sheds load (default true)</li>
+ *   <li>{@code loadtest.micro-cache} - whether the app caches whole responses (default true)</li>
+ *   <li>{@code loadtest.report} - JSON report path</li>
+ * </ul>
+ */
+public final class LoadTest {
+
+    private static final String DEFAULT_RATES = "home=50,portfolio=200,project=200,contact=10";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s"));
+        Duration warmup = DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s"));
+        int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+        Map<String, Double> rates = parseRates(System.getProperty("loadtest.rates", DEFAULT_RATES));
+        String warmupSpec = System.getProperty("loadtest.warmup-rates", "");
+        Map<String, Double> warmupRates = warmupSpec.isBlank() ? rates : parseRates(warmupSpec);
+        String thresholdsFile = System.getProperty("loadtest.thresholds",
+                "src/test/resources/loadtest/thresholds.properties");
+        Path report = Path.of(System.getProperty("loadtest.report", "target/loadtest-result.json"));
+        boolean loadShedding = Boolean.parseBoolean(System.getProperty("loadtest.load-shedding", "true"));
+        boolean microCache = Boolean.parseBoolean(System.getProperty("loadtest.micro-cache", "true"));
+
+        Path dataDirectory = Files.createTempDirectory("portfolio-loadtest");
+        ConfigurableApplicationContext context = SpringApplication.run(PortfolioApplication.class,
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.niiamatey.portfolio=WARN",
+                // Measure the app itself, not the per-client limits protecting it
+                "--portfolio.rate-limit.enabled=false",
+                "--portfolio.load-shedding.enabled=" + loadShedding,
+                "--portfolio.micro-cache.enabled=" + microCache,
+                "--portfolio.images.enabled=false",
+                "--portfolio.assets.output-directory=" + dataDirectory.resolve("assets"),
+                "--portfolio.contact.file=" + dataDirectory.resolve("messages.ndjson"),
+                "--portfolio.contact.dead-letter-file=" + dataDirectory.resolve("dead-letter.ndjson"),
+                "--portfolio.access-log.file=" + dataDirectory.resolve("access.log"),
+                "--portfolio.stats.file=" + dataDirectory.resolve("views.json"));
+        Map<String, LoadGenerator.ScenarioResult> results;
+        Instant measured;
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            List<String> projectIds = context.getBean(PortfolioRepository.class).findAllProjects().stream()
+                    .map(Project::getId)
+                    .toList();
+            URI base = URI.create("http://localhost:" + port);
+            List<Scenario> scenarios = scenarios(base, projectIds, rates);
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(REQUEST_TIMEOUT)
+                    .build();
+            LoadGenerator generator = new LoadGenerator(client, concurrency, REQUEST_TIMEOUT);
+
+            System.out.printf("Warming up for %s at %s...%n", warmup, warmupRates);
+            generator.run(scenarios(base, projectIds, warmupRates), warmup);
+            System.out.printf("Measuring for %s at %s with %d workers (load shedding %s, micro-cache %s)...%n",
+                    duration, rates, concurrency, loadShedding ? "on" : "off", microCache ? "on" : "off");
+            measured = Instant.now();
+            results = generator.run(scenarios, duration);
+            context.getBeanProvider(LoadSheddingFilter.class).ifAvailable(filter -> System.out.printf(
+                    "Concurrency limit at the end: %d%n", filter.limit()));
+        } finally {
+            // Also writes out the buffered access log
+            context.close();
+        }
+
+        Map<String, LatencyHistogram> served = serverLatency(dataDirectory.resolve("access.log"), measured);
+        printReport(results, served);
+        writeReport(report, results, served);
+        List<String> violations = thresholdsFile.isBlank()
+                ? List.of()
+                : LatencyThresholds.load(Path.of(thresholdsFile)).check(results);
+
+        if (!violations.isEmpty()) {
+            System.out.println("Load test FAILED thresholds from " + thresholdsFile + ":");
+            violations.forEach(violation -> System.out.println("  " + violation));
+            System.exit(1);
+        }
+        System.out.println("Load test passed");
+        System.exit(0);
+    }
+
+    private static List<Scenario> scenarios(URI base, List<String> projectIds, Map<String, Double> rates) {
+        AtomicInteger nextProject = new AtomicInteger();
+        String contactForm = form(Map.of(
+                "name", "Load Test",
+                "email", "loadtest@example.com",
+                "subject", "Load test message",
+                "message", "This message was sent by the load test harness."));
+
+        Map<String, Scenario> all = new LinkedHashMap<>();
+        all.put("home", new Scenario("home",
+                () -> get(base.resolve("/")), 200, rates.getOrDefault("home", 0.0)));
+        all.put("portfolio", new Scenario("portfolio",
+                () -> get(base.resolve("/api/v1/portfolio")), 200, rates.getOrDefault("portfolio", 0.0)));
+        all.put("project", new Scenario("project",
+                () -> get(base.resolve("/api/v1/projects/"
+                        + projectIds.get(Math.floorMod(nextProject.getAndIncrement(), projectIds.size())))),
+                200, rates.getOrDefault("project", 0.0)));
+        all.put("contact", new Scenario("contact",
+                () -> HttpRequest.newBuilder(base.resolve("/contact"))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(contactForm))
+                        .build(),
+                302, rates.getOrDefault("contact", 0.0)));
+
+        for (String name : rates.keySet()) {
+            if (!all.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown scenario '" + name + "'; expected one of " + all.keySet());
+            }
+        }
+        return all.values().stream().filter(scenario -> scenario.ratePerSecond() > 0).toList();
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private static String form(Map<String, String> fields) {
+        StringBuilder body = new StringBuilder();
+        fields.forEach((name, value) -> {
+            if (body.length() > 0) {
+                body.append('&');
+            }
+            body.append(name).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        });
+        return body.toString();
+    }
+
+    static Map<String, Double> parseRates(String spec) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected <scenario>=<requests per second>: " + entry);
+            }
+            rates.put(parts[0].trim(), Double.parseDouble(parts[1].trim()));
+        }
+        return rates;
+    }
+
+    /**
+     * Reads the server-side duration of the requests served from the given
+     * time on, by scenario. Shed requests and access log lines dropped under
+     * load are not included.
+     */
+    private static Map<String, LatencyHistogram> serverLatency(Path accessLog, Instant from) throws IOException {
+        Map<String, LatencyHistogram> latency = new LinkedHashMap<>();
+        if (!Files.exists(accessLog)) {
+            return latency;
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        try (Stream<String> lines = Files.lines(accessLog)) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                JsonNode entry = mapper.readTree(line);
+                if (entry.path("status").asInt() == 503 || Instant.parse(entry.path("time").asText()).isBefore(from)) {
+                    continue;
+                }
+                String scenario = scenarioOf(entry.path("method").asText(), entry.path("path").asText());
+                if (scenario != null) {
+                    latency.computeIfAbsent(scenario, k -> new LatencyHistogram())
+                            .record(entry.path("durationMicros").asLong() * 1_000);
+                }
+            }
+        }
+        return latency;
+    }
+
+    private static String scenarioOf(String method, String path) {
+        if (path.equals("/")) {
+            return "home";
+        } else if (path.equals("/api/v1/portfolio")) {
+            return "portfolio";
+        } else if (path.startsWith("/api/v1/projects/")) {
+            return "project";
+        } else if (method.equals("POST") && path.equals("/contact")) {
+            return "contact";
+        }
+        return null;
+    }
+
+    private static void printReport(Map<String, LoadGenerator.ScenarioResult> results,
+                                    Map<String, LatencyHistogram> served) {
+        System.out.printf("%n%-10s %9s %8s %8s %10s %10s %10s %10s %10s%n",
+                "scenario", "requests", "errors", "shed", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (LoadGenerator.ScenarioResult result : results.values()) {
+            LatencyHistogram latency = result.latency;
+            System.out.printf("%-10s %9d %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    result.name, result.requests(), result.errors.sum(), result.shed.sum(), result.throughput(),
+                    latency.percentileNanos(50) / 1e6, latency.percentileNanos(99) / 1e6,
+                    latency.percentileNanos(99.9) / 1e6, latency.maxNanos() / 1e6);
+        }
+        if (!served.isEmpty()) {
+            System.out.printf("%nServed requests, measured by the server%n");
+            System.out.printf("%-10s %9s %10s %10s %10s%n", "scenario", "requests", "p50 ms", "p99 ms", "max ms");
+            for (String name : results.keySet()) {
+                LatencyHistogram latency = served.get(name);
+                if (latency != null) {
+                    System.out.printf("%-10s %9d %10.2f %10.2f %10.2f%n", name, latency.count(),
+                            latency.percentileNanos(50) / 1e6, latency.percentileNanos(99) / 1e6,
+                            latency.maxNanos() / 1e6);
+                }
+            }
+        }
+        System.out.println();
+    }
+
+    private static void writeReport(Path file, Map<String, LoadGenerator.ScenarioResult> results,
+                                    Map<String, LatencyHistogram> served) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (LoadGenerator.ScenarioResult result : results.values()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("requests", result.requests());
+            entry.put("errors", result.errors.sum());
+            entry.put("shed", result.shed.sum());
+            entry.put("throughput", result.throughput());
+            entry.put("meanMs", result.latency.meanNanos() / 1e6);
+            entry.put("p50Ms", result.latency.percentileNanos(50) / 1e6);
+            entry.put("p99Ms", result.latency.percentileNanos(99) / 1e6);
+            entry.put("p999Ms", result.latency.percentileNanos(99.9) / 1e6);
+            entry.put("maxMs", result.latency.maxNanos() / 1e6);
+            LatencyHistogram server = served.get(result.name);
+            if (server != null) {
+                entry.put("serverP50Ms", server.percentileNanos(50) / 1e6);
+                entry.put("serverP99Ms", server.percentileNanos(99) / 1e6);
+            }
+            report.put(result.name, entry);
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+}
@@ -0,0 +1,38 @@
+package com.niiamatey.portfolio.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.Supplier;
+
+/**
+ * One kind of request the load generator sends, at a fixed arrival rate.
+ */
+final class Scenario {
+
+    private final String name;
+    private final Supplier<HttpRequest> requests;
+    private final int expectedStatus;
+    private final double ratePerSecond;
+
+    Scenario(String name, Supplier<HttpRequest> requests, int expectedStatus, double ratePerSecond) {
+        this.name = name;
+        this.requests = requests;
+        this.expectedStatus = expectedStatus;
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    String name() {
+        return name;
+    }
+
+    HttpRequest nextRequest() {
+        return requests.get();
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+
+    double ratePerSecond() {
+        return ratePerSecond;
+    }
+}
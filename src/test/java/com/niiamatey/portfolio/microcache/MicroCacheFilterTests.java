@@ -0,0 +1,224 @@
+package com.niiamatey.portfolio.microcache;
+
+import com.niiamatey.portfolio.config.MicroCacheProperties;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests keying, invalidation, eviction and single-flight rendering of the response micro-cache.
+ */
+class MicroCacheFilterTests {
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private final AtomicLong version = new AtomicLong(1);
+    private final AtomicLong clock = new AtomicLong();
+
+    private MicroCacheFilter filter(MicroCacheProperties properties) {
+        PortfolioMetrics metrics = new PortfolioMetrics(new SimpleMeterRegistry());
+        return new MicroCacheFilter(properties, Set.of("portfolio_flash"), version::get, metrics.cache("response"),
+                clock::get);
+    }
+
+    private MicroCacheFilter filter() {
+        return filter(new MicroCacheProperties());
+    }
+
+    /**
+     * Renders a body naming the request, the data version and the render count.
+     */
+    private HttpServlet servlet(CountDownLatch release) {
+        return new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                int render = renders.incrementAndGet();
+                if (release != null) {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                if (request.getParameter("cookie") != null) {
+                    response.addHeader("Set-Cookie", "visitor=1");
+                }
+                response.setContentType("text/plain");
+                response.setHeader("ETag", "\"v" + version.get() + "\"");
+                response.getWriter().write(request.getRequestURI() + " v" + version.get() + " #" + render);
+            }
+        };
+    }
+
+    private MockHttpServletResponse perform(MicroCacheFilter filter, MockHttpServletRequest request,
+                                            CountDownLatch release) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(servlet(release)));
+        return response;
+    }
+
+    private MockHttpServletResponse get(MicroCacheFilter filter, String path) throws Exception {
+        return perform(filter, request(path), null);
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            request.setRequestURI(path.substring(0, query));
+            request.setQueryString(path.substring(query + 1));
+            for (String parameter : path.substring(query + 1).split("&")) {
+                String[] pair = parameter.split("=", 2);
+                request.addParameter(pair[0], pair.length > 1 ? pair[1] : "");
+            }
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("Repeated GETs should be served from one render, keyed by path, query and encoding")
+    void shouldServeRepeatedRequestsFromCache() throws Exception {
+        MicroCacheFilter filter = filter();
+
+        MockHttpServletResponse first = get(filter, "/api/v1/projects?type=Backend");
+        MockHttpServletResponse second = get(filter, "/api/v1/projects?type=Backend");
+        assertThat(first.getContentAsString()).isEqualTo("/api/v1/projects v1 #1");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getContentType()).startsWith("text/plain");
+        assertThat(second.getHeader("ETag")).isEqualTo("\"v1\"");
+
+        assertThat(get(filter, "/api/v1/projects?type=Data").getContentAsString()).endsWith("#2");
+        MockHttpServletRequest cbor = request("/api/v1/projects?type=Backend");
+        cbor.addHeader("Accept", "application/cbor");
+        assertThat(perform(filter, cbor, null).getContentAsString()).endsWith("#3");
+        assertThat(filter.cachedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("A matching If-None-Match should be answered with 304 from the cache")
+    void shouldAnswerConditionalRequestsFromCache() throws Exception {
+        MicroCacheFilter filter = filter();
+        get(filter, "/api/v1/skills");
+
+        MockHttpServletRequest conditional = request("/api/v1/skills");
+        conditional.addHeader("If-None-Match", "W/\"v1\"");
+        MockHttpServletResponse response = perform(filter, conditional, null);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Publishing new data and expiry should drop cached responses")
+    void shouldInvalidateOnNewVersionAndExpiry() throws Exception {
+        MicroCacheFilter filter = filter();
+        get(filter, "/");
+        get(filter, "/about");
+
+        version.set(2);
+        assertThat(get(filter, "/").getContentAsString()).isEqualTo("/ v2 #3");
+        assertThat(filter.cachedCount()).isEqualTo(1);
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(get(filter, "/").getContentAsString()).isEqualTo("/ v2 #4");
+
+        filter.invalidateAll();
+        assertThat(filter.cachedCount()).isZero();
+        assertThat(filter.cachedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Other methods, unlisted paths, sessions, flash and set cookies and streams should bypass the cache")
+    void shouldBypassUncacheableRequests() throws Exception {
+        MicroCacheFilter filter = filter();
+
+        get(filter, "/images/photo.jpg");
+        get(filter, "/?cookie=1");
+        MockHttpServletRequest post = request("/");
+        post.setMethod("POST");
+        perform(filter, post, null);
+        MockHttpServletRequest session = request("/");
+        session.setRequestedSessionId("abc");
+        perform(filter, session, null);
+        MockHttpServletRequest flash = request("/");
+        flash.setCookies(new Cookie("portfolio_flash", "CONTACT_SENT.1.abc"));
+        perform(filter, flash, null);
+        MockHttpServletRequest ndjson = request("/api/v1/projects");
+        ndjson.addHeader("Accept", "application/x-ndjson");
+        perform(filter, ndjson, null);
+
+        assertThat(filter.cachedCount()).isZero();
+        assertThat(get(filter, "/?cookie=1").getHeader("Set-Cookie")).isEqualTo("visitor=1");
+    }
+
+    @Test
+    @DisplayName("Least recently used responses should be evicted beyond the size limit")
+    void shouldEvictLeastRecentlyUsed() throws Exception {
+        MicroCacheProperties properties = new MicroCacheProperties();
+        properties.setMaxSize(DataSize.ofBytes(1_000));
+        MicroCacheFilter filter = filter(properties);
+
+        for (int i = 0; i < 20; i++) {
+            get(filter, "/api/v1/projects/" + i);
+            get(filter, "/api/v1/projects/0");
+        }
+
+        assertThat(filter.cachedBytes()).isLessThanOrEqualTo(1_000);
+        assertThat(filter.cachedCount()).isBetween(2, 5);
+        assertThat(get(filter, "/api/v1/projects/0").getContentAsString()).endsWith("#1");
+    }
+
+    @Test
+    @DisplayName("Concurrent misses for the same key should share a single render")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        MicroCacheFilter filter = filter();
+        CountDownLatch release = new CountDownLatch(1);
+        int requests = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                responses.add(executor.submit(() -> perform(filter, request("/"), release)));
+            }
+            // Let every request reach the filter before the first render completes
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (renders.get() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<MockHttpServletResponse> response : responses) {
+                assertThat(response.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("/ v1 #1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(renders).hasValue(1);
+        assertThat(filter.coalescedCount()).isEqualTo(requests - 1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.niiamatey.portfolio.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests cursor pagination, including resuming after new data was published.
+ */
+class PaginationTests {
+
+    private static final Function<String, String> KEY = Function.identity();
+
+    private static List<String> items(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "item-" + i).toList();
+    }
+
+    @Test
+    @DisplayName("Walks the whole list in pages without gaps or repeats")
+    void walksAllPages() {
+        List<String> items = items(45);
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Page<String> page = Pagination.page(items, 1, null, cursor, 10, KEY);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(5);
+        assertThat(seen).isEqualTo(items);
+    }
+
+    @Test
+    @DisplayName("Defaults and caps the page size")
+    void limitsPageSize() {
+        List<String> items = items(500);
+
+        assertThat(Pagination.page(items, 1, null, null, null, KEY).getItems()).hasSize(Pagination.DEFAULT_LIMIT);
+        assertThat(Pagination.page(items, 1, null, null, 10_000, KEY).getItems()).hasSize(Pagination.MAX_LIMIT);
+        assertThat(Pagination.page(items, 1, null, null, 0, KEY).getItems()).hasSize(1);
+        assertThat(Pagination.page(List.of(), 1, null, null, 5, KEY).getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Resumes after the last seen key when entries were inserted before it in a newer version")
+    void resumesByKeyAfterPublish() {
+        List<String> v1 = items(6);
+        Page<String> first = Pagination.page(v1, 1, null, null, 3, KEY);
+        assertThat(first.getItems()).containsExactly("item-0", "item-1", "item-2");
+
+        List<String> v2 = new ArrayList<>(v1);
+        v2.add(0, "new-a");
+        v2.add(1, "new-b");
+        Page<String> second = Pagination.page(v2, 2, null, first.getNextCursor(), 3, KEY);
+
+        assertThat(second.getItems()).containsExactly("item-3", "item-4", "item-5");
+    }
+
+    @Test
+    @DisplayName("Falls back to the offset for lists without keys")
+    void resumesByOffsetWithoutKey() {
+        Page<String> first = Pagination.page(items(6), 1, null, null, 4, null);
+        Page<String> second = Pagination.page(items(6), 2, null, first.getNextCursor(), 4, null);
+
+        assertThat(second.getItems()).containsExactly("item-4", "item-5");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Rejects a cursor reused with different filters with 400")
+    void rejectsCursorForOtherFilters() {
+        List<String> items = items(10);
+        Page<String> first = Pagination.page(items, 1, "type=web&tech=java", null, 3, KEY);
+
+        assertThat(Pagination.page(items, 1, "type=web&tech=java", first.getNextCursor(), 3, KEY).getItems())
+                .containsExactly("item-3", "item-4", "item-5");
+        assertThatThrownBy(() -> Pagination.page(items, 1, "type=web&tech=python", first.getNextCursor(), 3, KEY))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("filters");
+        assertThatThrownBy(() -> Pagination.page(items, 1, null, first.getNextCursor(), 3, KEY))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    @DisplayName("Rejects malformed cursors with 400")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> Pagination.page(items(3), 1, null, "%%%", 2, KEY))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> Pagination.page(items(3), 1, null, "bm9wZQ", 2, KEY))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+}
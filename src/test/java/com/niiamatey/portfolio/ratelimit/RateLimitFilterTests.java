@@ -0,0 +1,101 @@
+package com.niiamatey.portfolio.ratelimit;
+
+import com.niiamatey.portfolio.config.RateLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests rule matching, 429 responses and client resolution of the rate limit filter.
+ */
+class RateLimitFilterTests {
+
+    private static RateLimitProperties properties(int trustedProxies) {
+        RateLimitProperties.Rule contact = new RateLimitProperties.Rule();
+        contact.setPath("/contact");
+        contact.setMethods(List.of("post"));
+        contact.setCapacity(2);
+        contact.setRefillTokens(1);
+        contact.setRefillPeriod(Duration.ofMinutes(5));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setTableSize(64);
+        properties.setTrustedProxies(trustedProxies);
+        properties.setRules(List.of(contact));
+        return properties;
+    }
+
+    private static MockHttpServletResponse perform(RateLimitFilter filter, String method, String path,
+                                                   String remoteAddr, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    @DisplayName("Rejects requests over the limit with 429 and Retry-After")
+    void rejectsOverLimit() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(properties(0));
+
+        assertThat(perform(filter, "POST", "/contact", "10.0.0.1", null).getStatus()).isEqualTo(200);
+        assertThat(perform(filter, "POST", "/contact", "10.0.0.1", null).getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse limited = perform(filter, "POST", "/contact", "10.0.0.1", null);
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader("Retry-After")).isEqualTo("300");
+        assertThat(limited.getContentAsString()).contains("Too many requests");
+        assertThat(filter.limitedCount()).isEqualTo(1);
+
+        assertThat(perform(filter, "POST", "/contact", "10.0.0.2", null).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Only limits requests matching a rule's path and method")
+    void ignoresUnmatchedRequests() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(properties(0));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(perform(filter, "GET", "/contact", "10.0.0.1", null).getStatus()).isEqualTo(200);
+            assertThat(perform(filter, "POST", "/api/v1/skills", "10.0.0.1", null).getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Ignores X-Forwarded-For unless proxies are trusted")
+    void ignoresSpoofedForwardedFor() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(properties(0));
+
+        perform(filter, "POST", "/contact", "10.0.0.1", "1.1.1.1");
+        perform(filter, "POST", "/contact", "10.0.0.1", "2.2.2.2");
+
+        assertThat(perform(filter, "POST", "/contact", "10.0.0.1", "3.3.3.3").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Resolves the client from the entry added by the trusted proxy")
+    void usesTrustedForwardedFor() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(properties(1));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/contact");
+        request.setRemoteAddr("10.0.0.254");
+        request.addHeader("X-Forwarded-For", "6.6.6.6, 203.0.113.7");
+        assertThat(filter.clientKey(request)).isEqualTo("203.0.113.7");
+
+        perform(filter, "POST", "/contact", "10.0.0.254", "203.0.113.7");
+        perform(filter, "POST", "/contact", "10.0.0.254", "203.0.113.7");
+        assertThat(perform(filter, "POST", "/contact", "10.0.0.254", "203.0.113.7").getStatus()).isEqualTo(429);
+        assertThat(perform(filter, "POST", "/contact", "10.0.0.254", "203.0.113.8").getStatus()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,182 @@
+package com.niiamatey.portfolio.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests token accounting, eviction and lock-freedom of the rate limiter.
+ */
+class TokenBucketRateLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+
+    private TokenBucketRateLimiter limiter(int capacity, int refillTokens, Duration period, int tableSize) {
+        return new TokenBucketRateLimiter(capacity, refillTokens, period, tableSize, clock::get);
+    }
+
+    @Test
+    @DisplayName("Allows a burst up to capacity, then reports the wait for the next token")
+    void limitsBurst() {
+        TokenBucketRateLimiter limiter = limiter(3, 1, Duration.ofSeconds(2), 64);
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(2_000);
+
+        clock.addAndGet(1_500);
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(500);
+
+        clock.addAndGet(500);
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Refills to capacity but never beyond it")
+    void refillIsCapped() {
+        TokenBucketRateLimiter limiter = limiter(2, 1, Duration.ofSeconds(1), 64);
+        limiter.tryAcquire("client");
+        limiter.tryAcquire("client");
+
+        clock.addAndGet(60_000);
+
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isPositive();
+    }
+
+    @Test
+    @DisplayName("A client retrying faster than the refill still gets tokens at the configured rate")
+    void subIntervalRetriesAccrueTokens() {
+        // Half a milli-token per millisecond: no single retry gap earns a whole milli-token
+        TokenBucketRateLimiter limiter = limiter(1, 1, Duration.ofSeconds(2), 64);
+        assertThat(limiter.tryAcquire("client")).isZero();
+
+        int retries = 0;
+        while (limiter.tryAcquire("client") != 0) {
+            clock.incrementAndGet();
+            retries++;
+            assertThat(retries).isLessThanOrEqualTo(2_000);
+        }
+        assertThat(retries).isEqualTo(2_000);
+
+        // Over a longer run at an uneven cadence, every refill is granted
+        int allowed = 0;
+        for (int elapsed = 7; elapsed < 20_000; elapsed += 7) {
+            clock.addAndGet(7);
+            if (limiter.tryAcquire("client") == 0) {
+                allowed++;
+            }
+        }
+        assertThat(allowed).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Keeps separate buckets per client")
+    void separatesClients() {
+        TokenBucketRateLimiter limiter = limiter(1, 1, Duration.ofMinutes(1), 64);
+
+        assertThat(limiter.tryAcquire("192.168.1.10")).isZero();
+        assertThat(limiter.tryAcquire("192.168.1.10")).isPositive();
+        assertThat(limiter.tryAcquire("192.168.1.11")).isZero();
+    }
+
+    @Test
+    @DisplayName("Memory stays bounded when clients far outnumber table slots")
+    void boundedMemory() {
+        TokenBucketRateLimiter limiter = limiter(1, 1, Duration.ofMinutes(1), 16);
+
+        for (int i = 0; i < 100_000; i++) {
+            clock.incrementAndGet();
+            limiter.tryAcquire("203.0.113." + i);
+        }
+
+        assertThat(limiter.tableSize()).isEqualTo(16);
+        // The most recent client still has its bucket after the flood
+        assertThat(limiter.tryAcquire("203.0.113.99999")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Rejects capacities the packed slot cannot represent")
+    void validatesCapacity() {
+        assertThatThrownBy(() -> limiter(TokenBucketRateLimiter.MAX_CAPACITY + 1, 1, Duration.ofSeconds(1), 16))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> limiter(0, 1, Duration.ofSeconds(1), 16))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Concurrent callers never exceed the budget and never block")
+    void concurrentCallersDoNotBlock() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        boolean contentionMonitoring = threads.isThreadContentionMonitoringSupported();
+        if (contentionMonitoring) {
+            threads.setThreadContentionMonitoringEnabled(true);
+        }
+
+        // Frozen clock: exactly the burst capacity may be granted per client
+        int capacity = 100;
+        int clients = 8;
+        TokenBucketRateLimiter limiter = limiter(capacity, 1, Duration.ofHours(1), 1_024);
+        int threadCount = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        int callsPerThread = 50_000;
+        LongAdder allowed = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < callsPerThread; i++) {
+                    if (limiter.tryAcquire("client-" + (i % clients)) == 0) {
+                        allowed.increment();
+                    }
+                }
+            }, "rate-limit-stress-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        long blocked = 0;
+        for (Thread worker : workers) {
+            worker.join(30_000);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        if (contentionMonitoring) {
+            for (Thread worker : workers) {
+                ThreadInfo info = threads.getThreadInfo(worker.getId());
+                if (info != null) {
+                    blocked += info.getBlockedCount();
+                }
+            }
+        }
+
+        assertThat(allowed.sum()).isEqualTo((long) capacity * clients);
+        assertThat(blocked).isZero();
+        if (Boolean.getBoolean("benchmark")) {
+            long calls = (long) threadCount * callsPerThread;
+            System.out.printf("Rate limiter: %d threads, %d calls, %.1f M decisions/s%n",
+                    threadCount, calls, calls / (elapsedNanos / 1e9) / 1e6);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.niiamatey.portfolio.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.niiamatey.portfolio.config.PortfolioDataProperties;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests loading, validating and hot-reloading external portfolio data.
+ */
+class PortfolioDataWatcherTests {
+
+    @TempDir
+    Path directory;
+
+    private ValidatorFactory validatorFactory;
+    private PortfolioRepository repository;
+    private PortfolioDataWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        repository = new PortfolioRepository(List.of(), List.of(), List.of());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (watcher != null) {
+            watcher.destroy();
+        }
+        validatorFactory.close();
+    }
+
+    private PortfolioDataWatcher watcher(Path location, boolean watch) {
+        PortfolioDataProperties properties = new PortfolioDataProperties();
+        properties.setLocation(location.toString());
+        properties.setWatch(watch);
+        properties.setReloadDelay(Duration.ofMillis(50));
+        PortfolioDataLoader loader = new PortfolioDataLoader(new ObjectMapper(), validatorFactory.getValidator());
+        return new PortfolioDataWatcher(repository, loader, properties);
+    }
+
+    private static String yaml(String... projectIds) {
+        StringBuilder yaml = new StringBuilder("projects:\n");
+        for (String id : projectIds) {
+            yaml.append("  - id: ").append(id).append("\n")
+                .append("    title: Project ").append(id).append("\n")
+                .append("    technologies: [Java]\n");
+        }
+        return yaml.toString();
+    }
+
+    @Test
+    @DisplayName("Startup load should publish data merged from a directory")
+    void startupLoadShouldMergeDirectory() throws Exception {
+        Files.writeString(directory.resolve("a-projects.yml"), yaml("alpha"));
+        Files.writeString(directory.resolve("b-skills.json"),
+                "{\"skills\": [{\"category\": \"Languages\", \"technologies\": [\"Java\"]}]}");
+        Files.writeString(directory.resolve("notes.txt"), "ignored");
+
+        watcher = watcher(directory, false);
+        watcher.afterPropertiesSet();
+
+        assertThat(repository.version()).isEqualTo(2);
+        assertThat(repository.findProjectById("alpha")).isPresent();
+        assertThat(repository.findAllSkills()).hasSize(1);
+        // Technology names read from different files share one instance
+        assertThat(repository.findAllSkills().get(0).getTechnologies().get(0))
+                .isSameAs(repository.findProjectById("alpha").orElseThrow().getTechnologies().get(0));
+    }
+
+    @Test
+    @DisplayName("Invalid data should fail startup and be skipped on reload")
+    void invalidDataShouldBeRejected() throws Exception {
+        Path file = directory.resolve("portfolio.yml");
+        Files.writeString(file, "projects:\n  - title: Missing id\n");
+        assertThatThrownBy(() -> watcher(file, false).afterPropertiesSet())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Project id is required");
+
+        Files.writeString(file, yaml("alpha"));
+        watcher = watcher(file, false);
+        watcher.afterPropertiesSet();
+        long version = repository.version();
+
+        Files.writeString(file, yaml("alpha", "alpha"));
+        assertThat(watcher.reload()).isFalse();
+        assertThat(repository.version()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("Changes to the watched file should publish a new version")
+    void fileChangeShouldPublishNewVersion() throws Exception {
+        Path file = directory.resolve("portfolio.yml");
+        Files.writeString(file, yaml("alpha"));
+        watcher = watcher(file, true);
+        watcher.afterPropertiesSet();
+        long version = repository.version();
+
+        Files.writeString(file, yaml("alpha", "beta"));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (repository.version() == version && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(repository.version()).isGreaterThan(version);
+        assertThat(repository.findProjectById("beta")).isPresent();
+    }
+}
@@ -0,0 +1,205 @@
+package com.niiamatey.portfolio.repository;
+
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the indexed in-memory portfolio repository.
+ */
+class PortfolioRepositoryTests {
+
+    private static Project project(int i) {
+        return Project.builder()
+                .id("project-" + i)
+                .title("Project " + i)
+                .type(i % 2 == 0 ? "Microservice" : "Machine Learning")
+                .technologies(List.of("Java", "Tech " + (i % 100)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Indexes should answer lookups over a large catalog")
+    void indexesShouldHandleLargeCatalog() {
+        List<Project> projects = IntStream.range(0, 50_000).mapToObj(PortfolioRepositoryTests::project).toList();
+        PortfolioRepository repository = new PortfolioRepository(List.of(), projects, List.of());
+
+        assertThat(repository.findProjectById("project-49999")).contains(projects.get(49_999));
+        assertThat(repository.findProjectById("missing")).isEmpty();
+        assertThat(repository.findProjectsByType("MICROSERVICE")).hasSize(25_000);
+        assertThat(repository.findProjectsByTechnology("tech 7")).hasSize(500);
+        assertThat(repository.findProjectsByTechnology("java")).hasSize(50_000);
+        assertThat(repository.findProjects("machine learning", "Tech 7")).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("Multi-technology filters should match all or any of the technologies")
+    void technologyFiltersShouldCombineTechnologies() {
+        List<Project> projects = IntStream.range(0, 50_000).mapToObj(PortfolioRepositoryTests::project).toList();
+        PortfolioSnapshot snapshot = new PortfolioSnapshot(1, List.of(), projects, List.of());
+
+        assertThat(snapshot.findProjects(null, List.of("JAVA", "tech 7"), TechnologyMatch.ALL))
+                .hasSize(500).startsWith(projects.get(7), projects.get(107));
+        assertThat(snapshot.findProjects(null, List.of("Tech 7", "Tech 8"), TechnologyMatch.ALL)).isEmpty();
+        assertThat(snapshot.findProjects(null, List.of("Tech 7", "Tech 8"), TechnologyMatch.ANY))
+                .hasSize(1_000).startsWith(projects.get(7), projects.get(8), projects.get(107));
+        assertThat(snapshot.findProjects("machine learning", List.of("Tech 7", "Tech 8"), TechnologyMatch.ANY))
+                .hasSize(500).allMatch(p -> p.getType().equals("Machine Learning"));
+        assertThat(snapshot.findProjects(null, List.of(), TechnologyMatch.ALL)).hasSize(50_000);
+    }
+
+    @Test
+    @DisplayName("Unknown technologies should empty an all-filter and be ignored by an any-filter")
+    void unknownTechnologiesShouldMatchNothing() {
+        PortfolioSnapshot snapshot = new PortfolioSnapshot(1, List.of(), List.of(project(1), project(2)), List.of());
+
+        assertThat(snapshot.findProjects(null, List.of("Java", "Cobol"), TechnologyMatch.ALL)).isEmpty();
+        assertThat(snapshot.findProjects(null, List.of("Cobol", "Tech 2"), TechnologyMatch.ANY))
+                .containsExactly(project(2));
+        assertThat(snapshot.findProjects(null, List.of("Cobol"), TechnologyMatch.ANY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Experiences should be indexed by type")
+    void experiencesShouldBeIndexedByType() {
+        List<Experience> experiences = List.of(
+                Experience.builder().title("Engineer").type(Experience.ExperienceType.WORK).build(),
+                Experience.builder().title("Degree").type(Experience.ExperienceType.EDUCATION).build(),
+                Experience.builder().title("Intern").type(Experience.ExperienceType.WORK).build());
+        PortfolioRepository repository = new PortfolioRepository(List.of(), List.of(), experiences);
+
+        assertThat(repository.findExperiencesByType(Experience.ExperienceType.WORK))
+                .extracting(Experience::getTitle).containsExactly("Engineer", "Intern");
+        assertThat(repository.findExperiencesByType(Experience.ExperienceType.OTHER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Duplicate project ids should be rejected at load time")
+    void duplicateIdsShouldBeRejected() {
+        List<Project> projects = new ArrayList<>(List.of(project(1), project(1)));
+
+        assertThatThrownBy(() -> new PortfolioRepository(List.of(), projects, List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("project-1");
+    }
+
+    @Test
+    @DisplayName("Publishing should swap in a new snapshot with a higher version")
+    void publishShouldSwapSnapshot() {
+        PortfolioRepository repository = new PortfolioRepository(List.of(), List.of(project(1)), List.of());
+        PortfolioSnapshot before = repository.snapshot();
+
+        PortfolioSnapshot after = repository.publish(List.of(), List.of(project(2), project(3)), List.of());
+
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(repository.snapshot()).isSameAs(after);
+        assertThat(repository.findProjectById("project-1")).isEmpty();
+        assertThat(before.findProjectById("project-1")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Invalid data should not replace the current snapshot")
+    void invalidPublishShouldKeepSnapshot() {
+        PortfolioRepository repository = new PortfolioRepository(List.of(), List.of(project(1)), List.of());
+        PortfolioSnapshot before = repository.snapshot();
+
+        assertThatThrownBy(() -> repository.publish(List.of(), List.of(project(2), project(2)), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(repository.snapshot()).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("Applied changes should be indexed like the same data built from scratch")
+    void appliedChangesShouldMatchFullRebuild() {
+        List<Project> projects = IntStream.range(0, 10_000).mapToObj(PortfolioRepositoryTests::project).toList();
+        PortfolioRepository repository = new PortfolioRepository(List.of(), projects, List.of());
+        PortfolioSnapshot before = repository.snapshot();
+        Project moved = Project.builder().id("project-5").title("Moved").type("Full-Stack")
+                .technologies(List.of("Kotlin", "Tech 7")).build();
+        PortfolioChanges changes = new PortfolioChanges();
+        changes.upsertProject(moved);
+        changes.deleteProject("project-7");
+        changes.deleteProject("missing");
+        IntStream.range(10_000, 10_100).mapToObj(PortfolioRepositoryTests::project).forEach(changes::upsertProject);
+
+        PortfolioSnapshot after = repository.apply(changes);
+
+        List<Project> expected = new ArrayList<>(IntStream.range(0, 10_100).mapToObj(PortfolioRepositoryTests::project).toList());
+        expected.set(5, moved);
+        expected.remove(7);
+        PortfolioSnapshot rebuilt = new PortfolioSnapshot(1, List.of(), expected, List.of());
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getProjects()).isEqualTo(expected);
+        assertThat(after.findProjectById("project-5")).contains(moved);
+        assertThat(after.findProjectById("project-7")).isEmpty();
+        assertThat(after.findProjectById("project-10099")).isPresent();
+        for (String type : List.of("Microservice", "machine learning", "full-stack")) {
+            assertThat(after.findProjectsByType(type)).isEqualTo(rebuilt.findProjectsByType(type));
+        }
+        for (String technology : List.of("Java", "Tech 5", "tech 7", "Kotlin")) {
+            assertThat(after.findProjectsByTechnology(technology)).isEqualTo(rebuilt.findProjectsByTechnology(technology));
+        }
+        assertThat(after.findProjects(null, List.of("Tech 7", "Kotlin"), TechnologyMatch.ANY))
+                .isEqualTo(rebuilt.findProjects(null, List.of("Tech 7", "Kotlin"), TechnologyMatch.ANY));
+        assertThat(after.toString()).isEqualTo(rebuilt.toString().replace("v1", "v2"));
+        assertThat(before.findProjectById("project-7")).isPresent();
+        assertThat(before.findProjectsByTechnology("Kotlin")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Skills and experiences should be replaced, appended and deleted by key")
+    void skillsAndExperiencesShouldBeChangedByKey() {
+        Experience engineer = Experience.builder().title("Engineer").organization("Acme")
+                .type(Experience.ExperienceType.WORK).build();
+        Experience degree = Experience.builder().title("Degree").type(Experience.ExperienceType.EDUCATION).build();
+        PortfolioRepository repository = new PortfolioRepository(
+                List.of(Skill.builder().category("Languages").build(), Skill.builder().category("Cloud").build()),
+                List.of(), List.of(engineer, degree));
+        Skill languages = Skill.builder().category("Languages").technologies(List.of("Java")).build();
+        Experience promoted = Experience.builder().title("Engineer").organization("Acme")
+                .type(Experience.ExperienceType.OTHER).build();
+        PortfolioChanges changes = new PortfolioChanges();
+        changes.upsertSkill(languages);
+        changes.deleteSkill("Cloud");
+        changes.upsertSkill(Skill.builder().category("Data").build());
+        changes.upsertExperience(promoted);
+        changes.deleteExperience("Degree", null);
+
+        PortfolioSnapshot after = repository.apply(changes);
+
+        assertThat(after.getSkills()).extracting(Skill::getCategory).containsExactly("Languages", "Data");
+        assertThat(after.getSkills().get(0)).isSameAs(languages);
+        assertThat(after.getExperiences()).containsExactly(promoted);
+        assertThat(after.findExperiencesByType(Experience.ExperienceType.WORK)).isEmpty();
+        assertThat(after.findExperiencesByType(Experience.ExperienceType.OTHER)).containsExactly(promoted);
+    }
+
+    @Test
+    @DisplayName("Deleting most projects should compact the catalog without changing lookups")
+    void deletesShouldCompactCatalog() {
+        PortfolioRepository repository = new PortfolioRepository(List.of(),
+                IntStream.range(0, 100).mapToObj(PortfolioRepositoryTests::project).toList(), List.of());
+
+        for (int i = 0; i < 90; i += 10) {
+            PortfolioChanges changes = new PortfolioChanges();
+            IntStream.range(i, i + 10).forEach(n -> changes.deleteProject("project-" + n));
+            repository.apply(changes);
+        }
+
+        assertThat(repository.findAllProjects()).isEqualTo(
+                IntStream.range(90, 100).mapToObj(PortfolioRepositoryTests::project).toList());
+        assertThat(repository.findProjectsByTechnology("tech 95")).containsExactly(project(95));
+        assertThat(repository.findProjectsByTechnology("tech 5")).isEmpty();
+        assertThat(repository.findProjectsByType("microservice")).hasSize(5);
+        assertThat(repository.snapshot().toString()).contains("10 projects", "11 technologies");
+    }
+}
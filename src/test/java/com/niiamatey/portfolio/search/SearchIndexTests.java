@@ -0,0 +1,124 @@
+package com.niiamatey.portfolio.search;
+
+import com.niiamatey.portfolio.config.PortfolioDataConfig;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.repository.PortfolioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the inverted search index, text analysis and index rebuilds.
+ */
+class SearchIndexTests {
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        PortfolioDataConfig data = new PortfolioDataConfig();
+        index = SearchIndex.build(data.skills(), data.projects(), data.experiences());
+    }
+
+    @Test
+    @DisplayName("Title matches should outrank description matches")
+    void titleMatchesShouldRankFirst() {
+        List<SearchHit> hits = index.search("aws", 10);
+
+        assertThat(hits).isNotEmpty();
+        assertThat(hits.get(0).getTitle()).isEqualTo("AWS Q&A Platform");
+        assertThat(hits).extracting(SearchHit::getScore).isSortedAccordingTo((a, b) -> Float.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("Queries should match stemmed and case-insensitive forms")
+    void queriesShouldMatchStemmedForms() {
+        assertThat(index.search("Databases", 10))
+                .extracting(SearchHit::getTitle).contains("Databases & Data");
+        assertThat(index.search("learned", 10))
+                .extracting(SearchHit::getTitle).contains("Deep Q-Learning Agent", "Continuous Learning");
+        assertThat(index.search("the of and", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Results should be limited and cover all entry types")
+    void resultsShouldBeLimited() {
+        assertThat(index.search("java python aws angular", 2)).hasSize(2);
+        assertThat(index.search("walmart", 5))
+                .extracting(SearchHit::getType).containsExactly("experience");
+        assertThat(index.search("dynamodb", 5))
+                .extracting(SearchHit::getType).contains("project", "skill");
+    }
+
+    @Test
+    @DisplayName("Index should stay fast over a large catalog")
+    void largeCatalogShouldBeSearchable() {
+        List<Project> projects = IntStream.range(0, 20_000)
+                .mapToObj(i -> Project.builder()
+                        .id("p" + i)
+                        .title("Service " + i)
+                        .description("Handles request number " + i + (i % 1000 == 0 ? " with kafka" : ""))
+                        .technologies(List.of("Java", "Tech" + (i % 50)))
+                        .build())
+                .toList();
+        SearchIndex large = SearchIndex.build(List.of(), projects, List.of());
+
+        List<SearchHit> hits = large.search("kafka java", 10);
+
+        assertThat(hits).hasSize(10);
+        assertThat(((Project) hits.get(0).getItem()).getDescription()).contains("kafka");
+        assertThat(TextAnalyzer.analyze("Deploying APIs")).containsExactly("deploy", "api");
+    }
+
+    @Test
+    @DisplayName("After a publish, searches keep the previous index while the next one builds in the background")
+    void rebuildsOffTheRequestPath() {
+        PortfolioDataConfig data = new PortfolioDataConfig();
+        PortfolioRepository repository = new PortfolioRepository(data.skills(), data.projects(), data.experiences());
+        List<Runnable> rebuilds = new ArrayList<>();
+        SearchService service = new SearchService(repository, Integer.MAX_VALUE, rebuilds::add);
+        assertThat(service.search("aws", 10)).isNotEmpty();
+
+        Project added = Project.builder().id("zebra").title("Zebra Tracker")
+                .technologies(List.of("Kotlin")).build();
+        List<Project> projects = new ArrayList<>(data.projects());
+        projects.add(added);
+        repository.publish(data.skills(), projects, data.experiences());
+
+        assertThat(service.search("zebra", 10)).isEmpty();
+        assertThat(service.search("zebra", 10)).isEmpty();
+        assertThat(rebuilds).hasSize(1);
+
+        rebuilds.get(0).run();
+        assertThat(service.search("zebra", 10)).extracting(SearchHit::getTitle).containsExactly("Zebra Tracker");
+        assertThat(rebuilds).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Refuses to index data above the document limit instead of copying it to the heap")
+    void refusesOversizedData() {
+        PortfolioDataConfig data = new PortfolioDataConfig();
+        PortfolioRepository repository = new PortfolioRepository(data.skills(), data.projects(), data.experiences());
+        int documents = data.skills().size() + data.projects().size() + data.experiences().size();
+        List<Runnable> rebuilds = new ArrayList<>();
+        SearchService service = new SearchService(repository, documents, rebuilds::add);
+        assertThat(service.search("aws", 10)).isNotEmpty();
+
+        List<Project> projects = new ArrayList<>(data.projects());
+        projects.add(Project.builder().id("zebra").title("Zebra Tracker").build());
+        repository.publish(data.skills(), projects, data.experiences());
+
+        assertThatThrownBy(() -> service.search("zebra", 10))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("404");
+        assertThat(rebuilds).isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package com.niiamatey.portfolio.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.niiamatey.portfolio.config.PortfolioDataConfig;
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests Accept header negotiation and CBOR round trips of the API models.
+ */
+class ApiEncodingTests {
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper cborMapper = new CBORMapper();
+    private final FieldProjections projections = new FieldProjections(jsonMapper, cborMapper, List.of());
+    private final PortfolioDataConfig data = new PortfolioDataConfig();
+
+    @Test
+    @DisplayName("JSON should be used when no Accept header or a wildcard is sent")
+    void jsonShouldBeDefault() {
+        assertThat(ApiEncoding.negotiate(null)).isEqualTo(ApiEncoding.JSON);
+        assertThat(ApiEncoding.negotiate("")).isEqualTo(ApiEncoding.JSON);
+        assertThat(ApiEncoding.negotiate("*/*")).isEqualTo(ApiEncoding.JSON);
+        assertThat(ApiEncoding.negotiate("text/html,application/xhtml+xml,*/*;q=0.8")).isEqualTo(ApiEncoding.JSON);
+        assertThat(ApiEncoding.negotiate("not a media type")).isEqualTo(ApiEncoding.JSON);
+    }
+
+    @Test
+    @DisplayName("CBOR should be used when asked for explicitly")
+    void cborShouldBeUsedWhenExplicit() {
+        assertThat(ApiEncoding.negotiate("application/cbor")).isEqualTo(ApiEncoding.CBOR);
+        assertThat(ApiEncoding.negotiate("application/cbor, */*;q=0.1")).isEqualTo(ApiEncoding.CBOR);
+        assertThat(ApiEncoding.negotiate("*/*, application/cbor")).isEqualTo(ApiEncoding.CBOR);
+    }
+
+    @Test
+    @DisplayName("The acceptable type with the highest quality should win")
+    void highestQualityShouldWin() {
+        assertThat(ApiEncoding.negotiate("application/cbor;q=0.5, application/json")).isEqualTo(ApiEncoding.JSON);
+        assertThat(ApiEncoding.negotiate("application/json;q=0.5, application/cbor")).isEqualTo(ApiEncoding.CBOR);
+        assertThat(ApiEncoding.negotiate("application/json, application/cbor")).isEqualTo(ApiEncoding.JSON);
+    }
+
+    @Test
+    @DisplayName("Skills, projects and experiences should survive a CBOR round trip")
+    void modelsShouldRoundTripThroughCbor() throws Exception {
+        List<Skill> skills = roundTrip(data.skills(), new TypeReference<>() { });
+        List<Project> projects = roundTrip(data.projects(), new TypeReference<>() { });
+        List<Experience> experiences = roundTrip(data.experiences(), new TypeReference<>() { });
+
+        assertThat(skills).isEqualTo(data.skills());
+        assertThat(projects).isEqualTo(data.projects());
+        assertThat(experiences).isEqualTo(data.experiences());
+    }
+
+    @Test
+    @DisplayName("A CBOR body should decode to the same document as its JSON counterpart")
+    void cborShouldMatchJson() throws Exception {
+        FieldProjection projection = projections.resolve("id,title,technologies", Project.class);
+        byte[] json = projections.writer(projection, ApiEncoding.JSON).writeValueAsBytes(data.projects());
+        byte[] cbor = projections.writer(projection, ApiEncoding.CBOR).writeValueAsBytes(data.projects());
+
+        assertThat(cborMapper.readTree(cbor)).isEqualTo(jsonMapper.readTree(json));
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    private <T> T roundTrip(T value, TypeReference<T> type) throws Exception {
+        byte[] cbor = projections.writer(null, ApiEncoding.CBOR).writeValueAsBytes(value);
+        return cborMapper.readValue(cbor, type);
+    }
+}
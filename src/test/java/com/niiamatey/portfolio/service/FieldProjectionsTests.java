@@ -0,0 +1,121 @@
+package com.niiamatey.portfolio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.niiamatey.portfolio.model.Experience;
+import com.niiamatey.portfolio.model.Project;
+import com.niiamatey.portfolio.model.Skill;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests parsing, validation and compiled writers of sparse fieldsets.
+ */
+class FieldProjectionsTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FieldProjections projections = new FieldProjections(objectMapper, new CBORMapper(), List.of("title, id"));
+
+    private final Project project = Project.builder()
+            .id("qr")
+            .title("QR Code Generator")
+            .description("Long description")
+            .technologies(List.of("Java"))
+            .build();
+
+    @Test
+    @DisplayName("No fields parameter means no projection")
+    void absentFields() {
+        assertThat(projections.resolve(null, Project.class)).isNull();
+        assertThat(projections.resolve("  ", Project.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("Writes only the requested properties")
+    void writesRequestedProperties() throws Exception {
+        FieldProjection projection = projections.resolve("id,technologies", Project.class);
+
+        String json = projection.getWriter(ApiEncoding.JSON).writeValueAsString(List.of(project));
+
+        assertThat(json).isEqualTo("[{\"id\":\"qr\",\"technologies\":[\"Java\"]}]");
+        assertThat(objectMapper.writeValueAsString(project)).contains("description");
+    }
+
+    @Test
+    @DisplayName("Canonicalizes field order and whitespace and marks configured projections preserialized")
+    void canonicalKey() {
+        FieldProjection projection = projections.resolve(" title ,id,title", Project.class);
+
+        assertThat(projection.getKey()).isEqualTo("id,title");
+        assertThat(projection.isPreserialized()).isTrue();
+        assertThat(projections.resolve("id", Project.class).isPreserialized()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Reuses the compiled projection for a repeated fields parameter")
+    void cachesCompiledProjection() {
+        assertThat(projections.resolve("id,icon", Project.class))
+                .isSameAs(projections.resolve("id,icon", Project.class));
+    }
+
+    @Test
+    @DisplayName("Invalid and reordered fieldsets do not take cache entries")
+    void cachesOnlyValidCanonicalFieldsets() {
+        for (int i = 0; i < FieldProjections.MAX_CACHED * 2; i++) {
+            String invalid = "id,unknown" + i;
+            assertThatThrownBy(() -> projections.resolve(invalid, Project.class))
+                    .isInstanceOf(ResponseStatusException.class);
+        }
+        assertThat(projections.cached()).isZero();
+
+        FieldProjection projection = projections.resolve("id,icon", Project.class);
+        assertThat(projections.resolve(" icon , id ", Project.class)).isSameAs(projection);
+        assertThat(projections.resolve("icon,id,icon", Project.class)).isSameAs(projection);
+        assertThat(projections.cached()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A full cache evicts the least recently used fieldset")
+    void evictsLeastRecentlyUsed() {
+        List<String> names = List.of("id", "title", "type", "description", "technologies", "githubUrl", "icon",
+                "highlights", "category", "dateRange", "organization");
+        Class<?>[] types = {Project.class, Skill.class, Experience.class};
+        FieldProjection frequent = projections.resolve("id", types);
+        FieldProjection first = projections.resolve("title", types);
+
+        for (int mask = 3; mask < 3 + FieldProjections.MAX_CACHED * 2; mask++) {
+            StringBuilder fields = new StringBuilder();
+            for (int bit = 0; bit < names.size(); bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    fields.append(names.get(bit)).append(',');
+                }
+            }
+            assertThat(projections.resolve(fields.toString(), types)).isNotNull();
+            assertThat(projections.resolve("id", types)).isSameAs(frequent);
+        }
+
+        assertThat(projections.cached()).isEqualTo(FieldProjections.MAX_CACHED);
+        assertThat(projections.resolve("title", types)).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Rejects fields the endpoint's item types do not have")
+    void rejectsUnknownFields() {
+        assertThatThrownBy(() -> projections.resolve("id,password", Project.class))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("password");
+        assertThatThrownBy(() -> projections.resolve("id", Skill.class))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> projections.resolve(",", Project.class))
+                .isInstanceOf(ResponseStatusException.class);
+
+        assertThat(projections.resolve("category,organization", Skill.class, Project.class, Experience.class))
+                .isNotNull();
+    }
+}
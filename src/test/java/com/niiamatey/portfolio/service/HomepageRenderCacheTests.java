@@ -0,0 +1,146 @@
+package com.niiamatey.portfolio.service;
+
+import com.niiamatey.portfolio.config.PortfolioDataConfig;
+import com.niiamatey.portfolio.metrics.PortfolioMetrics;
+import com.niiamatey.portfolio.service.HomepageRenderCache.RenderedSections;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the homepage section render cache.
+ */
+class HomepageRenderCacheTests {
+
+    private SpringTemplateEngine templateEngine;
+    private HomepageRenderCache renderCache;
+    private Map<String, Object> variables;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderCache = new HomepageRenderCache(templateEngine, new PortfolioMetrics(new SimpleMeterRegistry()));
+
+        PortfolioDataConfig data = new PortfolioDataConfig();
+        variables = new HashMap<>();
+        variables.put("skills", data.skills());
+        variables.put("projects", data.projects());
+        variables.put("experiences", data.experiences());
+        variables.put("name", "Nii Amatey Tagoe");
+        variables.put("title", "Software Engineer");
+    }
+
+    @Test
+    @DisplayName("Sections should be rendered once and reused")
+    void sectionsShouldBeRenderedOnce() {
+        RenderedSections first = renderCache.get(1, variables);
+        RenderedSections second = renderCache.get(1, variables);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getProjects()).contains("QR Code Generator API", "class=\"project-card fade-in even\"");
+        assertThat(first.getSkills()).contains("DynamoDB");
+        assertThat(first.getExperience()).contains("Southern New Hampshire University");
+        assertThat(first.getHero()).contains("Nii Amatey Tagoe");
+    }
+
+    @Test
+    @DisplayName("A newer data version should re-render the sections")
+    void newerVersionShouldRerender() {
+        RenderedSections first = renderCache.get(1, variables);
+        RenderedSections second = renderCache.get(2, variables);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getVersion()).isEqualTo(2);
+        assertThat(second.getProjects()).isEqualTo(first.getProjects());
+        assertThat(renderCache.get(2, variables)).isSameAs(second);
+        assertThat(renderCache.get(1, variables).getVersion()).isEqualTo(1);
+        assertThat(renderCache.get(2, variables)).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Rendering an older version should not block installing a newer one")
+    void olderVersionShouldRenderOutsideLock() throws Exception {
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HomepageRenderCache cache = new HomepageRenderCache(templateEngine,
+                new PortfolioMetrics(new SimpleMeterRegistry())) {
+            @Override
+            RenderedSections render(long version, Map<String, Object> variables) {
+                if (version == 1) {
+                    rendering.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.render(version, variables);
+            }
+        };
+        cache.get(2, variables);
+
+        CompletableFuture<RenderedSections> old = CompletableFuture.supplyAsync(() -> cache.get(1, variables));
+        try {
+            assertThat(rendering.await(5, TimeUnit.SECONDS)).isTrue();
+            RenderedSections newer = CompletableFuture.supplyAsync(() -> cache.get(3, variables))
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(newer.getVersion()).isEqualTo(3);
+        } finally {
+            release.countDown();
+        }
+        assertThat(old.get(5, TimeUnit.SECONDS).getVersion()).isEqualTo(1);
+        assertThat(cache.get(3, variables).getVersion()).isEqualTo(3);
+    }
+
+    /**
+     * Compares rendering the sections on every request (the previous behaviour)
+     * against serving them from the cache. Run with {@code -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("Benchmark: live section rendering vs render cache")
+    void benchmarkLiveRenderVersusCache() {
+        int warmup = 2_000;
+        int iterations = 20_000;
+
+        for (int i = 0; i < warmup; i++) {
+            renderCache.render(1, variables);
+            renderCache.get(1, variables);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            renderCache.render(1, variables);
+        }
+        double liveMicros = (System.nanoTime() - start) / 1_000.0 / iterations;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            renderCache.get(1, variables);
+        }
+        double cachedMicros = (System.nanoTime() - start) / 1_000.0 / iterations;
+
+        System.out.printf("Homepage sections: live render %.2f us/op, cached %.3f us/op%n",
+                liveMicros, cachedMicros);
+        assertThat(cachedMicros).isLessThan(liveMicros);
+    }
+}
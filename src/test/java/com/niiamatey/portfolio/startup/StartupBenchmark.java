@@ -0,0 +1,194 @@
+package com.niiamatey.portfolio.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time to first successful request for the plain jar and the
+ * fast-start build (AOT, AppCDS archive and lazy initialization).
+ *
+ * Each run starts a fresh JVM on a free port and polls one endpoint until
+ * it answers 200; the time from process launch to that response is
+ * recorded and the process is stopped. Runs alternate between the modes so
+ * that both see the same machine load, and the first run of each mode is
+ * discarded to warm the file cache.
+ *
+ * Run with {@code mvn -Pfast-start -DskipTests verify}. Settings are system properties:
+ * <ul>
+ *   <li>{@code startup.runs} - measured runs per mode (default 5)</li>
+ *   <li>{@code startup.path} - endpoint to poll (default /api/v1/portfolio)</li>
+ *   <li>{@code startup.default-jar} - the executable Spring Boot jar</li>
+ *   <li>{@code startup.fast-start-directory} - the fast-start build with its archive</li>
+ *   <li>{@code startup.fast-start-jar} - thin jar name in that directory</li>
+ *   <li>{@code startup.report} - JSON report path</li>
+ * </ul>
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        String path = System.getProperty("startup.path", "/api/v1/portfolio");
+        Path defaultJar = Path.of(required("startup.default-jar")).toAbsolutePath();
+        Path fastStartDirectory = Path.of(required("startup.fast-start-directory")).toAbsolutePath();
+        String fastStartJar = required("startup.fast-start-jar");
+        Path report = Path.of(System.getProperty("startup.report", "target/startup-result.json"));
+
+        Path defaultDirectory = Files.createDirectories(defaultJar.resolveSibling("startup-default"));
+        List<Mode> modes = List.of(
+                new Mode("default", defaultDirectory, List.of("-jar", defaultJar.toString())),
+                // The archive only applies with the class path it was written for, so run from the same directory
+                new Mode("fast-start", fastStartDirectory, List.of(
+                        "-XX:SharedArchiveFile=application.jsa",
+                        "-Dspring.aot.enabled=true",
+                        "-jar", fastStartJar,
+                        "--spring.profiles.active=fast-start")));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        for (int run = 0; run <= runs; run++) {
+            for (Mode mode : modes) {
+                long millis = measure(client, mode, path);
+                if (run == 0) {
+                    System.out.printf("%-10s warm-up %6d ms%n", mode.name, millis);
+                } else {
+                    mode.millis.add(millis);
+                    System.out.printf("%-10s run %d   %6d ms%n", mode.name, run, millis);
+                }
+            }
+        }
+
+        printReport(modes, path);
+        writeReport(report, modes, path);
+        System.exit(0);
+    }
+
+    private static long measure(HttpClient client, Mode mode, String path) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.arguments);
+        command.add("--server.port=" + port);
+        command.add("--spring.main.banner-mode=off");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+
+        Path log = mode.directory.resolve("startup.log");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(mode.directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name + " exited with " + process.exitValue() + "; see " + log);
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            throw new IllegalStateException(mode.name + " did not answer " + path + " within "
+                    + STARTUP_TIMEOUT + "; see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String required(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing system property " + property);
+        }
+        return value;
+    }
+
+    private static void printReport(List<Mode> modes, String path) {
+        System.out.printf("%nTime to first 200 from %s%n", path);
+        System.out.printf("%-10s %8s %8s %8s%n", "mode", "min ms", "p50 ms", "max ms");
+        for (Mode mode : modes) {
+            System.out.printf("%-10s %8d %8d %8d%n", mode.name, mode.min(), mode.median(), mode.max());
+        }
+        System.out.println();
+    }
+
+    private static void writeReport(Path file, List<Mode> modes, String path) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("path", path);
+        for (Mode mode : modes) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("runsMs", mode.millis);
+            entry.put("minMs", mode.min());
+            entry.put("p50Ms", mode.median());
+            entry.put("maxMs", mode.max());
+            report.put(mode.name, entry);
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private static final class Mode {
+        private final String name;
+        private final Path directory;
+        private final List<String> arguments;
+        private final List<Long> millis = new ArrayList<>();
+
+        Mode(String name, Path directory, List<String> arguments) {
+            this.name = name;
+            this.directory = directory;
+            this.arguments = arguments;
+        }
+
+        long min() {
+            return millis.stream().mapToLong(Long::longValue).min().orElse(0);
+        }
+
+        long max() {
+            return millis.stream().mapToLong(Long::longValue).max().orElse(0);
+        }
+
+        long median() {
+            return millis.isEmpty() ? 0 : millis.stream().sorted().toList().get(millis.size() / 2);
+        }
+    }
+}
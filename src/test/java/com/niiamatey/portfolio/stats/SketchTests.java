@@ -0,0 +1,82 @@
+package com.niiamatey.portfolio.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests the accuracy and bounds of the HyperLogLog and Space-Saving sketches.
+ */
+class SketchTests {
+
+    @Test
+    @DisplayName("HyperLogLog should estimate distinct counts within a few percent")
+    void hyperLogLogShouldEstimateDistinctCounts() {
+        for (int distinct : new int[]{0, 10, 1_000, 100_000, 1_000_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int repeat = 0; repeat < 2; repeat++) {
+                for (int i = 0; i < distinct; i++) {
+                    sketch.add(HyperLogLog.hash("203.0.113." + i + " Mozilla/5.0"));
+                }
+            }
+            assertThat((double) sketch.estimate()).as("%d distinct", distinct)
+                    .isCloseTo(distinct, within(Math.max(1, distinct * 0.03)));
+        }
+    }
+
+    @Test
+    @DisplayName("HyperLogLog registers should survive concurrent adds and a byte round trip")
+    void hyperLogLogShouldBeThreadSafeAndRestorable() throws InterruptedException {
+        HyperLogLog concurrent = new HyperLogLog();
+        HyperLogLog sequential = new HyperLogLog();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 50_000;
+            executor.execute(() -> IntStream.range(offset, offset + 50_000)
+                    .forEach(i -> concurrent.add(HyperLogLog.hash("visitor-" + i))));
+        }
+        IntStream.range(0, 200_000).forEach(i -> sequential.add(HyperLogLog.hash("visitor-" + i)));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(concurrent.toBytes()).isEqualTo(sequential.toBytes());
+        assertThat(HyperLogLog.fromBytes(concurrent.toBytes()).estimate()).isEqualTo(sequential.estimate());
+    }
+
+    @Test
+    @DisplayName("Space-Saving should count exactly until full, then keep the heavy hitters with error bounds")
+    void spaceSavingShouldKeepHeavyHitters() {
+        SpaceSaving sketch = new SpaceSaving(10);
+        sketch.add("a", 5);
+        sketch.add("b", 3);
+        sketch.add("a", 1);
+        assertThat(sketch.top(5)).containsExactly(new SpaceSaving.Counter("a", 6, 0), new SpaceSaving.Counter("b", 3, 0));
+
+        // Three heavy keys in a long tail of 10,000 keys seen once each
+        SpaceSaving skewed = new SpaceSaving(50);
+        for (int i = 0; i < 10_000; i++) {
+            skewed.add("tail-" + i, 1);
+            if (i % 10 == 0) {
+                skewed.add("first", 3);
+                skewed.add("second", 2);
+                skewed.add("third", 1);
+            }
+        }
+        List<SpaceSaving.Counter> top = skewed.top(3);
+        assertThat(top).extracting(SpaceSaving.Counter::key).containsExactly("first", "second", "third");
+        long[] actual = {3_000, 2_000, 1_000};
+        for (int i = 0; i < 3; i++) {
+            assertThat(top.get(i).count()).isGreaterThanOrEqualTo(actual[i]);
+            assertThat(top.get(i).count() - top.get(i).error()).isLessThanOrEqualTo(actual[i]);
+        }
+        assertThat(skewed.size()).isEqualTo(50);
+    }
+}
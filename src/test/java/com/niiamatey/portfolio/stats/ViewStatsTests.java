@@ -0,0 +1,186 @@
+package com.niiamatey.portfolio.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests view recording, today's ranking, visitor estimates and saving of the view statistics.
+ */
+class ViewStatsTests {
+
+    private static final List<String> PAGES = List.of("/", "/projects", "/about");
+
+    @TempDir
+    Path directory;
+
+    private final TestClock clock = new TestClock(Instant.parse("2026-10-17T09:00:00Z"));
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private ViewStats stats(int maxProjects) {
+        return new ViewStats(PAGES, maxProjects, 10, 7, clock);
+    }
+
+    private static void perform(ViewTrackingFilter filter, String path, String client, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(client);
+        request.addHeader(HttpHeaders.USER_AGENT, "Mozilla/5.0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        filter.doFilter(request, response, new MockFilterChain());
+    }
+
+    @Test
+    @DisplayName("The filter should count successful page and project views and page visitors")
+    void filterShouldRecordViews() throws Exception {
+        ViewStats stats = stats(100);
+        ViewTrackingFilter filter = new ViewTrackingFilter(stats, 0);
+
+        perform(filter, "/", "203.0.113.1", 200);
+        perform(filter, "/", "203.0.113.1", 304);
+        perform(filter, "/about", "203.0.113.2", 200);
+        perform(filter, "/api/v1/projects/qr-code-generator", "203.0.113.3", 200);
+        perform(filter, "/api/v1/projects/qr-code-generator", "203.0.113.3", 200);
+        perform(filter, "/api/v1/projects/caf%C3%A9", "203.0.113.3", 200);
+        perform(filter, "/api/v1/projects/missing", "203.0.113.3", 404);
+        perform(filter, "/api/v1/projects", "203.0.113.3", 200);
+        perform(filter, "/contact", "203.0.113.4", 200);
+
+        assertThat(stats.pageViews()).containsEntry("/", 2L).containsEntry("/about", 1L).containsEntry("/projects", 0L);
+        assertThat(stats.projectViews("qr-code-generator")).isEqualTo(2);
+        assertThat(stats.projectViews("café")).isEqualTo(1);
+        assertThat(stats.projectViews("missing")).isZero();
+        assertThat(stats.uniqueVisitors()).containsExactly(Map.entry(LocalDate.of(2026, 10, 17), 2L));
+    }
+
+    @Test
+    @DisplayName("Today's ranking should restart each day while all-time counts keep growing")
+    void rankingShouldFollowTheDay() {
+        ViewStats stats = stats(100);
+        for (int i = 0; i < 5; i++) {
+            stats.recordProjectView("a");
+        }
+        stats.recordProjectView("b");
+        stats.recordVisitor("visitor-1");
+
+        assertThat(stats.popularToday(10)).containsExactly(
+                new SpaceSaving.Counter("a", 5, 0), new SpaceSaving.Counter("b", 1, 0));
+
+        clock.advance(Duration.ofDays(1));
+        stats.recordProjectView("b");
+        stats.recordProjectView("b");
+        stats.recordVisitor("visitor-2");
+        stats.recordVisitor("visitor-3");
+
+        assertThat(stats.popularToday(10)).containsExactly(new SpaceSaving.Counter("b", 2, 0));
+        assertThat(stats.popularAllTime(1)).containsExactly(new SpaceSaving.Counter("a", 5, 0));
+        assertThat(stats.popularAllTime(10)).extracting(SpaceSaving.Counter::count).containsExactly(5L, 3L);
+        assertThat(stats.uniqueVisitors()).containsExactly(
+                Map.entry(LocalDate.of(2026, 10, 18), 2L),
+                Map.entry(LocalDate.of(2026, 10, 17), 1L));
+
+        clock.advance(Duration.ofDays(7));
+        assertThat(stats.uniqueVisitors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Projects beyond the limit should not get counters, and deleted ones should give theirs up")
+    void projectCountersShouldBeBounded() {
+        ViewStats stats = stats(2);
+        stats.recordProjectView("a");
+        stats.recordProjectView("b");
+        stats.recordProjectView("c");
+
+        assertThat(stats.projectViews("c")).isZero();
+        assertThat(stats.untrackedViews()).isEqualTo(1);
+
+        stats.retainProjects(Set.of("b")::contains);
+        stats.recordProjectView("c");
+
+        assertThat(stats.projectViews("a")).isZero();
+        assertThat(stats.projectViews("c")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Statistics should be saved by the writer and restored after a restart")
+    void statsShouldSurviveRestart() throws Exception {
+        Path file = directory.resolve("stats/views.json");
+        ViewStats before = stats(100);
+        before.recordProjectView("a");
+        before.recordProjectView("a");
+        before.recordPageView("/");
+        for (int i = 0; i < 1_000; i++) {
+            before.recordVisitor("visitor-" + i);
+        }
+        ViewStatsWriter writer = new ViewStatsWriter(before, objectMapper, file, Duration.ofMinutes(1), id -> true);
+        writer.afterPropertiesSet();
+        writer.destroy();
+
+        ViewStats after = stats(100);
+        ViewStatsWriter restored = new ViewStatsWriter(after, objectMapper, file, Duration.ofMinutes(1), id -> true);
+        restored.afterPropertiesSet();
+        after.recordProjectView("a");
+
+        assertThat(after.projectViews("a")).isEqualTo(3);
+        assertThat(after.popularToday(10)).containsExactly(new SpaceSaving.Counter("a", 3, 0));
+        assertThat(after.pageViews()).containsEntry("/", 1L);
+        assertThat(after.uniqueVisitors()).isEqualTo(before.uniqueVisitors());
+        restored.destroy();
+        assertThat(file.resolveSibling("views.json")).exists();
+        assertThat(directory.resolve("stats").toFile().list()).containsExactly("views.json");
+    }
+
+    /**
+     * Clock that tests move forward by hand.
+     */
+    private static final class TestClock extends Clock {
+        private Instant now;
+
+        TestClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.niiamatey.portfolio.view;
+
+import com.niiamatey.portfolio.config.FlashProperties;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests signing, verification, expiry and clearing of flash cookies.
+ */
+class FlashCookiesTests {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private static FlashCookies cookies(String secret, Instant now) {
+        FlashProperties properties = new FlashProperties();
+        properties.setSecret(secret);
+        properties.setTtl(Duration.ofMinutes(1));
+        return new FlashCookies(properties, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static String set(FlashCookies cookies, FlashMessage message) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cookies.set(new MockHttpServletRequest("POST", "/contact"), response, message);
+        return response.getCookie("portfolio_flash").getValue();
+    }
+
+    private static Optional<FlashMessage> take(FlashCookies cookies, String value, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setCookies(new Cookie("portfolio_flash", value));
+        return cookies.take(request, response);
+    }
+
+    @Test
+    @DisplayName("A message set on one response should be read once from the next request")
+    void roundTrip() {
+        FlashCookies cookies = cookies("secret", NOW);
+        MockHttpServletResponse post = new MockHttpServletResponse();
+        cookies.set(new MockHttpServletRequest("POST", "/contact"), post, FlashMessage.CONTACT_SENT);
+
+        assertThat(post.getHeader("Set-Cookie"))
+                .startsWith("portfolio_flash=CONTACT_SENT.")
+                .contains("Path=/", "Max-Age=60", "HttpOnly", "SameSite=Lax");
+
+        MockHttpServletResponse get = new MockHttpServletResponse();
+        assertThat(take(cookies, post.getCookie("portfolio_flash").getValue(), get))
+                .contains(FlashMessage.CONTACT_SENT);
+        assertThat(get.getHeader("Set-Cookie")).startsWith("portfolio_flash=;").contains("Max-Age=0");
+    }
+
+    @Test
+    @DisplayName("Another instance with the same secret should accept the cookie")
+    void sharedSecret() {
+        String value = set(cookies("shared", NOW), FlashMessage.CONTACT_REJECTED);
+
+        assertThat(take(cookies("shared", NOW), value, new MockHttpServletResponse()))
+                .contains(FlashMessage.CONTACT_REJECTED);
+        assertThat(take(cookies("other", NOW), value, new MockHttpServletResponse())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Altered, malformed and expired cookies should be cleared without a message")
+    void rejectsInvalidCookies() {
+        FlashCookies cookies = cookies("secret", NOW);
+        String value = set(cookies, FlashMessage.CONTACT_REJECTED);
+        String forged = value.replace("CONTACT_REJECTED", "CONTACT_SENT");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(take(cookies, forged, response)).isEmpty();
+        assertThat(response.getHeader("Set-Cookie")).contains("Max-Age=0");
+        assertThat(take(cookies, "CONTACT_SENT", new MockHttpServletResponse())).isEmpty();
+        assertThat(take(cookies, "", new MockHttpServletResponse())).isEmpty();
+
+        FlashCookies later = cookies("secret", NOW.plusSeconds(61));
+        assertThat(take(later, value, new MockHttpServletResponse())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Requests without the cookie should leave the response alone")
+    void noCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(cookies("secret", NOW).take(new MockHttpServletRequest("GET", "/"), response)).isEmpty();
+        assertThat(response.getHeader("Set-Cookie")).isNull();
+    }
+}
@@ -0,0 +1,86 @@
+package com.niiamatey.portfolio.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@code <portfolio:flush/>} sends the output rendered so far.
+ */
+class FlushDialectTests {
+
+    private static final String TEMPLATE =
+            "<head><title>t</title></head><body><portfolio:flush/><p th:text=\"${section}\">x</p><portfolio:flush/></body>";
+
+    /**
+     * Records what had been written each time the response was flushed.
+     */
+    private static final class RecordingResponse extends MockHttpServletResponse {
+        private final List<String> flushed = new ArrayList<>();
+
+        RecordingResponse() {
+            setBufferSize(1 << 20);
+        }
+
+        @Override
+        public void flushBuffer() {
+            super.flushBuffer();
+            flushed.add(new String(getContentAsByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String render(boolean streaming, RecordingResponse response) throws Exception {
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        StringTemplateResolver resolver = new StringTemplateResolver();
+        resolver.setTemplateMode(TemplateMode.HTML);
+        engine.setTemplateResolver(resolver);
+        engine.addDialect(new FlushDialect(streaming));
+
+        MockServletContext servletContext = new MockServletContext();
+        WebContext context = new WebContext(JakartaServletWebApplication.buildApplication(servletContext)
+                .buildExchange(new MockHttpServletRequest(servletContext), response));
+        context.setVariable("section", "Skills");
+        PrintWriter writer = response.getWriter();
+        engine.process(TEMPLATE, context, writer);
+        writer.flush();
+        return response.getContentAsString();
+    }
+
+    @Test
+    @DisplayName("Each flush point should send everything rendered before it")
+    void flushPointsShouldSendRenderedOutput() throws Exception {
+        RecordingResponse response = new RecordingResponse();
+
+        String page = render(true, response);
+
+        assertThat(page).isEqualTo("<head><title>t</title></head><body><p>Skills</p></body>");
+        assertThat(response.flushed).containsExactly(
+                "<head><title>t</title></head><body>",
+                "<head><title>t</title></head><body><p>Skills</p>");
+    }
+
+    @Test
+    @DisplayName("With streaming disabled flush points should only be removed")
+    void disabledStreamingShouldNotFlush() throws Exception {
+        RecordingResponse response = new RecordingResponse();
+
+        String page = render(false, response);
+
+        assertThat(page).isEqualTo("<head><title>t</title></head><body><p>Skills</p></body>");
+        assertThat(response.flushed).isEmpty();
+    }
+}